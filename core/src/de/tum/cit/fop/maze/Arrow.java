@@ -5,6 +5,7 @@
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Array;
+import de.tum.cit.fop.maze.simulation.Door;
 
 /**
  * Represents a navigational arrow that points to the nearest door in the maze.
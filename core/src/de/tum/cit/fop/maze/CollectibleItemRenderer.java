@@ -0,0 +1,43 @@
+package de.tum.cit.fop.maze;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.Vector2;
+import de.tum.cit.fop.maze.simulation.CollectibleItem;
+
+/**
+ * Draws the items of a {@link CollectibleItem} that have not been collected yet, all with the same texture.
+ */
+public class CollectibleItemRenderer {
+    private final Texture texture;
+
+    /**
+     * Loads the texture of the items.
+     *
+     * @param texturePath the file path of the item texture
+     */
+    public CollectibleItemRenderer(String texturePath) {
+        this.texture = new Texture(texturePath);
+    }
+
+    /**
+     * Renders all remaining items.
+     *
+     * @param batch the SpriteBatch used for rendering
+     * @param items the items to draw
+     */
+    public void render(SpriteBatch batch, CollectibleItem items) {
+        float width = texture.getWidth() * items.getScale();
+        float height = texture.getHeight() * items.getScale();
+        for (Vector2 position : items.getPositions()) {
+            batch.draw(texture, position.x, position.y, width, height);
+        }
+    }
+
+    /**
+     * Disposes of the texture used by the items.
+     */
+    public void dispose() {
+        texture.dispose();
+    }
+}
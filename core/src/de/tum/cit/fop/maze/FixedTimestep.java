@@ -0,0 +1,97 @@
+package de.tum.cit.fop.maze;
+
+/**
+ * Accumulator-driven fixed timestep used to run the game logic at a constant rate,
+ * independently of how often the screen is drawn.
+ *
+ * Each frame the elapsed time is added to an accumulator, and the simulation is advanced
+ * in steps of exactly {@link #getStep()} seconds for as long as enough time has accumulated.
+ * The remaining fraction of a step is exposed as {@link #getAlpha()} so that the renderer can
+ * interpolate entity positions between the last two simulation ticks.
+ */
+public class FixedTimestep {
+    // Constants
+    private static final float MAX_FRAME_TIME = 0.25f;
+    private static final float MAX_INTERPOLATION_DISTANCE = 16f;
+
+    // Timing
+    private final int ticksPerSecond;
+    private final float step;
+    private float accumulator = 0f;
+    private long tickCount = 0;
+
+    /**
+     * Constructs a fixed timestep running at the given simulation rate.
+     *
+     * @param ticksPerSecond the number of simulation ticks per second (Hz)
+     */
+    public FixedTimestep(int ticksPerSecond) {
+        if (ticksPerSecond <= 0) {
+            throw new IllegalArgumentException("ticksPerSecond must be positive: " + ticksPerSecond);
+        }
+        this.ticksPerSecond = ticksPerSecond;
+        this.step = 1f / ticksPerSecond;
+    }
+
+    /**
+     * Adds the time of the last frame to the accumulator. Very long frames (e.g. after a hitch
+     * or while the window was dragged) are clamped so the simulation never has to catch up
+     * more than a quarter of a second at once.
+     *
+     * @param delta the time in seconds since the last frame
+     */
+    public void accumulate(float delta) {
+        accumulator += Math.min(delta, MAX_FRAME_TIME);
+    }
+
+    /**
+     * Consumes one step from the accumulator if enough time has been accumulated.
+     *
+     * @return true if a simulation tick should be run, false otherwise
+     */
+    public boolean consumeStep() {
+        if (accumulator >= step) {
+            accumulator -= step;
+            tickCount++;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Gets the fraction of a step left in the accumulator, used to interpolate between
+     * the previous and the current simulation state when rendering.
+     *
+     * @return the interpolation factor in the range [0, 1)
+     */
+    public float getAlpha() {
+        return accumulator / step;
+    }
+
+    /**
+     * Interpolates between a value at the previous tick and at the current tick.
+     * Jumps larger than a tile (teleports, respawns) are not interpolated to avoid
+     * drawing an entity somewhere along the jump for a frame.
+     *
+     * @param previous the value at the previous tick
+     * @param current  the value at the current tick
+     * @param alpha    the interpolation factor
+     * @return the interpolated value
+     */
+    public static float interpolate(float previous, float current, float alpha) {
+        if (Math.abs(current - previous) > MAX_INTERPOLATION_DISTANCE) {
+            return current;
+        }
+        return previous + (current - previous) * alpha;
+    }
+
+    public float getStep() {
+        return step;
+    }
+    public int getTicksPerSecond() {
+        return ticksPerSecond;
+    }
+    public long getTickCount() {
+        return tickCount;
+    }
+}
@@ -0,0 +1,94 @@
+package de.tum.cit.fop.maze;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
+import com.badlogic.gdx.math.Vector2;
+import de.tum.cit.fop.maze.simulation.BodyStore;
+import de.tum.cit.fop.maze.simulation.Direction;
+import de.tum.cit.fop.maze.simulation.Friends;
+import de.tum.cit.fop.maze.simulation.Player;
+
+/**
+ * Draws the friends waiting on the map and the friends following the player.
+ * Displays "help me!" above unsaved map friends when the player is nearby.
+ */
+public class FriendsRenderer {
+    // Constants
+    private static final float HELP_MESSAGE_DISTANCE = 50f;
+
+    // Textures and Font
+    private final Texture[][] walkTextures = new Texture[Direction.COUNT][];
+    private final BitmapFont font;
+
+    /**
+     * Loads the walking textures of the friends and the font for the "help me!" messages.
+     */
+    public FriendsRenderer() {
+        walkTextures[Direction.UP] = new Texture[]{new Texture("oldman_up_1.png"), new Texture("oldman_up_2.png")};
+        walkTextures[Direction.DOWN] = new Texture[]{new Texture("oldman_down_1.png"), new Texture("oldman_down_2.png")};
+        walkTextures[Direction.LEFT] = new Texture[]{new Texture("oldman_left_1.png"), new Texture("oldman_left_2.png")};
+        walkTextures[Direction.RIGHT] = new Texture[]{new Texture("oldman_right_1.png"), new Texture("oldman_right_2.png")};
+
+        FreeTypeFontGenerator generator = new FreeTypeFontGenerator(Gdx.files.internal("Pixel Game.otf"));
+        FreeTypeFontGenerator.FreeTypeFontParameter parameter = new FreeTypeFontGenerator.FreeTypeFontParameter();
+        parameter.size = 10;
+        parameter.color = Color.WHITE;
+        parameter.borderWidth = 1;
+        parameter.borderColor = Color.BLACK;
+
+        this.font = generator.generateFont(parameter);
+        generator.dispose();
+        font.getData().setScale(0.8f);
+    }
+
+    /**
+     * Renders the friends. Following friends are drawn between their positions at the previous
+     * and the current simulation tick.
+     *
+     * @param batch   the SpriteBatch used for rendering
+     * @param friends the friends to draw
+     * @param player  the player, used to decide whether to show "help me!" messages
+     * @param alpha   the interpolation factor between the previous and the current simulation tick
+     */
+    public void render(SpriteBatch batch, Friends friends, Player player, float alpha) {
+        Texture currentTexture = walkTextures[friends.getFrameDirection()][friends.getWalkFrame()];
+        float width = currentTexture.getWidth() * friends.getScale();
+        float height = currentTexture.getHeight() * friends.getScale();
+
+        for (int i = 0; i < friends.getMapFriendCount(); i++) {
+            if (!friends.isMapFriendSaved(i)) {
+                float x = friends.getMapFriendX(i);
+                float y = friends.getMapFriendY(i);
+                batch.draw(currentTexture, x, y, width, height);
+                float distance = Vector2.dst(player.getX(), player.getY(), x, y);
+                if (distance <= HELP_MESSAGE_DISTANCE) {
+                    font.draw(batch, "help me!", x - 9, y + 10);
+                }
+            }
+        }
+
+        // Render the friends following the player
+        BodyStore followers = friends.getFollowers();
+        for (int i = 0; i < followers.size(); i++) {
+            float renderX = FixedTimestep.interpolate(followers.lastX[i], followers.x[i], alpha);
+            float renderY = FixedTimestep.interpolate(followers.lastY[i], followers.y[i], alpha);
+            batch.draw(currentTexture, renderX, renderY, width, height);
+        }
+    }
+
+    /**
+     * Releases the textures and the font used for the friends.
+     */
+    public void dispose() {
+        for (Texture[] textures : walkTextures) {
+            for (Texture texture : textures) {
+                texture.dispose();
+            }
+        }
+        font.dispose();
+    }
+}
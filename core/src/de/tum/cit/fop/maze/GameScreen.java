@@ -13,20 +13,23 @@
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.math.Vector3;
-import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.ScreenUtils;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
-import com.badlogic.gdx.Preferences;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
-
-import java.util.Iterator;
-import java.util.List;
+import de.tum.cit.fop.maze.simulation.GameEventBus;
+import de.tum.cit.fop.maze.simulation.Griever;
+import de.tum.cit.fop.maze.simulation.InputRecording;
+import de.tum.cit.fop.maze.simulation.MazeSession;
+import de.tum.cit.fop.maze.simulation.Player;
+import de.tum.cit.fop.maze.simulation.PlayerInput;
+import de.tum.cit.fop.maze.simulation.SimulationLod;
+import de.tum.cit.fop.maze.simulation.TmxLayoutReader;
 
 
 /**
  * The GameScreen class is responsible for rendering the gameplay screen.
- * It handles the game logic and rendering of the game elements.
+ * It advances the {@link MazeSession} with the player's input and renders the game elements.
  */
 public class GameScreen implements Screen {
     private final MazeRunnerGame game;
@@ -43,38 +46,67 @@ public class GameScreen implements Screen {
     //Camera Controls
     private float currentZoom = 0.10f;
     private final float MIN_ZOOM = 0.10f;
-    private final float MAX_ZOOM = 0.3f;
+    private final float MAX_ZOOM = SimulationLod.MAX_CAMERA_ZOOM;
+    private float largestZoom = MAX_ZOOM; // smaller on screens larger than the view the simulation fully updates
     private final float ZOOM_SPEED = 0.01f;
     private Vector3 lastPosition;
 
+    //Simulation Timing
+    private final FixedTimestep timestep;
+
     //Map and Level Elements
     private final TiledMap tiledMap;
-    private TiledMapTileLayer movingWallsLayer;
-    private TiledMapTileLayer pathLayer, path2Layer;
+    private MovingWallLayer movingWallLayer;
+
+    //Game Logic
+    private final MazeSession session;
+    private final PlayerInput input = new PlayerInput();
+    private final Vector2 playerPosition = new Vector2();
+
+    //Input Recording and Replay
+    private static final String RECORDING_PATH = "replays/last.mzr";
+    private InputRecording recording;
+    private final InputRecording replayedRecording;
+    private final InputRecording.Playback replay;
 
-    //Game Entities
-    private List<Wall> walls;
-    private Player player;
-    private Friends friends;
+    //Renderers
     private HUD hud;
-    private Array<Griever> grievers;
-    private Array<Key> keys;
-    private Item item;
-    private Array<Door> doors;
-    private Array<Trap> traps;
     private Arrow arrow;
-    private TrapItem trapItem;
-
+    private final PlayerRenderer playerRenderer;
+    private final GrieverRenderer grieverRenderer;
+    private final FriendsRenderer friendsRenderer;
+    private final KeyRenderer keyRenderer;
+    private final TrapRenderer trapRenderer;
+    private final CollectibleItemRenderer itemRenderer;
+    private final CollectibleItemRenderer trapItemRenderer;
 
 
     /**
-     * Constructor for GameScreen. Sets up the camera and Tiled map.
+     * Constructor for GameScreen. Sets up the camera and Tiled map and starts recording the player's input.
+     * The game logic runs at the tick rate of the game.
      *
      * @param game The main game class, used to access global resources and methods.
+     * @param mapPath The path of the map to play.
      */
     public GameScreen(MazeRunnerGame game, String mapPath) {
+        this(game, mapPath, MathUtils.random.nextLong(), game.getTicksPerSecond(), null);
+    }
+
+    /**
+     * Constructor for a GameScreen that replays a recorded game instead of reading the keyboard. The game
+     * logic runs at the tick rate it was recorded at, whatever the tick rate of the game is.
+     *
+     * @param game The main game class, used to access global resources and methods.
+     * @param replay The recorded game to replay.
+     */
+    public GameScreen(MazeRunnerGame game, InputRecording replay) {
+        this(game, replay.getMapPath(), replay.getSeed(), replay.getTicksPerSecond(), replay);
+    }
+
+    private GameScreen(MazeRunnerGame game, String mapPath, long seed, int ticksPerSecond, InputRecording replay) {
         // Core game initialization
         this.game = game;
+        this.timestep = new FixedTimestep(ticksPerSecond);
         this.batch = new SpriteBatch();
         this.shapeRenderer = new ShapeRenderer();
         this.backgroundTexture = new Texture(Gdx.files.internal("background.png"));
@@ -91,90 +123,38 @@ public GameScreen(MazeRunnerGame game, String mapPath) {
         this.tiledMap = new TmxMapLoader().load(mapPath);
         this.mapRenderer = new OrthogonalTiledMapRenderer(tiledMap);
 
-        // Layer initialization
-        TiledMapTileLayer wallsLayer = (TiledMapTileLayer) tiledMap.getLayers().get("walls");
-        this.pathLayer = (TiledMapTileLayer) tiledMap.getLayers().get("path");
-        this.path2Layer = (TiledMapTileLayer) tiledMap.getLayers().get("path2");
-        this.movingWallsLayer = tiledMap.getLayers().get("moving walls") instanceof TiledMapTileLayer
-                ? (TiledMapTileLayer) tiledMap.getLayers().get("moving walls")
-                : null;
-        TiledMapTileLayer doorsLayer = (TiledMapTileLayer) tiledMap.getLayers().get("exits");
-        TiledMapTileLayer trapLayer = (TiledMapTileLayer) tiledMap.getLayers().get("static obstacles");
-
         // UI elements
         this.hud = new HUD();
         this.arrow = new Arrow();
 
-        // Player and character initialization
-        this.player = Player.loadPlayerFromTiledMap(tiledMap, wallsLayer);
-        this.friends = new Friends(tiledMap, player);
-        this.grievers = Griever.loadGrieversFromTiledMap(tiledMap, pathLayer, path2Layer);
-
-        // Game objects initialization
-        this.item = new Item(tiledMap);
-        this.trapItem = new TrapItem(tiledMap);
-        this.keys = new Array<>();
-        this.doors = createDoorsFromLayer(doorsLayer);
-        this.traps = createTrapsFromLayer(trapLayer, "assets/rock1.png");
+        // Game logic, reading the gameplay layers and objects of the map
+        this.session = new MazeSession(TmxLayoutReader.read(Gdx.files.internal(mapPath)), seed, ticksPerSecond);
+        session.getEvents().subscribe(GameEventBus.ALL, new SessionFeedback(hud));
+        this.recording = replay == null ? new InputRecording(mapPath, seed, ticksPerSecond) : null;
+        this.replayedRecording = replay;
+        this.replay = replay == null ? null : replay.play();
 
-        // Moving walls setup (depends on grievers and HUD)
+        // Moving walls setup (depends on the walls of the session)
+        TiledMapTileLayer movingWallsLayer = tiledMap.getLayers().get("moving walls") instanceof TiledMapTileLayer
+                ? (TiledMapTileLayer) tiledMap.getLayers().get("moving walls")
+                : null;
         if (movingWallsLayer != null) {
-            this.walls = Wall.createWallsFromLayer(movingWallsLayer, grievers, hud);
+            this.movingWallLayer = new MovingWallLayer(movingWallsLayer, session.getMovingWallsLayer(), session.getWalls());
         }
 
+        // Renderers
+        this.playerRenderer = new PlayerRenderer();
+        this.grieverRenderer = new GrieverRenderer();
+        this.friendsRenderer = new FriendsRenderer();
+        this.keyRenderer = new KeyRenderer();
+        this.trapRenderer = new TrapRenderer("assets/rock1.png");
+        this.itemRenderer = new CollectibleItemRenderer("potion_red.png");
+        this.trapItemRenderer = new CollectibleItemRenderer("bomb.png");
+
         // Final camera setup
         centerCameraOnMap();
     }
 
-    /**
-     * Creates an array of Door objects from the specified TiledMapTileLayer.
-     *
-     * @param layer the TiledMapTileLayer containing the door tiles
-     * @return an Array of Door objects created from the layer
-     */
-    private Array<Door> createDoorsFromLayer(TiledMapTileLayer layer) {
-        Array<Door> doors = new Array<>();
-
-        for (int x = 0; x < layer.getWidth(); x++) {
-            for (int y = 0; y < layer.getHeight(); y++) {
-                TiledMapTileLayer.Cell cell = layer.getCell(x, y);
-                if (cell != null && cell.getTile() != null) {
-                    float worldX = x * layer.getTileWidth();
-                    float worldY = y * layer.getTileHeight();
-
-                    doors.add(new Door(worldX, worldY,
-                            layer.getTileWidth(),
-                            layer.getTileHeight()));
-                }
-            }
-        }
-
-        return doors;
-    }
-
-    /**
-     * Creates an array of Trap objects from the specified TiledMapTileLayer.
-     *
-     * @param layer the TiledMapTileLayer containing the trap tiles
-     * @param rockTexture the texture to be applied to the traps
-     * @return an Array of Trap objects created from the layer
-     */
-    private Array<Trap> createTrapsFromLayer(TiledMapTileLayer layer, String rockTexture) {
-        Array<Trap> traps = new Array<>();
-        for (int x = 0; x < layer.getWidth(); x++) {
-            for (int y = 0; y < layer.getHeight(); y++) {
-                TiledMapTileLayer.Cell cell = layer.getCell(x, y);
-                if (cell != null && cell.getTile() != null) {
-                    float worldX = x * layer.getTileWidth();
-                    float worldY = y * layer.getTileHeight();
-                    traps.add(new Trap(worldX, worldY, layer.getTileWidth(), layer.getTileHeight(), rockTexture));
-                }
-            }
-        }
-        return traps;
-    }
-
-
     /**
      * Centers the camera on the map based on its dimensions and logs debug information.
      */
@@ -195,8 +175,8 @@ private void centerCameraOnMap() {
     }
 
     /**
-     * Renders the game screen. Handles rendering of all game objects, updating the game state,
-     * and managing user inputs.
+     * Renders the game screen. Polls the menu and zoom keys once per frame, advances the game logic
+     * in fixed simulation ticks and then draws all game objects, interpolated between the last two ticks.
      *
      * @param delta the time in seconds since the last render
      */
@@ -204,33 +184,126 @@ private void centerCameraOnMap() {
     public void render(float delta) {
 
         if (Gdx.input.isKeyJustPressed(Input.Keys.ESCAPE)) {
-            saveState();
+            if (replay == null) {
+                saveState();
+            }
+            saveRecording();
             game.goToMenu();
             SoundManager.stopBackgroundMusic();
             SoundManager.playMenuMusic();
+            return;
         }
 
-        hud.updateTimer(delta);
+        timestep.accumulate(delta);
+        while (timestep.consumeStep()) {
+            if (!tick(timestep.getStep())) {
+                return;
+            }
+        }
 
-        ScreenUtils.clear(0, 0, 0, 1);
+        draw(timestep.getAlpha());
+    }
 
-        batch.begin();
-        batch.draw(backgroundTexture, 0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
-        batch.end();
+    /**
+     * Advances the game logic by one fixed simulation tick with the keys held down (or the recorded keys
+     * when replaying), and switches to the game over or game clear screen once the session has ended.
+     *
+     * @param step the fixed duration of a simulation tick in seconds
+     * @return false if the game has ended and this screen was replaced, true otherwise
+     */
+    private boolean tick(float step) {
+        if (replay != null && !replay.hasNext()) {
+            saveRecording();
+            game.goToMenu();
+            return false;
+        }
+        int mask = replay != null ? replay.next() : pollKeyboard();
+        if (recording != null) {
+            recording.record(mask);
+        }
 
-        if (Gdx.input.isKeyPressed(Input.Keys.NUM_1)) {
+        if ((mask & InputRecording.ZOOM_IN) != 0) {
             zoomCamera(-ZOOM_SPEED);
         }
-        if (Gdx.input.isKeyPressed(Input.Keys.NUM_2)) {
+        if ((mask & InputRecording.ZOOM_OUT) != 0) {
             zoomCamera(ZOOM_SPEED);
         }
 
-        walls.forEach(wall -> {
-            wall.update(delta, hud.getGlobalTimer());
-            wall.checkAndMovePlayer(player,friends);
-        });
+        InputRecording.applyMask(mask, input);
+        session.update(step, input);
+
+        if (session.isGameOver() || session.isLevelCleared()) {
+            saveRecording();
+        }
+        if (session.isGameOver()) {
+            float finalTime = 0;
+            game.setScreen(new GameOverScreen(game,finalTime));
+            SoundManager.playGameOverSound();
+            return false;
+        }
+        if (session.isLevelCleared()) {
+            game.setScreen(new GameClearScreen(game, session.getFinalScore()));
+            SoundManager.playVictorySound();
+            return false;
+        }
 
-        camera.position.set(player.getX() +( player.getWidth() / 2 ) -10, player.getY() + (player.getHeight() / 2) -10, 0);
+        Player player = session.getPlayer();
+        playerPosition.set(player.getX(), player.getY());
+        arrow.update(playerPosition, session.getDoors(), session.getScoreboard().isKeyCollected());
+        return true;
+    }
+
+    /**
+     * Reads the movement and zoom keys held down on the keyboard.
+     *
+     * @return the input bits of the keys
+     */
+    private int pollKeyboard() {
+        int mask = 0;
+        if (Gdx.input.isKeyPressed(Input.Keys.W)) mask |= InputRecording.MOVE_UP;
+        if (Gdx.input.isKeyPressed(Input.Keys.S)) mask |= InputRecording.MOVE_DOWN;
+        if (Gdx.input.isKeyPressed(Input.Keys.A)) mask |= InputRecording.MOVE_LEFT;
+        if (Gdx.input.isKeyPressed(Input.Keys.D)) mask |= InputRecording.MOVE_RIGHT;
+        if (Gdx.input.isKeyPressed(Input.Keys.SHIFT_LEFT)) mask |= InputRecording.RUN;
+        if (Gdx.input.isKeyPressed(Input.Keys.NUM_1)) mask |= InputRecording.ZOOM_IN;
+        if (Gdx.input.isKeyPressed(Input.Keys.NUM_2)) mask |= InputRecording.ZOOM_OUT;
+        return mask;
+    }
+
+    /**
+     * Writes the input recorded so far, together with the resulting state of the session,
+     * so the game can be replayed later. When replaying, logs whether the replay reproduced the recorded game.
+     */
+    private void saveRecording() {
+        if (replay != null) {
+            boolean reproduced = replayedRecording.hasFinalStateHash()
+                    && session.stateHash() == replayedRecording.getFinalStateHash();
+            Gdx.app.log("Replay", session.getTickCount() + " ticks replayed, state "
+                    + (reproduced ? "matches the recording" : "differs from the recording"));
+            return;
+        }
+        if (recording == null) {
+            return;
+        }
+        recording.setFinalStateHash(session.stateHash());
+        recording.write(Gdx.files.local(RECORDING_PATH).write(false));
+    }
+
+    /**
+     * Draws the map and all game objects. Moving entities are drawn between their positions
+     * at the previous and the current simulation tick.
+     *
+     * @param alpha the interpolation factor between the previous and the current simulation tick
+     */
+    private void draw(float alpha) {
+        ScreenUtils.clear(0, 0, 0, 1);
+
+        batch.begin();
+        batch.draw(backgroundTexture, 0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+        batch.end();
+
+        Player player = session.getPlayer();
+        camera.position.set(PlayerRenderer.getInterpolatedX(player, alpha) +( player.getWidth() / 2 ) -10, PlayerRenderer.getInterpolatedY(player, alpha) + (player.getHeight() / 2) -10, 0);
         camera.update();
 
         batch.setProjectionMatrix(camera.combined);
@@ -238,77 +311,27 @@ public void render(float delta) {
         batch.begin();
         mapRenderer.setView(camera);
         mapRenderer.render();
-        mapRenderer.getBatch().begin();
-        mapRenderer.renderTileLayer(movingWallsLayer);
-        mapRenderer.getBatch().end();
-
-        boolean moveUp = Gdx.input.isKeyPressed(Input.Keys.W);
-        boolean moveDown = Gdx.input.isKeyPressed(Input.Keys.S);
-        boolean moveLeft = Gdx.input.isKeyPressed(Input.Keys.A);
-        boolean moveRight = Gdx.input.isKeyPressed(Input.Keys.D);
-        boolean runKeyPressed = Gdx.input.isKeyPressed(Input.Keys.SHIFT_LEFT);
-
-        player.update(delta, moveUp, moveDown, moveLeft, moveRight, runKeyPressed,friends);
-        player.render(batch);
-
-        Iterator<Griever> iterator = grievers.iterator();
-        while (iterator.hasNext()) {
-            Griever griever = iterator.next();
-            griever.update(delta, player.getX(), player.getY(), player.getDirection(), hud, player, friends);
-            griever.render(batch);
-
-            for (Wall wall : walls) {
-                if (wall.isGrieverDead(griever) && !wall.hasKeySpawned(griever)) {
-                    Vector2 keyPosition = wall.getKeySpawnPosition(griever);
-                    if (keyPosition != null) {
-                        iterator.remove();
-                        keys.add(new Key(keyPosition.x, keyPosition.y));
-                        wall.setKeySpawned(griever, true);
-                    }
-                }
-                friends.update(player, hud, 3f, delta, griever, wall);
-            }
+        if (movingWallLayer != null) {
+            movingWallLayer.sync();
+            mapRenderer.getBatch().begin();
+            mapRenderer.renderTileLayer(movingWallLayer.getLayer());
+            mapRenderer.getBatch().end();
         }
 
-        Iterator<Key> keyIterator = keys.iterator();
-        while (keyIterator.hasNext()) {
-            Key key = keyIterator.next();
-            key.render(batch);
-            key.update(player, hud);
-
-            if (key.isCollected()) {
-                keyIterator.remove();
-            }
+        playerRenderer.render(batch, player, alpha);
+        for (Griever griever : session.getGrievers()) {
+            grieverRenderer.render(batch, griever, alpha);
         }
+        keyRenderer.render(batch, session.getKeys());
 
-        if (hud.getLives() < 0 || hud.getScoreTimer() <= 0) {
-            hud.stopTimer();
-            float finalTime = 0;
-            game.setScreen(new GameOverScreen(game,finalTime));
-            SoundManager.playGameOverSound();
-            return;
-        }
-
-        hud.updateScoreTimer(delta);
+        friendsRenderer.render(batch, session.getFriends(), player, alpha);
+        itemRenderer.render(batch, session.getItem());
+        trapItemRenderer.render(batch, session.getTrapItem());
 
-        friends.render(batch,player);
-        item.render(batch);
-        trapItem.render(batch);
-
-        Vector2 playerPosition = new Vector2(player.getX(), player.getY());
-        for (Door door : doors) {
-            door.tryToOpen(playerPosition, hud, game, friends);
-        }
-        for (Trap trap : traps) {
-            trap.fallRock(playerPosition,hud,player,delta,friends);
-            trap.render(batch);
-        }
-        arrow.update(playerPosition,doors,hud.isKeyCollected());
+        trapRenderer.render(batch, session.getTraps());
         arrow.render(batch);
 
-        item.update(player,  7f);
-        trapItem.update(player, 7f);
-        if (trapItem.isFogActive()) {
+        if (session.getTrapItem().isFogActive()) {
             shapeRenderer.setProjectionMatrix(camera.combined);
             shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
             shapeRenderer.setColor(0, 0, 0, 0.85f);
@@ -316,7 +339,7 @@ public void render(float delta) {
             shapeRenderer.end();
         }
 
-        hud.render(batch, player);
+        hud.render(batch, session.getScoreboard(), player);
 
         batch.end();
     }
@@ -330,7 +353,7 @@ private void zoomCamera(float amount) {
         Vector3 beforeZoom = new Vector3(Gdx.input.getX(), Gdx.input.getY(), 0);
         camera.unproject(beforeZoom);
 
-        currentZoom = MathUtils.clamp(currentZoom + amount, MIN_ZOOM, MAX_ZOOM);
+        currentZoom = MathUtils.clamp(currentZoom + amount, MIN_ZOOM, largestZoom);
         camera.zoom = currentZoom;
 
         Vector3 afterZoom = new Vector3(Gdx.input.getX(), Gdx.input.getY(), 0);
@@ -348,76 +371,22 @@ private void zoomCamera(float amount) {
      * Saves the current state of the game, including player, items, traps, walls, and keys.
      */
     public void saveState() {
-        player.savePlayerState();
-
-        item.saveItemState();
-        trapItem.saveTrapItemState();
-
-        for (Trap trap : traps) {
-            trap.saveTrapState();
-        }
-        for (Wall wall: walls) {
-            wall.saveWallState();
-        }
-
-        hud.saveHUDState();
-        friends.saveFriendState();
-        for (int i = 0; i < grievers.size; i++) {
-            grievers.get(i).saveGrieverstate(i);
-        }
-        Preferences preferences = Gdx.app.getPreferences("Keys");
-        preferences.putInteger("numberOfKeys", keys.size);
-        for (int i = 0; i < keys.size; i++) {
-            Key key = keys.get(i);
-            preferences.putFloat("key_" + i + "_x", key.getX());
-            preferences.putFloat("key_" + i + "_y", key.getY());
-            preferences.putBoolean("key_" + i + "_collected", key.isCollected());
-        }
-
-        preferences.flush();
+        session.saveState(Gdx.app::getPreferences);
     }
 
     /**
      * Loads the saved state of the game, restoring player, items, traps, walls, and keys.
      */
     public void loadState() {
-        player.loadPlayerState();
-
-        item.loadItemState();
-        trapItem.loadTrapItemState();
-
-        for (Trap trap : traps) {
-            trap.loadTrapState();
-        }
-        for (Wall wall : walls) {
-            wall.loadWallState();
-        }
-
-        hud.loadHUDState();
-
-
-        for (int i = 0; i < grievers.size; i++) {
-            grievers.get(i).loadGrieverstate(i);
-        }
-        keys.clear();
-        Preferences preferences = Gdx.app.getPreferences("Keys");
-        int numberOfKeys = preferences.getInteger("numberOfKeys", 0);
-        for (int i = 0; i < numberOfKeys; i++) {
-            float x = preferences.getFloat("key_" + i + "_x", 0);
-            float y = preferences.getFloat("key_" + i + "_y", 0);
-            boolean collected = preferences.getBoolean("key_" + i + "_collected", false);
-
-            if (!collected) {
-                Key key = new Key(x, y);
-                keys.add(key);
-            }
-        }
-
-        friends.loadFriendState();
+        session.loadState(Gdx.app::getPreferences);
+        // A continued game cannot be replayed from the start of the map
+        recording = null;
     }
 
     /**
-     * Resizes the game viewport and updates relevant components.
+     * Resizes the game viewport and updates relevant components. On screens larger than the largest
+     * viewport of {@link SimulationLod}, the camera may zoom out less, so it never shows entities that are
+     * not updated in every tick.
      *
      * @param width  the new width of the viewport
      * @param height the new height of the viewport
@@ -428,6 +397,9 @@ public void resize(int width, int height) {
         hud.setScreenDimensions(width, height);
         camera.viewportWidth = width;
         camera.viewportHeight = height;
+        largestZoom = Math.max(MIN_ZOOM, SimulationLod.largestZoom(width, height));
+        currentZoom = Math.min(currentZoom, largestZoom);
+        camera.zoom = currentZoom;
         camera.position.set(lastPosition);
         camera.update();
     }
@@ -468,13 +440,15 @@ public void dispose() {
         tiledMap.dispose();
         mapRenderer.dispose();
         batch.dispose();
-        player.dispose();
+        playerRenderer.dispose();
         hud.dispose();
-        for (Griever griever : grievers) {
-            griever.dispose();
-        }
+        grieverRenderer.dispose();
+        keyRenderer.dispose();
+        trapRenderer.dispose();
+        itemRenderer.dispose();
+        trapItemRenderer.dispose();
         arrow.dispose();
         backgroundTexture.dispose();
-        friends.dispose();
+        friendsRenderer.dispose();
     }
 }
\ No newline at end of file
@@ -0,0 +1,50 @@
+package de.tum.cit.fop.maze;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import de.tum.cit.fop.maze.simulation.Direction;
+import de.tum.cit.fop.maze.simulation.Griever;
+
+/**
+ * Draws the Grievers using the animation state of the simulated {@link Griever}s.
+ * The textures are loaded once and shared by all Grievers.
+ */
+public class GrieverRenderer {
+    // Textures
+    private final Texture[][] grieverTextures = new Texture[Direction.COUNT][];
+
+    /**
+     * Loads the walking textures of the Grievers for all four directions.
+     */
+    public GrieverRenderer() {
+        grieverTextures[Direction.UP] = new Texture[]{new Texture("monster_up1.png"), new Texture("monster_up2.png")};
+        grieverTextures[Direction.DOWN] = new Texture[]{new Texture("monster_down1.png"), new Texture("monster_down2.png")};
+        grieverTextures[Direction.LEFT] = new Texture[]{new Texture("monster_left1.png"), new Texture("monster_left2.png")};
+        grieverTextures[Direction.RIGHT] = new Texture[]{new Texture("monster_right1.png"), new Texture("monster_right2.png")};
+    }
+
+    /**
+     * Renders a Griever between its positions at the previous and the current simulation tick.
+     *
+     * @param batch   The SpriteBatch used for rendering the Griever's texture.
+     * @param griever The Griever to draw.
+     * @param alpha   The interpolation factor between the previous and the current simulation tick.
+     */
+    public void render(SpriteBatch batch, Griever griever, float alpha) {
+        Texture texture = grieverTextures[griever.getFrameDirection()][griever.getWalkFrame()];
+        float renderX = FixedTimestep.interpolate(griever.getLastTickX(), griever.getMonsterX(), alpha);
+        float renderY = FixedTimestep.interpolate(griever.getLastTickY(), griever.getMonsterY(), alpha);
+        batch.draw(texture, renderX, renderY, texture.getWidth() * griever.getScale(), texture.getHeight() * griever.getScale());
+    }
+
+    /**
+     * Disposes of the textures used by the Grievers.
+     */
+    public void dispose() {
+        for (Texture[] textures : grieverTextures) {
+            for (Texture texture : textures) {
+                texture.dispose();
+            }
+        }
+    }
+}
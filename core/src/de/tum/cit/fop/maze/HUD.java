@@ -7,31 +7,22 @@
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
-import com.badlogic.gdx.Preferences;
+import de.tum.cit.fop.maze.simulation.Player;
+import de.tum.cit.fop.maze.simulation.Scoreboard;
 
 /**
- * The HUD (Heads-Up Display) class manages and renders the game's user interface elements.
- * It handles information such as the player's lives, score, collected keys, and timers,
- * as well as displaying messages to the player.
+ * The HUD (Heads-Up Display) class renders the game's user interface elements.
+ * It displays the player's lives, score, collected keys, and timers kept by the {@link Scoreboard},
+ * as well as messages to the player.
  */
 public class HUD  {
     //Constants
     private static final float MESSAGE_DISPLAY_DURATION = 4f;
-    private static final String PREFERENCES_NAME = "HUDState";
 
     //Font and Display
     private BitmapFont font;
     private OrthographicCamera hudCamera;
 
-    //Game State Variables
-    private int lives;
-    private float globalTimer;
-    private boolean isGameRunning = true;
-    private float finalTime;
-    private float scoreTimer;
-    private boolean keyCollected;
-
-
     //Screen Dimensions
     private float screenWidth;
     private float screenHeight;
@@ -41,7 +32,7 @@ public class HUD  {
     private float messageTimer = 0f;
 
     /**
-     * Constructor for the HUD class. Initializes the font, camera, and game state variables.
+     * Constructor for the HUD class. Initializes the font and camera.
      */
     public HUD() {
         FreeTypeFontGenerator generator = new FreeTypeFontGenerator(Gdx.files.internal("Pixel Game.otf"));
@@ -57,11 +48,6 @@ public HUD() {
         generator.dispose();
         font.getData().setScale(2f);
 
-        this.lives = 3;
-        this.globalTimer = 0f;
-        this.keyCollected = false;
-        scoreTimer = 300;
-
         hudCamera = new OrthographicCamera();
         setScreenDimensions(Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
     }
@@ -80,57 +66,21 @@ public void setScreenDimensions(float width, float height) {
         hudCamera.update();
     }
 
-    /**
-     * Updates the global timer, which tracks the time elapsed in the game.
-     *
-     * @param delta The time in seconds since the last frame.
-     */
-    public void updateTimer(float delta) {
-        globalTimer += delta;
-    }
-
-    /**
-     * Updates the score timer, which tracks the remaining time before the game ends.
-     *
-     * @param delta The time in seconds since the last frame.
-     */
-    public void updateScoreTimer(float delta) {
-        if (isGameRunning) {
-            scoreTimer -= delta;
-        }
-    }
-
-    /**
-     * Stops the timer and records the final time when the game ends.
-     */
-    public void stopTimer() {
-        isGameRunning = false;
-        finalTime = scoreTimer;
-
-    }
-    /**
-     * Gets the final time when the game ends.
-     *
-     * @return The final time as a float.
-     */
-    public float getFinalTime() {
-        return finalTime;
-    }
-
     /**
      * Renders the HUD elements such as lives, score, key collected status, and timer.
      * It also displays messages if applicable.
      *
-     * @param batch  The SpriteBatch used for rendering the HUD.
-     * @param player The player object, used to display messages near the player.
+     * @param batch      The SpriteBatch used for rendering the HUD.
+     * @param scoreboard The scoreboard whose values are displayed.
+     * @param player     The player object, used to display messages near the player.
      */
-    public void render(SpriteBatch batch, Player player) {
+    public void render(SpriteBatch batch, Scoreboard scoreboard, Player player) {
         batch.setProjectionMatrix(hudCamera.combined);
 
-        font.draw(batch, "Saved Friends: " + lives, screenWidth * 0.07f, screenHeight - 30);
-        font.draw(batch, "Score: " + (1000 + (int)scoreTimer*5  + (getLives()*150)) , screenWidth * 0.07f, screenHeight - 105);
-        font.draw(batch, "Key Collected: " + (keyCollected ? "Yes" : "No"), screenWidth * 0.6f, screenHeight - 30);
-        font.draw(batch, "Time: " +  (int) scoreTimer, screenWidth * 0.6f, screenHeight - 105);
+        font.draw(batch, "Saved Friends: " + scoreboard.getLives(), screenWidth * 0.07f, screenHeight - 30);
+        font.draw(batch, "Score: " + scoreboard.getScore(), screenWidth * 0.07f, screenHeight - 105);
+        font.draw(batch, "Key Collected: " + (scoreboard.isKeyCollected() ? "Yes" : "No"), screenWidth * 0.6f, screenHeight - 30);
+        font.draw(batch, "Time: " +  (int) scoreboard.getScoreTimer(), screenWidth * 0.6f, screenHeight - 105);
 
         if (messageTimer > 0) {
             font.draw(batch, message, player.getX(), player.getY() + player.getHeight() + 10);
@@ -139,21 +89,11 @@ public void render(SpriteBatch batch, Player player) {
     }
 
     /**
-     * Increments the number of lives by 1.
-     */
-    public void incrementLives() {
-        this.lives++;
-    }
-
-    /**
-     * Decrements the number of lives by 1 and displays a message.
+     * Displays a message indicating that the player lost a friend.
      */
-    public void decrementLives() {
-        this.lives--;
+    public void lostFriendMessage() {
         message = "You lost a friend.";
         messageTimer = MESSAGE_DISPLAY_DURATION;
-
-        SoundManager.playLostFriendSound();
     }
 
     /**
@@ -172,55 +112,6 @@ public void needFriend() {
         messageTimer = 1f;
     }
 
-    /**
-     * Saves the current state of the HUD (lives, score timer, key collected, etc.)
-     * to the preferences for persistence between sessions.
-     */
-    public void saveHUDState() {
-        Preferences preferences = Gdx.app.getPreferences(PREFERENCES_NAME);
-        preferences.putInteger("lives", lives);
-        preferences.putFloat("scoreTimer", scoreTimer);
-        preferences.putBoolean("keyCollected", keyCollected);
-        preferences.putBoolean("isGameRunning", isGameRunning);
-        preferences.putFloat("finalTime", finalTime);
-        preferences.putFloat("globalTimer", globalTimer);
-        preferences.flush();
-    }
-
-    /**
-     * Loads the saved state of the HUD from preferences.
-     */
-    public void loadHUDState() {
-        Preferences preferences = Gdx.app.getPreferences(PREFERENCES_NAME);
-        lives = preferences.getInteger("lives", lives);
-        scoreTimer = preferences.getFloat("scoreTimer", scoreTimer);
-        keyCollected = preferences.getBoolean("keyCollected", keyCollected);
-        isGameRunning = preferences.getBoolean("isGameRunning", isGameRunning);
-        finalTime = preferences.getFloat("finalTime", finalTime);
-        globalTimer = preferences.getFloat("globalTimer", globalTimer);
-    }
-
-    public float getGlobalTimer() {
-        return globalTimer;
-    }
-    public float getScoreTimer() {
-        return scoreTimer;
-    }
-    public int getLives() {
-        return lives;
-    }
-    public void collectKey() {
-        if (!keyCollected) {
-            keyCollected = true;
-        }
-    }
-    public boolean isKeyCollected() {
-        return keyCollected;
-    }
-    public void setLives(int lives) {
-        this.lives = lives;
-    }
-
     /**
      * Disposes of the resources used by the HUD, such as the font.
      */
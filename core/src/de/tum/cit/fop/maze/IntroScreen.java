@@ -6,13 +6,13 @@
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.utils.ScreenUtils;
-import com.badlogic.gdx.utils.Timer;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
 
 /**
  * IntroScreen class handles the transition between map selection and game start.
  * It displays an intro image for a specified duration before transitioning to the game.
+ * The duration is counted down in render, so it only runs while the screen is rendered.
  */
 public class IntroScreen implements Screen {
     private final MazeRunnerGame game;
@@ -20,6 +20,7 @@ public class IntroScreen implements Screen {
     private final SpriteBatch batch;
     private final Texture introImage;
     private final float INTRO_DURATION = 7.0f; // Duration of intro screen in seconds
+    private float remainingTime = INTRO_DURATION;
 
     // Viewport and camera for proper resizing
     private OrthographicCamera camera;
@@ -49,6 +50,13 @@ public IntroScreen(MazeRunnerGame game, String mapPath) {
 
     @Override
     public void render(float delta) {
+        // Transition to the game screen once the intro is over
+        remainingTime -= delta;
+        if (remainingTime <= 0) {
+            startGame();
+            return;
+        }
+
         // Clear the screen
         ScreenUtils.clear(0, 0, 0, 1);
 
@@ -66,21 +74,20 @@ public void render(float delta) {
     public void show() {
         // Stop menu music
         SoundManager.stopMenuMusic();
+    }
 
-        // Schedule transition to game screen
-        Timer.schedule(new Timer.Task() {
-            @Override
-            public void run() {
-                // Transition to game screen with the selected map
-                game.setScreen(new GameScreen(game, mapPath));
+    /**
+     * Transitions to the game screen with the selected map and disposes of this screen.
+     */
+    private void startGame() {
+        // Transition to game screen with the selected map
+        game.setScreen(new GameScreen(game, mapPath));
 
-                // Start background game music
-                SoundManager.playBackgroundMusic();
+        // Start background game music
+        SoundManager.playBackgroundMusic();
 
-                // Dispose of this screen
-                dispose();
-            }
-        }, INTRO_DURATION);
+        // Dispose of this screen
+        dispose();
     }
 
     @Override
@@ -0,0 +1,40 @@
+package de.tum.cit.fop.maze;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import de.tum.cit.fop.maze.simulation.Keys;
+
+/**
+ * Draws the keys dropped by crushed Grievers.
+ */
+public class KeyRenderer {
+    private final Texture keyTexture;
+
+    /**
+     * Loads the texture of the key.
+     */
+    public KeyRenderer() {
+        keyTexture = new Texture("key.png");
+    }
+
+    /**
+     * Renders the keys that have not been collected yet.
+     *
+     * @param batch the SpriteBatch used for rendering
+     * @param keys  the keys to draw
+     */
+    public void render(SpriteBatch batch, Keys keys) {
+        float width = keyTexture.getWidth() * keys.getScale();
+        float height = keyTexture.getHeight() * keys.getScale();
+        for (int i = 0; i < keys.size(); i++) {
+            batch.draw(keyTexture, keys.x[i], keys.y[i], width, height);
+        }
+    }
+
+    /**
+     * Disposes of the texture used by the keys.
+     */
+    public void dispose() {
+        keyTexture.dispose();
+    }
+}
@@ -4,6 +4,8 @@
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
+import de.tum.cit.fop.maze.simulation.InputRecording;
+import de.tum.cit.fop.maze.simulation.MazeSession;
 import games.spooky.gdx.nativefilechooser.NativeFileChooser;
 
 /**
@@ -21,13 +23,37 @@ public class MazeRunnerGame extends Game {
     private Skin skin;
 
     private String currentMapPath;
+
+    // Recorded game to replay instead of showing the menu, or null
+    private final String replayPath;
+
+    // Simulation ticks per second of the games played
+    private final int ticksPerSecond;
+
     /**
      * Constructor for MazeRunnerGame.
      *
      * @param fileChooser The file chooser for the game, typically used in desktop environment.
      */
     public MazeRunnerGame(NativeFileChooser fileChooser) {
+        this(fileChooser, null, MazeSession.DEFAULT_TICKS_PER_SECOND);
+    }
+
+    /**
+     * Constructor for MazeRunnerGame that may start by replaying a recorded game and runs the games at the
+     * given simulation rate.
+     *
+     * @param fileChooser The file chooser for the game, typically used in desktop environment.
+     * @param replayPath The path of the recorded game to replay, or null to show the menu.
+     * @param ticksPerSecond The number of simulation ticks per second of the games played.
+     */
+    public MazeRunnerGame(NativeFileChooser fileChooser, String replayPath, int ticksPerSecond) {
         super();
+        if (ticksPerSecond <= 0) {
+            throw new IllegalArgumentException("ticksPerSecond must be positive: " + ticksPerSecond);
+        }
+        this.replayPath = replayPath;
+        this.ticksPerSecond = ticksPerSecond;
     }
 
     /**
@@ -39,7 +65,11 @@ public void create() {
         skin = new Skin(Gdx.files.internal("craft/craftacular-ui.json")); // Load UI skin
 
         SoundManager.initialize();
-        setScreen(new MenuScreen(this));
+        if (replayPath != null) {
+            setScreen(new GameScreen(this, InputRecording.read(Gdx.files.absolute(replayPath).read())));
+        } else {
+            setScreen(new MenuScreen(this));
+        }
     }
 
     /**
@@ -80,4 +110,8 @@ public Skin getSkin() {
     public SpriteBatch getSpriteBatch() {
         return spriteBatch;
     }
+
+    public int getTicksPerSecond() {
+        return ticksPerSecond;
+    }
 }
\ No newline at end of file
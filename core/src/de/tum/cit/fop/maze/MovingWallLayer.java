@@ -0,0 +1,59 @@
+package de.tum.cit.fop.maze;
+
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer.Cell;
+import de.tum.cit.fop.maze.simulation.BitGrid;
+import de.tum.cit.fop.maze.simulation.Wall;
+
+import java.util.List;
+
+/**
+ * Keeps the cells of the "moving walls" tile layer in sync with the simulated walls,
+ * so that the map renderer draws every wall at its current tile.
+ */
+public class MovingWallLayer {
+    private final TiledMapTileLayer layer;
+    private final BitGrid occupiedTiles;
+    private final List<Wall> walls;
+    private final Cell[] wallCells;
+
+    /**
+     * Remembers the cell of every wall at its start position.
+     *
+     * @param layer         the "moving walls" tile layer of the map
+     * @param occupiedTiles the occupied tiles of the moving walls layer, updated by the walls
+     * @param walls         the walls of the session
+     */
+    public MovingWallLayer(TiledMapTileLayer layer, BitGrid occupiedTiles, List<Wall> walls) {
+        this.layer = layer;
+        this.occupiedTiles = occupiedTiles;
+        this.walls = walls;
+        this.wallCells = new Cell[walls.size()];
+        for (int i = 0; i < walls.size(); i++) {
+            wallCells[i] = layer.getCell(walls.get(i).getOriginalX(), walls.get(i).getOriginalY());
+        }
+    }
+
+    /**
+     * Removes the cells of tiles that are no longer occupied and places every wall's cell at its current tile.
+     */
+    public void sync() {
+        for (int x = 0; x < layer.getWidth(); x++) {
+            for (int y = 0; y < layer.getHeight(); y++) {
+                if (!occupiedTiles.get(x, y)) {
+                    layer.setCell(x, y, null);
+                }
+            }
+        }
+        for (int i = 0; i < walls.size(); i++) {
+            Wall wall = walls.get(i);
+            if (occupiedTiles.get(wall.getX(), wall.getY())) {
+                layer.setCell(wall.getX(), wall.getY(), wallCells[i]);
+            }
+        }
+    }
+
+    public TiledMapTileLayer getLayer() {
+        return layer;
+    }
+}
@@ -0,0 +1,72 @@
+package de.tum.cit.fop.maze;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.MathUtils;
+import de.tum.cit.fop.maze.simulation.Direction;
+import de.tum.cit.fop.maze.simulation.Player;
+
+/**
+ * Draws the player using the animation state of the simulated {@link Player}.
+ * The red pulsing effect is shown while the player is hurt.
+ */
+public class PlayerRenderer {
+    //Textures
+    private final Texture[][] walkTextures = new Texture[Direction.COUNT][];
+    private final Texture dead;
+
+    /**
+     * Loads the walking and dead textures of the player.
+     */
+    public PlayerRenderer() {
+        walkTextures[Direction.UP] = new Texture[]{new Texture("boy_up1.png"), new Texture("boy_up2.png")};
+        walkTextures[Direction.DOWN] = new Texture[]{new Texture("boy_down1.png"), new Texture("boy_down2.png")};
+        walkTextures[Direction.LEFT] = new Texture[]{new Texture("boy_left1.png"), new Texture("boy_left2.png")};
+        walkTextures[Direction.RIGHT] = new Texture[]{new Texture("boy_right1.png"), new Texture("boy_right2.png")};
+        this.dead = new Texture("boydead.png");
+    }
+
+    /**
+     * Renders the player between its positions at the previous and the current simulation tick.
+     *
+     * @param batch  The SpriteBatch used for rendering the player's texture.
+     * @param player The player to draw.
+     * @param alpha  The interpolation factor between the previous and the current simulation tick.
+     */
+    public void render(SpriteBatch batch, Player player, float alpha) {
+        Texture currentTexture = player.isDeadSpriteShown()
+                ? dead
+                : walkTextures[player.getFrameDirection()][player.getWalkFrame()];
+        float renderX = getInterpolatedX(player, alpha);
+        float renderY = getInterpolatedY(player, alpha);
+        float scale = player.getScale();
+
+        if (player.isInRedEffect()) {
+            float pulse = 0.5f + 0.5f * MathUtils.sin(player.getRedEffectTimer() * 5);
+            batch.setColor(1, 1 - pulse, 1 - pulse, 1);
+            batch.draw(currentTexture, renderX, renderY, currentTexture.getWidth() * scale, currentTexture.getHeight() * scale);
+            batch.setColor(1, 1, 1, 1);
+        } else {
+            batch.draw(currentTexture, renderX, renderY, currentTexture.getWidth() * scale, currentTexture.getHeight() * scale);
+        }
+    }
+
+    public static float getInterpolatedX(Player player, float alpha) {
+        return FixedTimestep.interpolate(player.getLastTickX(), player.getX(), alpha);
+    }
+    public static float getInterpolatedY(Player player, float alpha) {
+        return FixedTimestep.interpolate(player.getLastTickY(), player.getY(), alpha);
+    }
+
+    /**
+     * Disposes of the textures used by the player.
+     */
+    public void dispose() {
+        for (Texture[] textures : walkTextures) {
+            for (Texture texture : textures) {
+                texture.dispose();
+            }
+        }
+        dead.dispose();
+    }
+}
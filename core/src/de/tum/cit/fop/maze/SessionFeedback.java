@@ -0,0 +1,53 @@
+package de.tum.cit.fop.maze;
+
+import de.tum.cit.fop.maze.simulation.GameEventBus;
+
+/**
+ * Plays the sounds and shows the HUD messages for the events of a maze session.
+ */
+public class SessionFeedback implements GameEventBus.Subscriber {
+    private final HUD hud;
+
+    /**
+     * Constructs the feedback for a game screen.
+     *
+     * @param hud the HUD used to display messages to the player
+     */
+    public SessionFeedback(HUD hud) {
+        this.hud = hud;
+    }
+
+    @Override
+    public void onEvent(int type, int entityId, float x, float y) {
+        switch (type) {
+            case GameEventBus.TRAP_FIRED:
+                SoundManager.playRockSound();
+                break;
+            case GameEventBus.FRIEND_LOST:
+                hud.lostFriendMessage();
+                SoundManager.playLostFriendSound();
+                break;
+            case GameEventBus.FRIEND_RESCUED:
+                SoundManager.playSaveFriendSound();
+                break;
+            case GameEventBus.GRIEVER_STUNNED:
+                hud.stunMessage();
+                break;
+            case GameEventBus.GRIEVER_CRUSHED:
+                SoundManager.playMonsterDiedSound();
+                break;
+            case GameEventBus.KEY_COLLECTED:
+                SoundManager.playKeyCollectedSound();
+                break;
+            case GameEventBus.ITEM_COLLECTED:
+                SoundManager.playItemCollectedSound();
+                break;
+            case GameEventBus.TRAP_ITEM_COLLECTED:
+                SoundManager.playEvilLaughSound();
+                break;
+            case GameEventBus.EXIT_NEEDS_FRIEND:
+                hud.needFriend();
+                break;
+        }
+    }
+}
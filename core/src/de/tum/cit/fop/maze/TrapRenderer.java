@@ -0,0 +1,42 @@
+package de.tum.cit.fop.maze;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import de.tum.cit.fop.maze.simulation.Traps;
+
+/**
+ * Draws the falling rocks of the traps.
+ */
+public class TrapRenderer {
+    private final Texture rockTexture;
+
+    /**
+     * Loads the texture of the rock.
+     *
+     * @param rockTexturePath The file path of the rock texture
+     */
+    public TrapRenderer(String rockTexturePath) {
+        this.rockTexture = new Texture(rockTexturePath);
+    }
+
+    /**
+     * Renders the rocks of the traps that are falling or have been moved from their initial position.
+     *
+     * @param batch The SpriteBatch used for drawing
+     * @param traps The traps whose rocks should be drawn
+     */
+    public void render(SpriteBatch batch, Traps traps) {
+        for (int i = 0; i < traps.size(); i++) {
+            if (traps.isRockVisible(i)) {
+                batch.draw(rockTexture, traps.x[i], traps.rockY[i], traps.getWidth(), traps.getHeight());
+            }
+        }
+    }
+
+    /**
+     * Disposes of the texture used by the rocks.
+     */
+    public void dispose() {
+        rockTexture.dispose();
+    }
+}
@@ -4,8 +4,11 @@
 import com.badlogic.gdx.Graphics;
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3Application;
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3ApplicationConfiguration;
+import de.tum.cit.fop.maze.simulation.MazeSession;
 import games.spooky.gdx.nativefilechooser.desktop.DesktopFileChooser;
 
+import java.io.File;
+
 
 /**
  * The DesktopLauncher class is the entry point for the desktop version of the Maze Runner game.
@@ -15,7 +18,9 @@ public class DesktopLauncher {
 	/**
 	 * The main method sets up the configuration for the game window and starts the application.
 	 *
-	 * @param arg Command line arguments (not used in this application)
+	 * @param arg Command line arguments; "--replay &lt;file&gt;" replays a recorded game
+	 *            (the last game is recorded to replays/last.mzr), "--tick-rate &lt;hz&gt;" runs the game logic
+	 *            at another number of ticks per second than the default of 60
 	 */
 	public static void main(String[] arg) {
 		// Configuration for the game window
@@ -31,10 +36,21 @@ public static void main(String[] arg) {
 				Math.round(0.8f * displayMode.height)
 		);
 		config.useVsync(true); // Enable vertical sync
-		config.setForegroundFPS(60); // Set the foreground frames per second
+		// Game logic runs at a fixed tick rate in GameScreen, so drawing is only limited by the display
+		config.setForegroundFPS(displayMode.refreshRate + 1);
+
 
+		String replayPath = null;
+		int ticksPerSecond = MazeSession.DEFAULT_TICKS_PER_SECOND;
+		for (int i = 0; i + 1 < arg.length; i++) {
+			if (arg[i].equals("--replay")) {
+				replayPath = new File(arg[i + 1]).getAbsolutePath();
+			} else if (arg[i].equals("--tick-rate")) {
+				ticksPerSecond = Integer.parseInt(arg[i + 1]);
+			}
+		}
 
 		// Launch the game
-		new Lwjgl3Application(new MazeRunnerGame(new DesktopFileChooser()), config);
+		new Lwjgl3Application(new MazeRunnerGame(new DesktopFileChooser(), replayPath, ticksPerSecond), config);
 	}
 }
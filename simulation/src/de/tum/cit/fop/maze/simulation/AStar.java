@@ -0,0 +1,156 @@
+package de.tum.cit.fop.maze.simulation;
+
+import com.badlogic.gdx.utils.IntArray;
+
+/**
+ * Finds shortest routes between two tiles of a {@link BitGrid} with the A* algorithm, moving in the four
+ * directions with Manhattan distance as heuristic.
+ *
+ * Tiles are identified by their index y * width + x. The open set is an {@link IntHeap} of tile indices, and
+ * the scratch arrays are allocated for the largest grid searched so far and reused by every search,
+ * so a search does not allocate. Instead of clearing the arrays, every search uses a new generation
+ * number and treats entries of older generations as unvisited.
+ * An instance must not be used by several threads at once.
+ */
+public class AStar {
+    // Scratch Buffers, indexed by tile
+    private int[] cost = new int[0];
+    private int[] parent = new int[0];
+    private int[] generation = new int[0];
+    private boolean[] closed = new boolean[0];
+    private int currentGeneration = 0;
+
+    // Open Set, ordered by estimated total cost
+    private final IntHeap open = new IntHeap(64);
+
+    // Statistics
+    private int lastExpandedCount;
+
+    /**
+     * Searches the shortest route from one tile to another over the set tiles of a grid.
+     *
+     * @param walkable the walkable tiles
+     * @param startX   the x-coordinate of the start tile, which does not have to be walkable
+     * @param startY   the y-coordinate of the start tile
+     * @param goalX    the x-coordinate of the goal tile
+     * @param goalY    the y-coordinate of the goal tile
+     * @param route    receives the tile indices of the route after the start tile, ending with the goal;
+     *                 cleared first, and left empty if there is no route
+     * @return true if a route was found, false otherwise
+     */
+    public boolean findPath(BitGrid walkable, int startX, int startY, int goalX, int goalY, IntArray route) {
+        return findPath(walkable, 0, 0, walkable.getWidth() - 1, walkable.getHeight() - 1,
+                startX, startY, goalX, goalY, route);
+    }
+
+    /**
+     * Searches the shortest route from one tile to another that stays inside a rectangle of the grid,
+     * e.g. inside one cluster of a {@link HierarchicalGraph}.
+     *
+     * @param walkable the walkable tiles
+     * @param minX     the smallest x-coordinate of the rectangle
+     * @param minY     the smallest y-coordinate of the rectangle
+     * @param maxX     the largest x-coordinate of the rectangle
+     * @param maxY     the largest y-coordinate of the rectangle
+     * @param startX   the x-coordinate of the start tile, which does not have to be walkable
+     * @param startY   the y-coordinate of the start tile
+     * @param goalX    the x-coordinate of the goal tile
+     * @param goalY    the y-coordinate of the goal tile
+     * @param route    receives the tile indices of the route after the start tile, ending with the goal;
+     *                 cleared first, and left empty if there is no route
+     * @return true if a route was found, false otherwise
+     */
+    public boolean findPath(BitGrid walkable, int minX, int minY, int maxX, int maxY,
+                            int startX, int startY, int goalX, int goalY, IntArray route) {
+        route.clear();
+        lastExpandedCount = 0;
+        if (!walkable.isInBounds(startX, startY) || !walkable.get(goalX, goalY)
+                || !isInside(goalX, goalY, minX, minY, maxX, maxY)) {
+            return false;
+        }
+        int width = walkable.getWidth();
+        int start = startY * width + startX;
+        int goal = goalY * width + goalX;
+        if (start == goal) {
+            return true;
+        }
+        prepare(width * walkable.getHeight());
+
+        open.clear();
+        visit(start, 0, -1);
+        open.push(start, heuristic(startX, startY, goalX, goalY));
+        while (!open.isEmpty()) {
+            int tile = open.pop();
+            if (closed[tile]) {
+                continue;
+            }
+            closed[tile] = true;
+            lastExpandedCount++;
+            if (tile == goal) {
+                buildRoute(start, goal, route);
+                return true;
+            }
+
+            int tileX = tile % width;
+            int tileY = tile / width;
+            int nextCost = cost[tile] + 1;
+            for (int d = 0; d < Direction.COUNT; d++) {
+                int nextX = tileX + Direction.dx(d);
+                int nextY = tileY + Direction.dy(d);
+                if (!isInside(nextX, nextY, minX, minY, maxX, maxY) || !walkable.get(nextX, nextY)) {
+                    continue;
+                }
+                int next = nextY * width + nextX;
+                if (generation[next] != currentGeneration || nextCost < cost[next]) {
+                    visit(next, nextCost, tile);
+                    open.push(next, nextCost + heuristic(nextX, nextY, goalX, goalY));
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean isInside(int x, int y, int minX, int minY, int maxX, int maxY) {
+        return x >= minX && y >= minY && x <= maxX && y <= maxY;
+    }
+
+    private void prepare(int tileCount) {
+        if (cost.length < tileCount) {
+            cost = new int[tileCount];
+            parent = new int[tileCount];
+            generation = new int[tileCount];
+            closed = new boolean[tileCount];
+            currentGeneration = 0;
+        }
+        currentGeneration++;
+    }
+
+    private void visit(int tile, int tileCost, int parentTile) {
+        if (generation[tile] != currentGeneration) {
+            generation[tile] = currentGeneration;
+            closed[tile] = false;
+        }
+        cost[tile] = tileCost;
+        parent[tile] = parentTile;
+    }
+
+    private static int heuristic(int x, int y, int goalX, int goalY) {
+        return Math.abs(goalX - x) + Math.abs(goalY - y);
+    }
+
+    private void buildRoute(int start, int goal, IntArray route) {
+        for (int tile = goal; tile != start; tile = parent[tile]) {
+            route.add(tile);
+        }
+        route.reverse();
+    }
+
+    /**
+     * Gets the number of tiles the last search expanded, to measure how much work it did.
+     *
+     * @return the number of expanded tiles
+     */
+    public int getLastExpandedCount() {
+        return lastExpandedCount;
+    }
+}
@@ -0,0 +1,90 @@
+package de.tum.cit.fop.maze.simulation;
+
+/**
+ * A fixed-size two-dimensional grid of bits, packed into an array of longs.
+ * It is used to store which tiles of a map layer are set, e.g. which tiles are walls
+ * or which tiles belong to the path of the Grievers.
+ *
+ * Coordinates are tile coordinates with (0, 0) in the bottom left corner, like the cells of a
+ * TiledMapTileLayer. Reading outside of the grid returns false.
+ */
+public class BitGrid {
+    private final int width;
+    private final int height;
+    private final long[] words;
+
+    /**
+     * Constructs an empty grid with the given size.
+     *
+     * @param width  the width of the grid in tiles
+     * @param height the height of the grid in tiles
+     */
+    public BitGrid(int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.words = new long[(width * height + 63) >>> 6];
+    }
+
+    /**
+     * Constructs a copy of the given grid.
+     *
+     * @param other the grid to copy
+     */
+    public BitGrid(BitGrid other) {
+        this.width = other.width;
+        this.height = other.height;
+        this.words = other.words.clone();
+    }
+
+    /**
+     * Checks if the given tile coordinates lie inside the grid.
+     *
+     * @param x the x-coordinate of the tile
+     * @param y the y-coordinate of the tile
+     * @return true if the tile is inside the grid, false otherwise
+     */
+    public boolean isInBounds(int x, int y) {
+        return x >= 0 && y >= 0 && x < width && y < height;
+    }
+
+    /**
+     * Gets the bit of the tile at the given coordinates.
+     *
+     * @param x the x-coordinate of the tile
+     * @param y the y-coordinate of the tile
+     * @return true if the tile is set, false if it is not set or outside the grid
+     */
+    public boolean get(int x, int y) {
+        if (!isInBounds(x, y)) {
+            return false;
+        }
+        int index = y * width + x;
+        return (words[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * Sets the bit of the tile at the given coordinates. Tiles outside the grid are ignored.
+     *
+     * @param x     the x-coordinate of the tile
+     * @param y     the y-coordinate of the tile
+     * @param value the new value of the tile
+     */
+    public void set(int x, int y, boolean value) {
+        if (!isInBounds(x, y)) {
+            return;
+        }
+        int index = y * width + x;
+        if (value) {
+            words[index >>> 6] |= 1L << index;
+        } else {
+            words[index >>> 6] &= ~(1L << index);
+        }
+    }
+
+    public int getWidth() {
+        return width;
+    }
+    public int getHeight() {
+        return height;
+    }
+}
@@ -0,0 +1,66 @@
+package de.tum.cit.fop.maze.simulation;
+
+import java.util.Arrays;
+
+/**
+ * Stores entities that only have a position, such as keys and the friends following the player.
+ * The position at the start of the current tick is kept as well, so rendering can interpolate.
+ */
+public class BodyStore extends EntityStore {
+    // Components
+    public float[] x, y;
+    public float[] lastX, lastY;
+
+    /**
+     * Creates an empty store.
+     *
+     * @param initialCapacity the number of entities the store can hold before it grows
+     */
+    public BodyStore(int initialCapacity) {
+        super(initialCapacity);
+        x = new float[capacity()];
+        y = new float[capacity()];
+        lastX = new float[capacity()];
+        lastY = new float[capacity()];
+    }
+
+    /**
+     * Adds an entity at the given position.
+     *
+     * @param x the X-coordinate of the entity
+     * @param y the Y-coordinate of the entity
+     * @return the id of the new entity
+     */
+    public int add(float x, float y) {
+        int slot = allocate();
+        this.x[slot] = x;
+        this.y[slot] = y;
+        this.lastX[slot] = x;
+        this.lastY[slot] = y;
+        return idAt(slot);
+    }
+
+    /**
+     * Remembers the positions of all entities at the start of a simulation tick.
+     */
+    public void snapshotPositions() {
+        System.arraycopy(x, 0, lastX, 0, size());
+        System.arraycopy(y, 0, lastY, 0, size());
+    }
+
+    @Override
+    protected void resize(int capacity) {
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        lastX = Arrays.copyOf(lastX, capacity);
+        lastY = Arrays.copyOf(lastY, capacity);
+    }
+
+    @Override
+    protected void move(int from, int to) {
+        x[to] = x[from];
+        y[to] = y[from];
+        lastX[to] = lastX[from];
+        lastY[to] = lastY[from];
+    }
+}
@@ -0,0 +1,161 @@
+package de.tum.cit.fop.maze.simulation;
+
+import com.badlogic.gdx.Preferences;
+
+/**
+ * The trail of positions the player left behind, kept in a ring buffer of fixed size. A crumb is dropped every
+ * {@link #getSpacing()} pixels along the way the player walked, so the crumbs follow corridors exactly and the
+ * distance along the trail is the number of crumbs times the spacing. Standing still drops no crumbs.
+ *
+ * Reading the crumb at some age takes constant time, and nothing is allocated after construction, so a follower
+ * that walks a fixed distance behind the player costs the same however long the trail is. When the buffer is
+ * full, the oldest crumbs are overwritten.
+ */
+public class Breadcrumbs {
+    // Crumbs, newest at head
+    private final float[] x, y;
+    private final int mask;
+    private int head = 0;
+    private int size = 0;
+
+    // Dropping
+    private final float spacing;
+    private final float maxStep;
+
+    /**
+     * Creates an empty trail.
+     *
+     * @param capacity the number of crumbs kept, a power of two
+     * @param spacing  the distance between two crumbs in pixels
+     * @param maxStep  the longest move in pixels that is still walked; a longer one, like being moved by a wall,
+     *                 starts a new trail
+     */
+    public Breadcrumbs(int capacity, float spacing, float maxStep) {
+        if (Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("The capacity must be a power of two: " + capacity);
+        }
+        this.x = new float[capacity];
+        this.y = new float[capacity];
+        this.mask = capacity - 1;
+        this.spacing = spacing;
+        this.maxStep = maxStep;
+    }
+
+    /**
+     * Drops the crumbs between the newest crumb and a new position, one every spacing along the straight line.
+     * The rest of the way, shorter than the spacing, is kept for the next move. An empty trail starts at the
+     * position, and a move longer than the maximum step starts a new trail there.
+     *
+     * @param toX the x-coordinate of the new position
+     * @param toY the y-coordinate of the new position
+     */
+    public void walkTo(float toX, float toY) {
+        if (size == 0) {
+            reset(toX, toY);
+            return;
+        }
+        float fromX = x[head];
+        float fromY = y[head];
+        float distance = (float) Math.sqrt((toX - fromX) * (toX - fromX) + (toY - fromY) * (toY - fromY));
+        if (distance > maxStep) {
+            reset(toX, toY);
+            return;
+        }
+        int steps = (int) (distance / spacing);
+        for (int i = 1; i <= steps; i++) {
+            float t = i * spacing / distance;
+            drop(fromX + (toX - fromX) * t, fromY + (toY - fromY) * t);
+        }
+    }
+
+    /**
+     * Removes all crumbs and starts a new trail at a position.
+     *
+     * @param startX the x-coordinate of the position
+     * @param startY the y-coordinate of the position
+     */
+    public void reset(float startX, float startY) {
+        size = 0;
+        drop(startX, startY);
+    }
+
+    private void drop(float crumbX, float crumbY) {
+        head = (head + 1) & mask;
+        x[head] = crumbX;
+        y[head] = crumbY;
+        size = Math.min(size + 1, x.length);
+    }
+
+    /**
+     * Saves the newest crumbs of the trail, newest first. The older crumbs, which nobody reads anymore,
+     * are left out, so a long trail does not fill the save with thousands of keys.
+     *
+     * @param preferences the Preferences instance for saving state
+     * @param count       the number of crumbs to save; the whole trail if it has fewer
+     */
+    public void saveState(Preferences preferences, int count) {
+        int savedSize = Math.min(count, size);
+        preferences.putInteger("trailSize", savedSize);
+        for (int age = 0; age < savedSize; age++) {
+            preferences.putFloat("trail_" + age + "_x", getX(age));
+            preferences.putFloat("trail_" + age + "_y", getY(age));
+        }
+    }
+
+    /**
+     * Replaces the trail with the saved crumbs, dropping them again from the oldest to the newest.
+     *
+     * @param preferences the Preferences instance containing saved state
+     * @return true if a trail was saved, false if the trail was left unchanged
+     */
+    public boolean loadState(Preferences preferences) {
+        int savedSize = Math.min(preferences.getInteger("trailSize", 0), x.length);
+        if (savedSize == 0) {
+            return false;
+        }
+        size = 0;
+        for (int age = savedSize - 1; age >= 0; age--) {
+            drop(preferences.getFloat("trail_" + age + "_x", 0f), preferences.getFloat("trail_" + age + "_y", 0f));
+        }
+        return true;
+    }
+
+    /**
+     * Gets the x-coordinate of a crumb. Ages beyond the oldest crumb give the oldest crumb.
+     *
+     * @param age the number of crumbs dropped after it, 0 for the newest crumb
+     * @return the x-coordinate of the crumb
+     */
+    public float getX(int age) {
+        return x[(head - Math.min(age, size - 1)) & mask];
+    }
+
+    /**
+     * Gets the y-coordinate of a crumb. Ages beyond the oldest crumb give the oldest crumb.
+     *
+     * @param age the number of crumbs dropped after it, 0 for the newest crumb
+     * @return the y-coordinate of the crumb
+     */
+    public float getY(int age) {
+        return y[(head - Math.min(age, size - 1)) & mask];
+    }
+
+    /**
+     * Gets the number of crumbs on the trail. A crumb at an age of at least this many has not been dropped
+     * yet, for example shortly after the trail was started again.
+     *
+     * @return the number of crumbs, at most the capacity
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the distance between two crumbs.
+     *
+     * @return the distance in pixels
+     */
+    public float getSpacing() {
+        return spacing;
+    }
+}
@@ -1,13 +1,6 @@
-package de.tum.cit.fop.maze;
+package de.tum.cit.fop.maze.simulation;
 
 import com.badlogic.gdx.Preferences;
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.maps.MapObject;
-import com.badlogic.gdx.maps.MapObjects;
-import com.badlogic.gdx.maps.objects.RectangleMapObject;
-import com.badlogic.gdx.maps.tiled.TiledMap;
-import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 
 import java.util.ArrayList;
@@ -16,105 +9,61 @@
 
 /**
  * Abstract base class for collectible items in the maze game.
- * This class handles rendering, collection mechanics, and state persistence for items.
+ * This class handles collection mechanics and state persistence for items.
  *
- * Items are loaded from a specific layer in the TiledMap, rendered as textures,
+ * Items are placed at the positions of an object layer of the map
  * and can be collected by the player if they are within a specified proximity.
  *
- * Subclasses must implement the {@link #onCollected()} method to define behavior when an item is collected.
+ * Subclasses must implement the {@link #onCollected(Vector2)} method to define behavior when an item is collected.
  */
 public abstract class CollectibleItem {
     // Constants
     private static final float DEFAULT_SCALE = 0.2f;
 
     // Core components
-    private final List<Texture> textures;
     private final List<Vector2> positions;
     private final float scale;
 
     /**
-     * Constructs a CollectibleItem with the specified textures, map, and layer name.
+     * Constructs a CollectibleItem at the specified positions.
      *
-     * @param textures  the list of textures representing the collectible items
-     * @param map       the TiledMap containing item positions
-     * @param layerName the name of the layer in the TiledMap where item positions are defined
+     * @param spawnPositions the positions of the items, copied from the map layout
      */
-    protected CollectibleItem(List<Texture> textures, TiledMap map, String layerName) {
-        this.textures = new ArrayList<>(textures);
-        this.positions = initializePositions(map, layerName);
+    protected CollectibleItem(Iterable<Vector2> spawnPositions) {
+        this.positions = initializePositions(spawnPositions);
         this.scale = DEFAULT_SCALE;
     }
 
     /**
-     * Initializes item positions based on the objects in the specified TiledMap layer.
+     * Copies the item positions so that collecting items does not modify the layout.
      *
-     * @param map       the TiledMap containing item positions
-     * @param layerName the name of the layer to extract item positions from
-     * @return a list of positions extracted from the map
+     * @param spawnPositions the positions of the items
+     * @return a list of positions the items can be collected from
      */
-    private List<Vector2> initializePositions(TiledMap map, String layerName) {
+    private List<Vector2> initializePositions(Iterable<Vector2> spawnPositions) {
         List<Vector2> itemPositions = new ArrayList<>();
-        MapObjects objects = map.getLayers().get(layerName).getObjects();
-
-        for (MapObject object : objects) {
-            Vector2 position = extractPosition(object);
-            if (position != null) {
-                itemPositions.add(position);
-            }
+        for (Vector2 position : spawnPositions) {
+            itemPositions.add(new Vector2(position));
         }
-
         return itemPositions;
     }
 
     /**
-     * Extracts the position from a map object, supporting rectangle objects or direct coordinates.
+     * Gets the positions of the items that have not been collected yet.
      *
-     * @param object the map object to extract the position from
-     * @return the extracted position, or null if no valid position is found
+     * @return the positions of the remaining items
      */
-    private Vector2 extractPosition(MapObject object) {
-        if (object instanceof RectangleMapObject) {
-            Rectangle rect = ((RectangleMapObject) object).getRectangle();
-            return new Vector2(rect.x, rect.y);
-        } else if (object.getProperties().containsKey("x") &&
-                object.getProperties().containsKey("y")) {
-            float x = object.getProperties().get("x", Float.class);
-            float y = object.getProperties().get("y", Float.class);
-            return new Vector2(x, y);
-        }
-        return null;
+    public List<Vector2> getPositions() {
+        return positions;
     }
 
-    /**
-     * Renders all collectible items at their current positions.
-     *
-     * @param batch the SpriteBatch used for rendering
-     */
-    public void render(SpriteBatch batch) {
-        for (int i = 0; i < positions.size(); i++) {
-            renderSingleItem(batch, i);
-        }
-    }
-
-    /**
-     * Renders a single collectible item at the specified index.
-     *
-     * @param batch the SpriteBatch used for rendering
-     * @param index the index of the item to render
-     */
-    private void renderSingleItem(SpriteBatch batch, int index) {
-        Texture texture = textures.get(index % textures.size());
-        Vector2 position = positions.get(index);
-
-        float width = texture.getWidth() * scale;
-        float height = texture.getHeight() * scale;
-
-        batch.draw(texture, position.x, position.y, width, height);
+    public float getScale() {
+        return scale;
     }
 
     /**
      * Checks if the player is within range to collect an item at the specified index.
-     * If so, removes the item and triggers the {@link #onCollected()} method.
+     * If so, removes the item and triggers the {@link #onCollected(Vector2)} method.
      *
      * @param playerPosition the player's current position
      * @param proximity      the maximum distance for item collection
@@ -129,7 +78,7 @@ public boolean checkAndCollect(Vector2 playerPosition, float proximity, int inde
             Vector2 position = iterator.next();
             if (isWithinCollectionRange(playerPosition, position, proximity)) {
                 iterator.remove();
-                onCollected();
+                onCollected(position);
                 return true;
             }
             currentIndex++;
@@ -138,22 +87,25 @@ public boolean checkAndCollect(Vector2 playerPosition, float proximity, int inde
     }
 
     /**
-     * Checks if the player is within range to collect all nearby items.
+     * Checks if the player is within range to collect all nearby items. The player's coordinates are
+     * compared directly, so checking the items every tick does not allocate.
      *
-     * @param playerPosition the player's current position
-     * @param proximity      the maximum distance for item collection
+     * @param playerX   the X-coordinate of the player
+     * @param playerY   the Y-coordinate of the player
+     * @param proximity the maximum distance for item collection
      * @return the number of items collected
      */
-    public int checkAndCollectAll(Vector2 playerPosition, float proximity) {
+    public int checkAndCollectAll(float playerX, float playerY, float proximity) {
         int collectedCount = 0;
-        Iterator<Vector2> iterator = positions.iterator();
 
-        while (iterator.hasNext()) {
-            Vector2 position = iterator.next();
-            if (isWithinCollectionRange(playerPosition, position, proximity)) {
-                iterator.remove();
-                onCollected();
+        for (int i = 0; i < positions.size(); ) {
+            Vector2 position = positions.get(i);
+            if (position.dst(playerX, playerY) <= proximity) {
+                positions.remove(i);
+                onCollected(position);
                 collectedCount++;
+            } else {
+                i++;
             }
         }
 
@@ -175,8 +127,10 @@ private boolean isWithinCollectionRange(Vector2 playerPos, Vector2 itemPos, floa
     /**
      * Abstract method to define behavior when an item is collected.
      * Must be implemented by subclasses.
+     *
+     * @param position the position the item was collected at
      */
-    protected abstract void onCollected();
+    protected abstract void onCollected(Vector2 position);
 
     /**
      * Saves the current state of collectible items to preferences.
@@ -235,11 +189,4 @@ private void loadPosition(Preferences preferences, String prefix, int index) {
         float y = preferences.getFloat(prefix + "itemPosY" + index, 0);
         positions.add(new Vector2(x, y));
     }
-
-    /**
-     * Disposes of textures used by this collectible item to free memory.
-     */
-    public void dispose() {
-        textures.forEach(Texture::dispose);
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,69 @@
+package de.tum.cit.fop.maze.simulation;
+
+/**
+ * The tiles that block movement, compiled into one bit per tile: the blocked tiles of the "walls" layer and
+ * the tiles the moving walls currently stand on. Player and Grievers ask it whether a point lies in a blocked
+ * tile, which is a single bit test.
+ *
+ * The moving walls report their moves as {@link TileChangeListener}. A tile a moving wall leaves stays blocked
+ * if it belongs to the "walls" layer, which is where the moving walls start.
+ */
+public class CollisionGrid implements TileChangeListener {
+    // Tiles
+    private final BitGrid staticWalls;
+    private final BitGrid blocked;
+    private final int tileWidth, tileHeight;
+
+    /**
+     * Compiles the collision grid of a map.
+     *
+     * @param layout           the layout of the map, containing the walls
+     * @param movingWallsLayer the tiles the moving walls stand on at the start
+     */
+    public CollisionGrid(MazeLayout layout, BitGrid movingWallsLayer) {
+        this.staticWalls = layout.getWalls();
+        this.blocked = new BitGrid(staticWalls);
+        this.tileWidth = layout.getTileWidth();
+        this.tileHeight = layout.getTileHeight();
+        for (int x = 0; x < blocked.getWidth(); x++) {
+            for (int y = 0; y < blocked.getHeight(); y++) {
+                if (movingWallsLayer.get(x, y)) {
+                    blocked.set(x, y, true);
+                }
+            }
+        }
+    }
+
+    /**
+     * Blocks or frees a tile when a moving wall enters or leaves it.
+     *
+     * @param tileX    the x-coordinate of the tile
+     * @param tileY    the y-coordinate of the tile
+     * @param occupied true if a wall entered the tile, false if it left
+     */
+    @Override
+    public void onTileChanged(int tileX, int tileY, boolean occupied) {
+        blocked.set(tileX, tileY, occupied || staticWalls.get(tileX, tileY));
+    }
+
+    /**
+     * Checks if a point lies in a blocked tile. Points outside of the map are not blocked.
+     *
+     * @param x the x-coordinate of the point in pixels
+     * @param y the y-coordinate of the point in pixels
+     * @return true if the tile of the point is blocked
+     */
+    public boolean isBlocked(float x, float y) {
+        return blocked.get((int) (x / tileWidth), (int) (y / tileHeight));
+    }
+
+    public BitGrid getBlocked() {
+        return blocked;
+    }
+    public int getTileWidth() {
+        return tileWidth;
+    }
+    public int getTileHeight() {
+        return tileHeight;
+    }
+}
@@ -0,0 +1,91 @@
+package de.tum.cit.fop.maze.simulation;
+
+/**
+ * The four directions an entity can face. Directions are plain int constants, so they can be stored in
+ * the primitive arrays of an {@link EntityStore} and used as an index into the textures of a direction.
+ */
+public final class Direction {
+    // Directions
+    public static final int UP = 0;
+    public static final int DOWN = 1;
+    public static final int LEFT = 2;
+    public static final int RIGHT = 3;
+    public static final int COUNT = 4;
+
+    private static final String[] NAMES = {"up", "down", "left", "right"};
+    private static final int[] DX = {0, 0, -1, 1};
+    private static final int[] DY = {1, -1, 0, 0};
+
+    private Direction() {
+    }
+
+    /**
+     * Gets the direction opposite to the given one.
+     *
+     * @param direction one of the direction constants
+     * @return the opposite direction
+     */
+    public static int opposite(int direction) {
+        return direction ^ 1;
+    }
+
+    /**
+     * Gets the horizontal step of a direction in tiles.
+     *
+     * @param direction one of the direction constants
+     * @return -1, 0 or 1
+     */
+    public static int dx(int direction) {
+        return DX[direction];
+    }
+
+    /**
+     * Gets the vertical step of a direction in tiles; up is positive, like the rows of a {@link BitGrid}.
+     *
+     * @param direction one of the direction constants
+     * @return -1, 0 or 1
+     */
+    public static int dy(int direction) {
+        return DY[direction];
+    }
+
+    /**
+     * Gets the direction of a movement along its larger axis.
+     *
+     * @param deltaX the horizontal movement
+     * @param deltaY the vertical movement
+     * @return RIGHT or LEFT if the movement is mostly horizontal, UP or DOWN otherwise
+     */
+    public static int of(float deltaX, float deltaY) {
+        if (Math.abs(deltaX) > Math.abs(deltaY)) {
+            return deltaX > 0 ? RIGHT : LEFT;
+        }
+        return deltaY > 0 ? UP : DOWN;
+    }
+
+    /**
+     * Gets the name of a direction as used in saved games ("up", "down", "left" or "right").
+     *
+     * @param direction one of the direction constants
+     * @return the name of the direction
+     */
+    public static String name(int direction) {
+        return NAMES[direction];
+    }
+
+    /**
+     * Parses the name of a direction.
+     *
+     * @param name         the name of the direction
+     * @param defaultValue the direction returned if the name is unknown
+     * @return the direction with the given name
+     */
+    public static int parse(String name, int defaultValue) {
+        for (int i = 0; i < NAMES.length; i++) {
+            if (NAMES[i].equals(name)) {
+                return i;
+            }
+        }
+        return defaultValue;
+    }
+}
@@ -1,4 +1,4 @@
-package de.tum.cit.fop.maze;
+package de.tum.cit.fop.maze.simulation;
 
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
@@ -44,22 +44,24 @@ public boolean isPlayerNearby(Vector2 playerPosition) {
      * Attempts to open the door if the player meets the necessary conditions.
      *
      * The player must be near the door, have collected the key, and have at least one saved friend.
-     * If the conditions are met, the level is completed. Otherwise, a HUD message is displayed.
+     * If the conditions are met, the level is completed. Otherwise, the scoreboard reports that a friend is needed.
      *
      * @param playerPosition the position of the player
-     * @param hud            the HUD instance managing game information
-     * @param game           the current instance of the MazeRunnerGame
+     * @param hud            the Scoreboard managing game information
      * @param friends        the Friends instance containing information about saved friends
+     * @return true if the door was opened and the level is completed, false otherwise
      */
-    public void tryToOpen(Vector2 playerPosition, HUD hud, MazeRunnerGame game, Friends friends) {
+    public boolean tryToOpen(Vector2 playerPosition, Scoreboard hud, Friends friends) {
         if (!isPlayerNearby(playerPosition) || !hud.isKeyCollected()) {
-            return;
+            return false;
         }
 
         if (hasSavedFriends(friends)) {
-            completeLevel(game, hud);
+            hud.stopTimer();
+            return true;
         } else {
-            hud.needFriend();
+            hud.reportExitNeedsFriend();
+            return false;
         }
     }
 
@@ -70,31 +72,16 @@ public void tryToOpen(Vector2 playerPosition, HUD hud, MazeRunnerGame game, Frie
      * @return true if there are saved friends, false otherwise
      */
     private boolean hasSavedFriends(Friends friends) {
-        return !friends.getFollowingFriendsPositions().isEmpty();
-    }
-
-    /**
-     * Completes the level by stopping the timer, calculating the final score, and transitioning
-     * to the GameClearScreen. A victory sound is also played.
-     *
-     * @param game the current instance of the MazeRunnerGame
-     * @param hud  the HUD instance managing game information
-     */
-    private void completeLevel(MazeRunnerGame game, HUD hud) {
-        hud.stopTimer();
-        float finalScore = calculateFinalScore(hud);
-
-        game.setScreen(new GameClearScreen(game, finalScore));
-        SoundManager.playVictorySound();
+        return friends.getFollowingCount() > 0;
     }
 
     /**
      * Calculates the final score based on base score, time, and remaining lives.
      *
-     * @param hud the HUD instance containing game statistics
+     * @param hud the Scoreboard containing game statistics
      * @return the calculated final score
      */
-    private float calculateFinalScore(HUD hud) {
+    public static float calculateFinalScore(Scoreboard hud) {
         return BASE_SCORE +
                 (hud.getFinalTime() * SCORE_TIME_MULTIPLIER) +
                 (hud.getLives() * LIFE_BONUS);
@@ -0,0 +1,153 @@
+package de.tum.cit.fop.maze.simulation;
+
+import java.util.Arrays;
+
+/**
+ * Base class of the structure-of-arrays entity stores. A store keeps every component of its entities
+ * (position, timers, flags, ...) in its own primitive array, so that a system updating one component of all
+ * entities walks through contiguous memory and no objects are allocated while the game runs.
+ *
+ * The entities of a store occupy the slots 0 to size - 1. Removing an entity moves another one into its slot,
+ * so slots are not stable; every entity also has an id that stays the same until it is removed.
+ * Subclasses declare the component arrays and implement {@link #resize(int)} and {@link #move(int, int)}.
+ */
+public abstract class EntityStore {
+    // Constants
+    private static final int NO_SLOT = -1;
+
+    // Slots and Ids
+    private int size = 0;
+    private int capacity;
+    private int[] idOfSlot;
+    private int[] slotOfId;
+    private int nextId = 0;
+
+    /**
+     * Creates an empty store.
+     *
+     * @param initialCapacity the number of entities the store can hold before it grows
+     */
+    protected EntityStore(int initialCapacity) {
+        this.capacity = Math.max(1, initialCapacity);
+        this.idOfSlot = new int[capacity];
+        this.slotOfId = new int[capacity];
+        Arrays.fill(slotOfId, NO_SLOT);
+    }
+
+    /**
+     * Resizes every component array to the given capacity, keeping the components of the current entities.
+     *
+     * @param capacity the new length of the component arrays
+     */
+    protected abstract void resize(int capacity);
+
+    /**
+     * Copies every component of the entity in one slot into another slot.
+     *
+     * @param from the slot to copy from
+     * @param to   the slot to copy to
+     */
+    protected abstract void move(int from, int to);
+
+    /**
+     * Adds an entity at the end of the store. The caller initializes its components in the returned slot;
+     * components left over from removed entities are not cleared.
+     *
+     * @return the slot of the new entity
+     */
+    protected int allocate() {
+        if (size == capacity) {
+            capacity *= 2;
+            idOfSlot = Arrays.copyOf(idOfSlot, capacity);
+            resize(capacity);
+        }
+        int id = nextId++;
+        if (id >= slotOfId.length) {
+            int oldLength = slotOfId.length;
+            slotOfId = Arrays.copyOf(slotOfId, Math.max(id + 1, oldLength * 2));
+            Arrays.fill(slotOfId, oldLength, slotOfId.length, NO_SLOT);
+        }
+        int slot = size++;
+        idOfSlot[slot] = id;
+        slotOfId[id] = slot;
+        return slot;
+    }
+
+    /**
+     * Removes the entity in a slot by moving the last entity into it. This takes constant time,
+     * but changes the order of the entities.
+     *
+     * @param slot the slot of the entity to remove
+     */
+    public void removeAt(int slot) {
+        int last = size - 1;
+        slotOfId[idOfSlot[slot]] = NO_SLOT;
+        if (slot != last) {
+            move(last, slot);
+            idOfSlot[slot] = idOfSlot[last];
+            slotOfId[idOfSlot[slot]] = slot;
+        }
+        size--;
+    }
+
+    /**
+     * Removes the entity in a slot and moves all following entities one slot forward,
+     * which keeps the order of the entities.
+     *
+     * @param slot the slot of the entity to remove
+     */
+    public void removeOrderedAt(int slot) {
+        slotOfId[idOfSlot[slot]] = NO_SLOT;
+        for (int i = slot; i < size - 1; i++) {
+            move(i + 1, i);
+            idOfSlot[i] = idOfSlot[i + 1];
+            slotOfId[idOfSlot[i]] = i;
+        }
+        size--;
+    }
+
+    /**
+     * Removes the entity with the given id, if it is still in the store.
+     *
+     * @param id the id of the entity
+     */
+    public void remove(int id) {
+        int slot = slotOf(id);
+        if (slot != NO_SLOT) {
+            removeAt(slot);
+        }
+    }
+
+    /**
+     * Removes all entities.
+     */
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            slotOfId[idOfSlot[i]] = NO_SLOT;
+        }
+        size = 0;
+    }
+
+    /**
+     * Gets the current slot of an entity.
+     *
+     * @param id the id of the entity
+     * @return the slot of the entity, or -1 if it was removed
+     */
+    public int slotOf(int id) {
+        return id >= 0 && id < slotOfId.length ? slotOfId[id] : NO_SLOT;
+    }
+
+    public int idAt(int slot) {
+        return idOfSlot[slot];
+    }
+    public int size() {
+        return size;
+    }
+    public boolean isEmpty() {
+        return size == 0;
+    }
+    protected int capacity() {
+        return capacity;
+    }
+}
@@ -0,0 +1,301 @@
+package de.tum.cit.fop.maze.simulation;
+
+import java.util.Arrays;
+
+/**
+ * A flow field over the walkable tiles of a grid: for every tile it stores the number of steps to a goal tile
+ * and the direction of the first step, found by a breadth-first search from the goal. Any number of entities
+ * can then walk towards the goal by reading the direction of the tile they stand on, without searching
+ * themselves. Instead of a single goal, the field can also lead to the nearest of many source tiles,
+ * which makes it a distance transform of the sources.
+ *
+ * The field is only computed again when the goal moves to another tile. When single tiles of the grid change
+ * while the goal stays, {@link #repair(int, int)} corrects only the tiles whose distance depends on them,
+ * in the manner of incremental searches like D* Lite. The arrays are allocated once, so updating the field
+ * does not allocate, apart from growing the repair queue.
+ */
+public class FlowField {
+    // Constants
+    public static final int UNREACHABLE = Integer.MAX_VALUE;
+    public static final int NO_DIRECTION = -1;
+
+    // Grid
+    private final BitGrid walkable;
+    private final int width, height;
+
+    // Field
+    private final int[] distance;
+    private final byte[] direction;
+    private final int[] queue;
+    private int goalX = -1, goalY = -1;
+    private BitGrid sources;
+
+    // Repair
+    private final IntHeap repairQueue = new IntHeap(64);
+    private final int[] affectedGeneration;
+    private int currentGeneration = 0;
+    private int lastRepairedCount;
+
+    /**
+     * Creates a flow field without a goal, in which every tile is unreachable.
+     *
+     * @param walkable the walkable tiles; every change of the grid has to be followed by {@link #repair(int, int)}
+     */
+    public FlowField(BitGrid walkable) {
+        this.walkable = walkable;
+        this.width = walkable.getWidth();
+        this.height = walkable.getHeight();
+        this.distance = new int[width * height];
+        this.direction = new byte[width * height];
+        this.queue = new int[width * height];
+        this.affectedGeneration = new int[width * height];
+        Arrays.fill(distance, UNREACHABLE);
+        Arrays.fill(direction, (byte) NO_DIRECTION);
+    }
+
+    /**
+     * Moves the goal of the field and computes the field again if the goal changed its tile.
+     * The goal tile itself does not have to be walkable.
+     *
+     * @param tileX the x-coordinate of the goal tile
+     * @param tileY the y-coordinate of the goal tile
+     * @return true if the field was computed again, false if the goal stayed on its tile
+     */
+    public boolean update(int tileX, int tileY) {
+        if (sources == null && tileX == goalX && tileY == goalY) {
+            return false;
+        }
+        goalX = tileX;
+        goalY = tileY;
+        sources = null;
+        compute();
+        return true;
+    }
+
+    /**
+     * Makes all set tiles of a grid the goals of the field and computes the field again, so that it leads
+     * every tile to its nearest source. The source tiles do not have to be walkable.
+     *
+     * @param sources the source tiles, of the same size as the walkable grid; every change of the grid
+     *                has to be followed by {@link #repair(int, int)}
+     */
+    public void updateSources(BitGrid sources) {
+        this.sources = sources;
+        goalX = -1;
+        goalY = -1;
+        compute();
+    }
+
+    private boolean isGoal(int tileX, int tileY) {
+        return sources != null ? sources.get(tileX, tileY) : tileX == goalX && tileY == goalY;
+    }
+
+    private void compute() {
+        Arrays.fill(distance, UNREACHABLE);
+        Arrays.fill(direction, (byte) NO_DIRECTION);
+
+        int head = 0, tail = 0;
+        if (sources != null) {
+            for (int tile = 0; tile < distance.length; tile++) {
+                if (sources.get(tile % width, tile / width)) {
+                    distance[tile] = 0;
+                    queue[tail++] = tile;
+                }
+            }
+        } else if (walkable.isInBounds(goalX, goalY)) {
+            int goal = goalY * width + goalX;
+            distance[goal] = 0;
+            queue[tail++] = goal;
+        }
+        while (head < tail) {
+            int tile = queue[head++];
+            int tileX = tile % width;
+            int tileY = tile / width;
+            for (int d = 0; d < Direction.COUNT; d++) {
+                int nextX = tileX + Direction.dx(d);
+                int nextY = tileY + Direction.dy(d);
+                if (!walkable.get(nextX, nextY)) {
+                    continue;
+                }
+                int next = nextY * width + nextX;
+                if (distance[next] == UNREACHABLE) {
+                    distance[next] = distance[tile] + 1;
+                    direction[next] = (byte) Direction.opposite(d);
+                    queue[tail++] = next;
+                }
+            }
+        }
+    }
+
+    /**
+     * Corrects the field after a tile of the grid became walkable or blocked, or a tile of the sources was
+     * set or cleared, without computing it again.
+     *
+     * A blocked tile or a cleared source invalidates itself and every tile whose first steps lead over it.
+     * These tiles take the best distance offered by their valid neighbours and pass it on in order of distance.
+     * A tile that became walkable or a source takes its new distance and passes it on as long as it shortens
+     * the way of the tiles behind it. Either way the work is limited to the tiles whose distance changes.
+     *
+     * @param tileX the x-coordinate of the changed tile
+     * @param tileY the y-coordinate of the changed tile
+     */
+    public void repair(int tileX, int tileY) {
+        lastRepairedCount = 0;
+        if (!walkable.isInBounds(tileX, tileY) || (sources == null && !walkable.isInBounds(goalX, goalY))) {
+            return;
+        }
+        int tile = tileY * width + tileX;
+        repairQueue.clear();
+        if (isGoal(tileX, tileY)) {
+            if (distance[tile] != 0) {
+                distance[tile] = 0;
+                direction[tile] = (byte) NO_DIRECTION;
+                repairQueue.push(tile, 0);
+            }
+        } else if (distance[tile] != UNREACHABLE && (distance[tile] == 0 || !walkable.get(tileX, tileY))) {
+            invalidateDependents(tile);
+        } else if (walkable.get(tileX, tileY) && offerBestNeighbour(tile)) {
+            repairQueue.push(tile, distance[tile]);
+        }
+        propagate();
+    }
+
+    /**
+     * Marks a tile and all tiles whose first steps lead over it as unreachable, and then lets every marked
+     * tile that is still walkable take the best distance of its unmarked neighbours.
+     */
+    private void invalidateDependents(int tile) {
+        currentGeneration++;
+        int head = 0, tail = 0;
+        affectedGeneration[tile] = currentGeneration;
+        queue[tail++] = tile;
+        while (head < tail) {
+            int current = queue[head++];
+            int currentX = current % width;
+            int currentY = current / width;
+            for (int d = 0; d < Direction.COUNT; d++) {
+                int nextX = currentX + Direction.dx(d);
+                int nextY = currentY + Direction.dy(d);
+                if (!walkable.isInBounds(nextX, nextY)) {
+                    continue;
+                }
+                int next = nextY * width + nextX;
+                if (affectedGeneration[next] != currentGeneration && direction[next] == Direction.opposite(d)) {
+                    affectedGeneration[next] = currentGeneration;
+                    queue[tail++] = next;
+                }
+            }
+        }
+        for (int i = 0; i < tail; i++) {
+            distance[queue[i]] = UNREACHABLE;
+            direction[queue[i]] = (byte) NO_DIRECTION;
+        }
+        lastRepairedCount = tail;
+        for (int i = 0; i < tail; i++) {
+            int current = queue[i];
+            if (walkable.get(current % width, current / width) && offerBestNeighbour(current)) {
+                repairQueue.push(current, distance[current]);
+            }
+        }
+    }
+
+    /**
+     * Lowers the distance of a tile to one more than its closest neighbour.
+     *
+     * @return true if the distance of the tile became shorter
+     */
+    private boolean offerBestNeighbour(int tile) {
+        int tileX = tile % width;
+        int tileY = tile / width;
+        boolean improved = false;
+        for (int d = 0; d < Direction.COUNT; d++) {
+            int nextX = tileX + Direction.dx(d);
+            int nextY = tileY + Direction.dy(d);
+            if (!walkable.isInBounds(nextX, nextY)) {
+                continue;
+            }
+            int neighbourDistance = distance[nextY * width + nextX];
+            if (neighbourDistance != UNREACHABLE && neighbourDistance + 1 < distance[tile]) {
+                distance[tile] = neighbourDistance + 1;
+                direction[tile] = (byte) d;
+                improved = true;
+            }
+        }
+        return improved;
+    }
+
+    /**
+     * Passes the distances of the queued tiles on to their neighbours, closest tiles first,
+     * until no distance becomes shorter.
+     */
+    private void propagate() {
+        while (!repairQueue.isEmpty()) {
+            int tileDistance = repairQueue.peekPriority();
+            int tile = repairQueue.pop();
+            if (tileDistance != distance[tile]) {
+                continue;
+            }
+            lastRepairedCount++;
+            int tileX = tile % width;
+            int tileY = tile / width;
+            for (int d = 0; d < Direction.COUNT; d++) {
+                int nextX = tileX + Direction.dx(d);
+                int nextY = tileY + Direction.dy(d);
+                if (!walkable.get(nextX, nextY)) {
+                    continue;
+                }
+                int next = nextY * width + nextX;
+                if (tileDistance + 1 < distance[next]) {
+                    distance[next] = tileDistance + 1;
+                    direction[next] = (byte) Direction.opposite(d);
+                    repairQueue.push(next, tileDistance + 1);
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the number of steps from a tile to the goal.
+     *
+     * @param tileX the x-coordinate of the tile
+     * @param tileY the y-coordinate of the tile
+     * @return the number of steps, 0 on a goal, or {@link #UNREACHABLE}
+     */
+    public int getDistance(int tileX, int tileY) {
+        if (!walkable.isInBounds(tileX, tileY)) {
+            return UNREACHABLE;
+        }
+        return distance[tileY * width + tileX];
+    }
+
+    /**
+     * Gets the direction of the first step from a tile towards the goal.
+     *
+     * @param tileX the x-coordinate of the tile
+     * @param tileY the y-coordinate of the tile
+     * @return one of the {@link Direction} constants, or {@link #NO_DIRECTION} on a goal and on tiles
+     *         that cannot reach it
+     */
+    public int getDirection(int tileX, int tileY) {
+        if (!walkable.isInBounds(tileX, tileY)) {
+            return NO_DIRECTION;
+        }
+        return direction[tileY * width + tileX];
+    }
+
+    /**
+     * Gets the number of tiles the last repair invalidated or corrected, to measure how much work it did.
+     *
+     * @return the number of repaired tiles
+     */
+    public int getLastRepairedCount() {
+        return lastRepairedCount;
+    }
+
+    public int getGoalX() {
+        return goalX;
+    }
+    public int getGoalY() {
+        return goalY;
+    }
+}
@@ -0,0 +1,418 @@
+package de.tum.cit.fop.maze.simulation;
+
+import com.badlogic.gdx.Preferences;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.IntArray;
+
+/**
+ * Manages the "friends" in the maze game. Friends are either on the map waiting
+ * to be saved or following the player after being saved. This class handles
+ * their movement, saving, and interaction with the player and other entities.
+ *
+ * Friends can collide with walls or be caught by a Griever, affecting the player's lives.
+ * It also manages saving and loading friend states.
+ *
+ * The following friends are kept in a {@link BodyStore} in the order they follow the player,
+ * and the map friends in primitive arrays, so updating them does not allocate.
+ *
+ * The following friends walk the player's {@link Breadcrumbs}: every friend stands on the crumb a fixed
+ * distance along the trail behind the one in front of it, so the train follows the corridors the player
+ * took instead of cutting corners, and moving it costs one lookup per friend however long it is.
+ */
+public class Friends {
+
+    private final BodyStore followers = new BodyStore(16);
+    private final float[] mapFriendsX, mapFriendsY;
+    private final boolean[] isMapFriendSaved;
+    private static final float FOLLOWING_DISTANCE = 5f;
+    private static final float CRUMB_SPACING = 1f;
+    private static final int CRUMBS_PER_FRIEND = (int) (FOLLOWING_DISTANCE / CRUMB_SPACING);
+    private static final int TRAIL_CAPACITY = 4096;
+    private static final float MAX_TRAIL_STEP = 16f;
+    private static final float GRIEVER_CATCH_RANGE = 5f;
+    private static final float SPRITE_SIZE = 16f;
+    private float scale = 0.2f;
+    private float lastPlayerX, lastPlayerY;
+    private final Breadcrumbs trail = new Breadcrumbs(TRAIL_CAPACITY, CRUMB_SPACING, MAX_TRAIL_STEP);
+    private final GameEventBus events;
+    private final IntArray nearbyGrievers = new IntArray();
+
+    // Variables for animation state
+    private float stateTime = 0f;
+    private float walkAnimationTime = 0.1f;
+    private int frameDirection = Direction.DOWN;
+    private int walkFrame = 0;
+
+    /**
+     * Constructs a Friends instance, initializing friends' positions and states.
+     *
+     * @param layout   the layout of the map containing the friends' positions
+     * @param player   the player object for initial friend placement
+     * @param events the bus saved friends are published on
+     */
+    public Friends(MazeLayout layout, Player player, GameEventBus events) {
+        this.events = events;
+
+        // Initialize player-related positions and map friends
+        lastPlayerX = player.getX();
+        lastPlayerY = player.getY();
+        int mapFriendCount = layout.getFriendSpawns().size;
+        mapFriendsX = new float[mapFriendCount];
+        mapFriendsY = new float[mapFriendCount];
+        for (int i = 0; i < mapFriendCount; i++) {
+            mapFriendsX[i] = layout.getFriendSpawns().get(i).x;
+            mapFriendsY[i] = layout.getFriendSpawns().get(i).y;
+        }
+        isMapFriendSaved = new boolean[mapFriendCount];
+        initializeInitialFollowers(player);
+    }
+
+    /**
+     * Initializes a set number of friends to follow the player at the start of the game. The trail starts
+     * as if the player had walked in from the left, so the friends stand in a row behind the player.
+     *
+     * @param player the player object for initial positioning
+     */
+    private void initializeInitialFollowers(Player player) {
+        int initialFollowers = 3;
+        trail.reset(player.getX() - initialFollowers * FOLLOWING_DISTANCE, player.getY());
+        trail.walkTo(player.getX(), player.getY());
+        for (int i = 0; i < initialFollowers; i++) {
+            followers.add(trail.getX((i + 1) * CRUMBS_PER_FRIEND), trail.getY((i + 1) * CRUMBS_PER_FRIEND));
+        }
+    }
+
+    /**
+     * Updates the animation state by alternating between the two walking frames of a direction
+     * based on a time threshold. Switching to another direction always starts with its first frame.
+     *
+     * @param delta              the time in seconds since the last update
+     * @param animationDirection the direction whose frames should be shown
+     */
+    private void animate(float delta, int animationDirection) {
+        stateTime += delta;
+        if (stateTime >= walkAnimationTime) {
+            walkFrame = (frameDirection == animationDirection && walkFrame == 0) ? 1 : 0;
+            frameDirection = animationDirection;
+            stateTime = 0f;
+        }
+    }
+
+    /**
+     * Remembers the followers' positions at the start of a simulation tick,
+     * so that rendering can interpolate between the last two ticks.
+     */
+    public void snapshotPositions() {
+        followers.snapshotPositions();
+    }
+
+    /**
+     * Checks if the player is within the specified proximity to a map friend at the given index.
+     * If the friend is within range and has not been saved, they are marked as saved,
+     * added to the following friends, and the rescue is published.
+     *
+     * @param playerX   the X-coordinate of the player
+     * @param playerY   the Y-coordinate of the player
+     * @param proximity the maximum distance within which a friend can be saved
+     * @param index     the index of the map friend to check
+     * @return true if the friend was saved, false otherwise
+     */
+    public boolean checkAndSaveMapFriend(float playerX, float playerY, float proximity, int index) {
+        if (!isMapFriendSaved[index]) {
+            float distance = Vector2.dst(playerX, playerY, mapFriendsX[index], mapFriendsY[index]);
+            if (distance <= proximity) {
+                isMapFriendSaved[index] = true;
+                int age = (followers.size() + 1) * CRUMBS_PER_FRIEND;
+                int id = followers.add(trail.getX(age), trail.getY(age));
+                events.publish(GameEventBus.FRIEND_RESCUED, id, playerX, playerY);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Iterates through all map friends to check if they are within the specified proximity to the player.
+     * Marks any nearby unsaved friends as saved, adds them to the following friends,
+     * and counts the saved friends.
+     *
+     * @param playerX   the X-coordinate of the player
+     * @param playerY   the Y-coordinate of the player
+     * @param proximity the maximum distance within which friends can be saved
+     * @return the number of friends saved during this check
+     */
+    public int checkAndSaveAllMapFriends(float playerX, float playerY, float proximity) {
+        int savedFriends = 0;
+        for (int i = 0; i < isMapFriendSaved.length; i++) {
+            if (checkAndSaveMapFriend(playerX, playerY, proximity, i)) {
+                savedFriends++;
+            }
+        }
+        return savedFriends;
+    }
+
+    /**
+     * Updates the positions of friends following the player based on the player's movement.
+     * The player drops crumbs along the way it walked, and every friend moves to the crumb
+     * {@value #FOLLOWING_DISTANCE} pixels along the trail behind the one in front of it.
+     *
+     * @param player the player whose movement the friends follow
+     * @param delta  the time elapsed since the last frame
+     */
+    public void updateFollowingPositions(Player player, float delta) {
+        float playerX = player.getX();
+        float playerY = player.getY();
+
+        float movementX = playerX - lastPlayerX;
+        float movementY = playerY - lastPlayerY;
+        lastPlayerX = playerX;
+        lastPlayerY = playerY;
+
+        if (movementX * movementX + movementY * movementY > 0) {
+            trail.walkTo(playerX, playerY);
+            if (!followers.isEmpty()) {
+                animate(delta, Direction.of(movementX, movementY));
+                placeFollowersOnTrail();
+            }
+        }
+    }
+
+    /**
+     * Moves every following friend to its crumb of the trail. After the player was moved further than a
+     * step, e.g. back to safety after a wall crushed it, the trail starts again, and the friends whose crumbs
+     * have not been dropped yet keep standing where they are until the player has walked far enough.
+     */
+    private void placeFollowersOnTrail() {
+        float[] x = followers.x;
+        float[] y = followers.y;
+        for (int i = 0; i < followers.size(); i++) {
+            int age = (i + 1) * CRUMBS_PER_FRIEND;
+            if (age >= trail.size()) {
+                break;
+            }
+            x[i] = trail.getX(age);
+            y[i] = trail.getY(age);
+        }
+    }
+
+    /**
+     * Updates the friends once per tick: saves the map friends the player reached, moves the following
+     * friends and lets the Grievers catch the ones they touch.
+     *
+     * @param player            the player object for movement calculations
+     * @param hud               the Scoreboard for managing game statistics
+     * @param interactionRadius the radius within which friends can be saved
+     * @param delta             the time elapsed since the last frame
+     * @param grieverIndex      the Grievers indexed by position
+     * @param grievers          the store holding the positions of the Grievers
+     */
+    public void update(Player player, Scoreboard hud, float interactionRadius, float delta,
+                       SpatialHash grieverIndex, GrieverStore grievers) {
+        int savedFriends = checkAndSaveAllMapFriends(player.getX(), player.getY(), interactionRadius);
+        for (int i = 0; i < savedFriends; i++) {
+            hud.incrementLives();
+        }
+
+        updateFollowingPositions(player, delta);
+        checkFriendsCollisionWithGrievers(grieverIndex, grievers, hud);
+    }
+
+    /**
+     * Removes a friend at the specified index from the friends following the player.
+     * The friends behind it move up one place.
+     *
+     * @param index the index of the friend to remove
+     */
+    public void removeFriendAt(int index) {
+        if (index >= 0 && index < followers.size()) {
+            followers.removeOrderedAt(index);
+        }
+    }
+
+    /**
+     * Removes the last friend following the player, if there is one.
+     */
+    public void removeLastFriend() {
+        removeFriendAt(followers.size() - 1);
+    }
+
+    /**
+     * Checks for collisions between friends following the player and the Grievers around them.
+     * A friend caught by a Griever is removed, and the player's lives are decremented.
+     *
+     * @param grieverIndex the Grievers indexed by position
+     * @param grievers     the store holding the positions of the Grievers
+     * @param hud          the Scoreboard for managing game statistics, such as player lives
+     */
+    public void checkFriendsCollisionWithGrievers(SpatialHash grieverIndex, GrieverStore grievers, Scoreboard hud) {
+        for (int i = 0; i < followers.size(); i++) {
+            if (isCaught(followers.x[i], followers.y[i], grieverIndex, grievers)) {
+                followers.removeOrderedAt(i);
+                hud.decrementLives();
+                i--;
+            }
+        }
+    }
+
+    /**
+     * Checks if a Griever is close enough to a friend to catch it.
+     *
+     * @param friendX      the x-coordinate of the friend
+     * @param friendY      the y-coordinate of the friend
+     * @param grieverIndex the Grievers indexed by position
+     * @param grievers     the store holding the positions of the Grievers
+     * @return true if a Griever catches the friend, false otherwise
+     */
+    private boolean isCaught(float friendX, float friendY, SpatialHash grieverIndex, GrieverStore grievers) {
+        grieverIndex.queryRadius(friendX, friendY, GRIEVER_CATCH_RANGE, nearbyGrievers);
+        for (int k = 0; k < nearbyGrievers.size; k++) {
+            int slot = grievers.slotOf(nearbyGrievers.get(k));
+            float diffX = grievers.x[slot] - friendX;
+            float diffY = grievers.y[slot] - friendY;
+            if ((float) Math.sqrt(diffX * diffX + diffY * diffY) < GRIEVER_CATCH_RANGE) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks for collisions between friends following the player and a moving wall that just entered a tile.
+     * If a collision is detected, the friend is removed, and the player's lives are decremented.
+     *
+     * @param wall the Wall object representing the moving wall
+     * @param hud  the Scoreboard for managing game statistics, such as player lives
+     */
+    public void checkFriendsCollisionWithWall(Wall wall, Scoreboard hud) {
+        if (!wall.hasEnteredTile()) {
+            return;
+        }
+        float wallX = wall.getTargetX() * wall.getTileWidth();
+        float wallY = wall.getTargetY() * wall.getTileHeight();
+        float wallWidth = wall.getTileWidth();
+        float wallHeight = wall.getTileHeight();
+
+        for (int i = 0; i < followers.size(); i++) {
+            if (checkCollision(followers.x[i], followers.y[i], SPRITE_SIZE * scale, SPRITE_SIZE * scale,
+                    wallX, wallY, wallWidth, wallHeight)) {
+                removeFriendAt(i);
+                hud.decrementLives();
+                break;
+            }
+        }
+    }
+
+    /**
+     * Checks for a collision between two rectangular objects.
+     *
+     * @param x1      the x-coordinate of the first rectangle
+     * @param y1      the y-coordinate of the first rectangle
+     * @param width1  the width of the first rectangle
+     * @param height1 the height of the first rectangle
+     * @param x2      the x-coordinate of the second rectangle
+     * @param y2      the y-coordinate of the second rectangle
+     * @param width2  the width of the second rectangle
+     * @param height2 the height of the second rectangle
+     * @return true if the rectangles overlap, false otherwise
+     */
+    private boolean checkCollision(float x1, float y1, float width1, float height1,
+                                   float x2, float y2, float width2, float height2) {
+        return x1 < x2 + width2 && x1 + width1 > x2 &&
+                y1 < y2 + height2 && y1 + height1 > y2;
+    }
+
+    /**
+     * Saves the state of all friends (both map friends and followers) to preferences, together with the part
+     * of the trail they can still follow.
+     *
+     * @param preferences the Preferences instance for saving state
+     */
+    public void saveFriendState(Preferences preferences) {
+        for (int i = 0; i < isMapFriendSaved.length; i++) {
+            preferences.putBoolean("mapFriendSaved_" + i, isMapFriendSaved[i]);
+        }
+
+        preferences.putInteger("followingFriendsCount", followers.size());
+        for (int i = 0; i < followers.size(); i++) {
+            preferences.putFloat("friendPosX_" + i, followers.x[i]);
+            preferences.putFloat("friendPosY_" + i, followers.y[i]);
+        }
+        // no friend ever reads a crumb further back than the one of the last friend that can still join
+        int unsavedMapFriends = 0;
+        for (boolean saved : isMapFriendSaved) {
+            if (!saved) {
+                unsavedMapFriends++;
+            }
+        }
+        trail.saveState(preferences, (followers.size() + unsavedMapFriends) * CRUMBS_PER_FRIEND + 1);
+
+        preferences.flush();
+    }
+
+    public BodyStore getFollowers() {
+        return followers;
+    }
+    public int getFollowingCount() {
+        return followers.size();
+    }
+    public int getMapFriendCount() {
+        return isMapFriendSaved.length;
+    }
+    public float getMapFriendX(int index) {
+        return mapFriendsX[index];
+    }
+    public float getMapFriendY(int index) {
+        return mapFriendsY[index];
+    }
+    public boolean isMapFriendSaved(int index) {
+        return isMapFriendSaved[index];
+    }
+    public int getFrameDirection() {
+        return frameDirection;
+    }
+    public int getWalkFrame() {
+        return walkFrame;
+    }
+    public float getScale() {
+        return scale;
+    }
+
+    /**
+     * Loads the state of all friends (both map friends and followers) from preferences, together with the
+     * trail they follow. Saves without a trail walk it again from the last friend through the others to the
+     * player, so the friends keep following the way they stood.
+     *
+     * @param preferences the Preferences instance containing saved state
+     * @param player      the loaded player the friends follow
+     */
+    public void loadFriendState(Preferences preferences, Player player) {
+        for (int i = 0; i < isMapFriendSaved.length; i++) {
+            isMapFriendSaved[i] = preferences.getBoolean("mapFriendSaved_" + i, false);
+        }
+
+        int followingFriendsCount = preferences.getInteger("followingFriendsCount", 0);
+        followers.clear();
+        for (int i = 0; i < followingFriendsCount; i++) {
+            float x = preferences.getFloat("friendPosX_" + i, 0f);
+            float y = preferences.getFloat("friendPosY_" + i, 0f);
+            followers.add(x, y);
+        }
+
+        if (trail.loadState(preferences)) {
+            lastPlayerX = player.getX();
+            lastPlayerY = player.getY();
+            return;
+        }
+        if (followers.isEmpty()) {
+            trail.reset(player.getX(), player.getY());
+        } else {
+            trail.reset(followers.x[followers.size() - 1], followers.y[followers.size() - 1]);
+            for (int i = followers.size() - 2; i >= 0; i--) {
+                trail.walkTo(followers.x[i], followers.y[i]);
+            }
+            trail.walkTo(player.getX(), player.getY());
+        }
+        lastPlayerX = player.getX();
+        lastPlayerY = player.getY();
+    }
+}
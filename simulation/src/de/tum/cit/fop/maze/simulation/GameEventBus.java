@@ -0,0 +1,162 @@
+package de.tum.cit.fop.maze.simulation;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+
+import java.util.Arrays;
+
+/**
+ * Carries the things happening in a {@link MazeSession} from the parts of the session that cause them
+ * to the parts that react to them: the session itself (a crushed Griever drops a key), the game
+ * (sounds and HUD messages) and tools (counting events).
+ *
+ * Producers publish an event with its type, the id of the entity involved and a position. The events of
+ * a tick are queued in primitive arrays and delivered in the order they were published when the session
+ * calls {@link #dispatch()}, so publishing never allocates and never runs foreign code in the middle of an
+ * update. Events published while dispatching are delivered in the same call.
+ */
+public class GameEventBus {
+    // Event Types
+    public static final int GRIEVER_CRUSHED = 0;
+    public static final int GRIEVER_STUNNED = 1;
+    public static final int KEY_SPAWNED = 2;
+    public static final int KEY_COLLECTED = 3;
+    public static final int FRIEND_LOST = 4;
+    public static final int FRIEND_RESCUED = 5;
+    public static final int ITEM_COLLECTED = 6;
+    public static final int TRAP_ITEM_COLLECTED = 7;
+    public static final int TRAP_FIRED = 8;
+    public static final int EXIT_NEEDS_FRIEND = 9;
+    public static final int TYPE_COUNT = 10;
+
+    /** The mask of all event types. */
+    public static final int ALL = (1 << TYPE_COUNT) - 1;
+    /** The entity id of events that are not about a single entity. */
+    public static final int NO_ENTITY = -1;
+
+    /**
+     * Receives the events of the types it subscribed to.
+     */
+    public interface Subscriber {
+        /**
+         * Called for every dispatched event of a subscribed type.
+         *
+         * @param type     the type of the event
+         * @param entityId the id of the entity involved, or {@link #NO_ENTITY}
+         * @param x        the X-coordinate where the event happened
+         * @param y        the Y-coordinate where the event happened
+         */
+        void onEvent(int type, int entityId, float x, float y);
+    }
+
+    // Subscribers
+    private final Array<Subscriber> subscribers = new Array<>();
+    private final IntArray subscriberMasks = new IntArray();
+
+    // Queued Events
+    private int[] types = new int[16];
+    private int[] entityIds = new int[16];
+    private float[] xs = new float[16];
+    private float[] ys = new float[16];
+    private int queued = 0;
+
+    // Telemetry
+    private final long[] publishedCounts = new long[TYPE_COUNT];
+
+    /**
+     * Gets the mask of a single event type, to be combined with | when subscribing.
+     *
+     * @param type the event type
+     * @return the mask of the type
+     */
+    public static int mask(int type) {
+        return 1 << type;
+    }
+
+    /**
+     * Subscribes to the events of the given types.
+     *
+     * @param typeMask   the types to receive, see {@link #mask(int)} and {@link #ALL}
+     * @param subscriber the subscriber
+     */
+    public void subscribe(int typeMask, Subscriber subscriber) {
+        subscribers.add(subscriber);
+        subscriberMasks.add(typeMask);
+    }
+
+    /**
+     * Stops delivering events to a subscriber.
+     *
+     * @param subscriber the subscriber
+     */
+    public void unsubscribe(Subscriber subscriber) {
+        int index = subscribers.indexOf(subscriber, true);
+        if (index >= 0) {
+            subscribers.removeIndex(index);
+            subscriberMasks.removeIndex(index);
+        }
+    }
+
+    /**
+     * Queues an event that is not about a single entity or position.
+     *
+     * @param type the type of the event
+     */
+    public void publish(int type) {
+        publish(type, NO_ENTITY, 0f, 0f);
+    }
+
+    /**
+     * Queues an event until the next {@link #dispatch()}.
+     *
+     * @param type     the type of the event
+     * @param entityId the id of the entity involved, or {@link #NO_ENTITY}
+     * @param x        the X-coordinate where the event happened
+     * @param y        the Y-coordinate where the event happened
+     */
+    public void publish(int type, int entityId, float x, float y) {
+        if (queued == types.length) {
+            int capacity = queued * 2;
+            types = Arrays.copyOf(types, capacity);
+            entityIds = Arrays.copyOf(entityIds, capacity);
+            xs = Arrays.copyOf(xs, capacity);
+            ys = Arrays.copyOf(ys, capacity);
+        }
+        types[queued] = type;
+        entityIds[queued] = entityId;
+        xs[queued] = x;
+        ys[queued] = y;
+        queued++;
+        publishedCounts[type]++;
+    }
+
+    /**
+     * Delivers the queued events to their subscribers, in the order they were published,
+     * and empties the queue.
+     */
+    public void dispatch() {
+        for (int i = 0; i < queued; i++) {
+            int type = types[i];
+            int typeMask = mask(type);
+            for (int s = 0; s < subscribers.size; s++) {
+                if ((subscriberMasks.get(s) & typeMask) != 0) {
+                    subscribers.get(s).onEvent(type, entityIds[i], xs[i], ys[i]);
+                }
+            }
+        }
+        queued = 0;
+    }
+
+    /**
+     * Gets how many events of a type were published since the bus was created.
+     *
+     * @param type the event type
+     * @return the number of published events
+     */
+    public long getPublishedCount(int type) {
+        return publishedCounts[type];
+    }
+    public int getQueuedCount() {
+        return queued;
+    }
+}
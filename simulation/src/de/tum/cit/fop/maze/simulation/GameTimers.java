@@ -0,0 +1,166 @@
+package de.tum.cit.fop.maze.simulation;
+
+import com.badlogic.gdx.Preferences;
+
+/**
+ * The timers of the game, all run on one game clock. The clock only moves when {@link #advance(float)} is called
+ * with the duration of a tick, so the timers stand still while the game is paused and replay identically.
+ *
+ * A timer has a type, which tells the registered handler of that type that the timer fired, and an entity id.
+ * The timers are kept in a {@link TimingWheel}, so waiting timers cost nothing per tick and recurring timers
+ * reuse their slots instead of allocating. The pending timers and the clock are part of the saved state,
+ * and counters of the scheduled and fired timers can be read for metrics.
+ */
+public class GameTimers {
+    // Timer Types
+    /** A moving wall leaves its original tile. */
+    public static final int WALL_MOVE = 0;
+    /** A moving wall returns to its original tile. */
+    public static final int WALL_RETURN = 1;
+    /** The fog of a collected trap item lifts. */
+    public static final int FOG_END = 2;
+    /** The rock of a trap goes back up after it fell. */
+    public static final int ROCK_RESET = 3;
+    /** A trap that damaged the player can be triggered again. */
+    public static final int LIVES_COOLDOWN = 4;
+    /** A stunned Griever recovers. */
+    public static final int STUN_END = 5;
+    /** A Griever that damaged the player can damage the player again. */
+    public static final int GRIEVER_COOLDOWN = 6;
+    /** The number of timer types. */
+    public static final int TYPE_COUNT = 7;
+
+    // Constants
+    private static final int SLOT_COUNT = 512;
+
+    // Clock and Timers
+    private final TimingWheel wheel;
+    private final TimingWheel.Handler[] handlers = new TimingWheel.Handler[TYPE_COUNT];
+    private final TimingWheel.Handler dispatcher = this::dispatch;
+    private float time = 0f;
+
+    // Statistics
+    private long scheduledCount = 0, firedCount = 0;
+
+    /**
+     * Creates the timers of a session. A slot of the wheel lasts one tick, so every tick visits one slot.
+     *
+     * @param ticksPerSecond the number of ticks per second the clock is advanced by
+     */
+    public GameTimers(int ticksPerSecond) {
+        this.wheel = new TimingWheel(1f / ticksPerSecond, SLOT_COUNT);
+    }
+
+    /**
+     * Registers the handler of a timer type, replacing the previous one.
+     *
+     * @param type    the type of the timers
+     * @param handler the handler called when a timer of the type fires
+     */
+    public void setHandler(int type, TimingWheel.Handler handler) {
+        handlers[type] = handler;
+    }
+
+    /**
+     * Schedules a timer after a delay.
+     *
+     * @param delay the delay in seconds of game time
+     * @param type  the type of the timer
+     * @param id    the id of the entity the timer belongs to
+     * @return the handle of the timer, see {@link #cancel(int)}
+     */
+    public int schedule(float delay, int type, int id) {
+        return scheduleAt(time + delay, type, id);
+    }
+
+    /**
+     * Schedules a timer at a time of the game clock. A time that has already passed fires on the next tick.
+     *
+     * @param time the time in seconds of game time
+     * @param type the type of the timer
+     * @param id   the id of the entity the timer belongs to
+     * @return the handle of the timer, see {@link #cancel(int)}
+     */
+    public int scheduleAt(float time, int type, int id) {
+        scheduledCount++;
+        return wheel.schedule(time, type, id);
+    }
+
+    /**
+     * Cancels a timer that has not fired yet.
+     *
+     * @param handle the handle returned when the timer was scheduled
+     */
+    public void cancel(int handle) {
+        wheel.cancel(handle);
+    }
+
+    /**
+     * Advances the game clock by one tick and fires the timers whose time has come.
+     *
+     * @param delta the duration of the tick in seconds
+     */
+    public void advance(float delta) {
+        time += delta;
+        wheel.advance(time, dispatcher);
+    }
+
+    private void dispatch(int type, int id, float timerTime) {
+        firedCount++;
+        TimingWheel.Handler handler = handlers[type];
+        if (handler != null) {
+            handler.onTimer(type, id, timerTime);
+        }
+    }
+
+    /**
+     * Saves the game clock and the pending timers.
+     *
+     * @param preferences the Preferences instance for saving state
+     */
+    public void saveState(Preferences preferences) {
+        preferences.putFloat("time", time);
+        int[] count = {0};
+        wheel.visit((type, id, timerTime) -> {
+            preferences.putInteger("timer_" + count[0] + "_type", type);
+            preferences.putInteger("timer_" + count[0] + "_id", id);
+            preferences.putFloat("timer_" + count[0] + "_time", timerTime);
+            count[0]++;
+        });
+        preferences.putInteger("timerCount", count[0]);
+        preferences.flush();
+    }
+
+    /**
+     * Restores the game clock and replaces the pending timers with the saved ones. Nothing changes
+     * if no timers were saved.
+     *
+     * @param preferences the Preferences instance containing saved state
+     */
+    public void loadState(Preferences preferences) {
+        if (!preferences.contains("timerCount")) {
+            return;
+        }
+        wheel.clear();
+        time = preferences.getFloat("time", time);
+        int timerCount = preferences.getInteger("timerCount");
+        for (int i = 0; i < timerCount; i++) {
+            wheel.schedule(preferences.getFloat("timer_" + i + "_time", time),
+                    preferences.getInteger("timer_" + i + "_type", 0),
+                    preferences.getInteger("timer_" + i + "_id", 0));
+        }
+    }
+
+    public float getTime() {
+        return time;
+    }
+    public int getPendingCount() {
+        return wheel.size();
+    }
+    public long getScheduledCount() {
+        return scheduledCount;
+    }
+    public long getFiredCount() {
+        return firedCount;
+    }
+}
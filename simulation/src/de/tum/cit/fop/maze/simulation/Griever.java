@@ -0,0 +1,716 @@
+package de.tum.cit.fop.maze.simulation;
+
+import com.badlogic.gdx.Preferences;
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+
+
+/**
+ * The Griever class represents an enemy character (Griever) in the maze.
+ * It is responsible for the Griever's movement, the state of its walking animation,
+ * detection of the player, and interactions such as being stunned.
+ *
+ * The state of the Griever is kept in a {@link GrieverStore} shared by all Grievers of a session;
+ * a Griever only holds the id of its entry and the objects used for its decisions.
+ * A tick has two phases: {@link #decide(WorldSnapshot)} only reads the {@link WorldSnapshot} and changes
+ * the Griever's own state, so all Grievers can decide in parallel, while
+ * {@link #resolvePlayerCollision(Player, Scoreboard, Friends, GameTimers)} damages the player and runs serially.
+ */
+public class Griever  {
+    // Constants
+    static final float SPRITE_SIZE = 32f;
+    static final float SCALE = 0.4f;
+    private static final float MONSTER_SPEED = 15.0f;
+    static final float DETECTION_RANGE = 100.0f;
+    static final float PLAYER_COLLISION_RANGE = 5f;
+    private static final float LIVES_COOLDOWN_DURATION = 2f;
+    private static final int ROAM_RADIUS = 8;
+    private static final int ROAM_ATTEMPTS = 8;
+
+    // Entity State
+    private final GrieverStore store;
+    private final int id;
+    private int slot;
+
+    // Random Movement
+    private final RandomXS128 random;
+    private final float[] directionX = new float[4];
+    private final float[] directionY = new float[4];
+
+    // Route of the random movement, as tile indices of the path2 layer
+    private final IntArray route = new IntArray();
+    private int routeIndex;
+
+    // Layer Related Variables
+    private BitGrid pathLayer;
+    private BitGrid path2Layer;
+    private FlowField pursuitField;
+    private WorldSnapshot world;
+    private final int tileWidth, tileHeight;
+
+    /**
+     * Constructs a Griever at the given starting position and adds it to the store.
+     *
+     * @param store       The store that keeps the state of the Griever.
+     * @param startX      The starting X-coordinate of the Griever.
+     * @param startY      The starting Y-coordinate of the Griever.
+     * @param tileWidth   The width of a tile in pixels.
+     * @param tileHeight  The height of a tile in pixels.
+     * @param seed        The seed of the random numbers used for the Griever's random movement.
+     */
+    public Griever(GrieverStore store, float startX, float startY, int tileWidth, int tileHeight, long seed) {
+        this.store = store;
+        this.id = store.add(startX, startY);
+        this.tileWidth = tileWidth;
+        this.tileHeight = tileHeight;
+        this.random = new RandomXS128(seed);
+    }
+
+    /**
+     * Updates the Griever's direction based on its movement.
+     * This method determines whether the Griever should be moving up, down, left, or right
+     * depending on the changes in the X and Y coordinates.
+     *
+     * @param deltaX The change in the X-coordinate (horizontal movement).
+     * @param deltaY The change in the Y-coordinate (vertical movement).
+     */
+     private void updateGrieverDirection(float deltaX, float deltaY) {
+        if (Math.abs(deltaX) > 0.01f || Math.abs(deltaY) > 0.01f) {
+            store.direction[slot] = Direction.of(deltaX, deltaY);
+        }
+    }
+
+    /**
+     * Creates all Griever objects at the Griever start positions of the provided layout.
+     * Every Griever gets its own random numbers derived from the session seed, so removing
+     * one Griever does not change the movement of the others.
+     *
+     * @param layout The layout of the map, containing the Griever positions and path layers.
+     * @param seed The seed of the session.
+     * @param store The store that keeps the state of the Grievers.
+     * @return An array of Griever instances loaded from the layout.
+     */
+    public static Array<Griever> loadGrieversFromLayout(MazeLayout layout, long seed, GrieverStore store) {
+        Array<Griever> grievers = new Array<>();
+
+        for (int i = 0; i < layout.getGrieverSpawns().size; i++) {
+            Vector2 spawn = layout.getGrieverSpawns().get(i);
+            Griever griever = new Griever(store, spawn.x, spawn.y, layout.getTileWidth(), layout.getTileHeight(), seed + i);
+            grievers.add(griever);
+        }
+        return grievers;
+    }
+
+    /**
+     * Starts the random numbers of the Griever again from a seed, e.g. the seed of a loaded session.
+     *
+     * @param seed The seed of the random numbers, derived from the session seed like in the constructor.
+     */
+    public void reseed(long seed) {
+        random.setSeed(seed);
+    }
+
+    /**
+     * The decision phase of the Griever: updates whether it follows the player, moves it and checks whether
+     * the player stuns it. It only reads the snapshot and changes the state of this Griever, so it may run
+     * in parallel with the decisions of other Grievers. Only Grievers that are due in this tick are updated,
+     * and they move by all the time since their last update (see {@link GrieverStore#scheduleUpdates});
+     * the stuns and animation of all Grievers are updated by the {@link GrieverStore}.
+     *
+     * @param world The snapshot of the path layers and the player.
+     */
+    public void decide(WorldSnapshot world) {
+        slot = store.slotOf(id);
+        if (!hasFlag(GrieverStore.DUE)) {
+            return;
+        }
+        float delta = store.pendingDelta[slot];
+        pathLayer = world.getPathLayer();
+        path2Layer = world.getPath2Layer();
+        pursuitField = world.getPursuitField();
+        this.world = world;
+
+        float playerX = world.getPlayerX();
+        float playerY = world.getPlayerY();
+        updateGrieverState(playerX, playerY);
+        handleMovement(delta, playerX, playerY);
+        checkStunCondition(playerX, playerY, world.getPlayerDirection());
+    }
+
+    /**
+     * The serial phase of the Griever: damages the player if the Griever caught them.
+     *
+     * @param player The Player instance, for collision detection and interactions.
+     * @param hud The Scoreboard that tracks game progress.
+     * @param friends The Friends instance, to manage the state of the player's friends.
+     * @param timers The timers the end of the damage cooldown is scheduled on.
+     */
+    public void resolvePlayerCollision(Player player, Scoreboard hud, Friends friends, GameTimers timers) {
+        slot = store.slotOf(id);
+        if (hasFlag(GrieverStore.RESTING)) {
+            return;
+        }
+        checkPlayerCollision(player, hud, friends, timers);
+    }
+
+    /**
+     * Checks if the Griever is within stun range of the player and if the player is facing
+     * the Griever in the opposite direction. If so, the Griever becomes stunned; the stun is started by the
+     * {@link GrieverStore} at the end of the tick.
+     *
+     * @param playerX The X-coordinate of the player.
+     * @param playerY The Y-coordinate of the player.
+     * @param playerDirection The direction the player is currently facing.
+     */
+    private void checkStunCondition(float playerX, float playerY, int playerDirection) {
+        float distance = calculateDistance(playerX, playerY);
+        if (distance <= 10f) {
+            if (store.direction[slot] == Direction.opposite(playerDirection) && !hasFlag(GrieverStore.STUNNED)) {
+                setFlag(GrieverStore.STUNNED, true);
+                setFlag(GrieverStore.STUN_STARTED, true);
+            }
+        }
+    }
+
+    /**
+     * Handles all movement logic of the Griever, including whether it is following the player or moving randomly.
+     *
+     * @param delta The time in seconds since the last update.
+     * @param playerX The X-coordinate of the player.
+     * @param playerY The Y-coordinate of the player.
+     */
+    private void handleMovement(float delta, float playerX, float playerY) {
+        if (hasFlag(GrieverStore.FOLLOWING_PLAYER)) {
+            handlePlayerFollowing(delta, playerX, playerY);
+        } else {
+            handleRandomMovement(delta);
+        }
+    }
+
+    /**
+     * Handles movement when the Griever is following the player.
+     * Updates the Griever's target and moves it towards the player. Reading the next tile from the flow field
+     * is cheap, so it does not wait for the {@link GrieverScheduler}.
+     *
+     * @param delta The time in seconds since the last update.
+     * @param playerX The X-coordinate of the player.
+     * @param playerY The Y-coordinate of the player.
+     */
+    private void handlePlayerFollowing(float delta, float playerX, float playerY) {
+        if (!hasTarget() || reachedTarget()) {
+            updateTargetTowardsPlayer(playerX, playerY);
+        }
+
+        if (hasTarget()) {
+            moveTowardsTarget(delta, pathLayer);
+        }
+    }
+
+    /**
+     * Updates the Griever's target to the next tile on the shortest path to the player, read from the
+     * flow field. In the player's tile the Griever heads for the player directly. If the player cannot
+     * be reached over the path layer, the Griever stops following and picks a random target instead.
+     *
+     * @param playerX The X-coordinate of the player.
+     * @param playerY The Y-coordinate of the player.
+     */
+    private void updateTargetTowardsPlayer(float playerX, float playerY) {
+        float monsterX = store.x[slot];
+        float monsterY = store.y[slot];
+        int tileX = (int) Math.floor(monsterX / tileWidth);
+        int tileY = (int) Math.floor(monsterY / tileHeight);
+
+        if (pursuitField.getDistance(tileX, tileY) == 0) {
+            setTarget(playerX, playerY);
+            return;
+        }
+        int direction = stepTowards(pursuitField, monsterX, monsterY);
+        if (direction != FlowField.NO_DIRECTION) {
+            setTarget(monsterX + Direction.dx(direction) * tileWidth, monsterY + Direction.dy(direction) * tileHeight);
+        } else {
+            setFlag(GrieverStore.FOLLOWING_PLAYER, false);
+            if (!tryDecide() || !findNextTargetWithMinDistance(15f)) {
+                clearTarget();
+            }
+        }
+    }
+
+    /**
+     * Reads the direction of the next step from a flow field at the Griever's position. Off the walkable tiles
+     * of the field, the Griever steps onto the neighbouring tile closest to the goal.
+     *
+     * @param field The flow field to follow.
+     * @param monsterX The X-coordinate of the Griever.
+     * @param monsterY The Y-coordinate of the Griever.
+     * @return one of the {@link Direction} constants, or {@link FlowField#NO_DIRECTION} if the goal is reached or cannot be reached.
+     */
+    private int stepTowards(FlowField field, float monsterX, float monsterY) {
+        int tileX = (int) Math.floor(monsterX / tileWidth);
+        int tileY = (int) Math.floor(monsterY / tileHeight);
+        int direction = field.getDirection(tileX, tileY);
+        if (direction == FlowField.NO_DIRECTION && field.getDistance(tileX, tileY) != 0) {
+            int closestDistance = FlowField.UNREACHABLE;
+            for (int i = 0; i < Direction.COUNT; i++) {
+                int distance = field.getDistance(tileX + Direction.dx(i), tileY + Direction.dy(i));
+                if (distance < closestDistance) {
+                    closestDistance = distance;
+                    direction = i;
+                }
+            }
+        }
+        return direction;
+    }
+
+    /**
+     * Updates the Griever's state based on the player's position. Determines whether the Griever
+     * should be following the player or moving randomly based on the distance between the Griever
+     * and the player. A Griever starts following only if it can see the player over the path layer,
+     * and keeps following while the player stays within the detection range.
+     *
+     * @param playerX The X-coordinate of the player.
+     * @param playerY The Y-coordinate of the player.
+     */
+    private void updateGrieverState(float playerX, float playerY) {
+        float distance = calculateDistance(playerX, playerY);
+        boolean wasFollowingPlayer = hasFlag(GrieverStore.FOLLOWING_PLAYER);
+        boolean isFollowingPlayer = distance <= DETECTION_RANGE && (wasFollowingPlayer || canSee(playerX, playerY));
+        setFlag(GrieverStore.FOLLOWING_PLAYER, isFollowingPlayer);
+
+        if (isFollowingPlayer && !wasFollowingPlayer) {
+            setFlag(GrieverStore.RANDOM_MOVEMENT, false);
+            clearTarget();
+        } else if (!isFollowingPlayer && wasFollowingPlayer) {
+            setFlag(GrieverStore.RANDOM_MOVEMENT, true);
+            if (!tryDecide()) {
+                // the random movement picks a target once the scheduler allows it
+                clearTarget();
+            } else if (!isPathTile(store.x[slot], store.y[slot], path2Layer)) {
+                findNearestPath2Tile();
+            } else if (!findNextTargetWithMinDistance(10f)) {
+                clearTarget();
+            }
+        }
+    }
+
+    /**
+     * Checks if the Griever can see a point, i.e. if no wall or moving wall lies between their tiles.
+     *
+     * @param x The X-coordinate of the point.
+     * @param y The Y-coordinate of the point.
+     * @return true if the point can be seen.
+     */
+    private boolean canSee(float x, float y) {
+        return world.getPursuitVisibility().isVisible(
+                (int) Math.floor(store.x[slot] / tileWidth), (int) Math.floor(store.y[slot] / tileHeight),
+                (int) Math.floor(x / tileWidth), (int) Math.floor(y / tileHeight));
+    }
+
+    /**
+     * Makes the next tile on the shortest way back to the path2 layer the target, read from the flow field
+     * of the {@link WorldSnapshot} that leads every tile to its nearest path2 tile.
+     *
+     * @return true if the path2 layer can be reached and the next tile became the target, false if the target was left unchanged.
+     */
+    private boolean findNearestPath2Tile() {
+        int direction = stepTowards(world.getPatrolField(), store.x[slot], store.y[slot]);
+        if (direction == FlowField.NO_DIRECTION) {
+            return false;
+        }
+        setTarget(store.x[slot] + Direction.dx(direction) * tileWidth, store.y[slot] + Direction.dy(direction) * tileHeight);
+        return true;
+    }
+
+    /**
+     * Handles the Griever's random movement when it is not following the player.
+     * It calculates a random target tile to move towards and checks if the Griever is in a valid path tile.
+     *
+     * @param delta The time in seconds since the last update.
+     */
+    private void handleRandomMovement(float delta) {
+        setFlag(GrieverStore.RANDOM_MOVEMENT, true);
+
+        // if it's not in path2 layer
+        if (!isPathTile(store.x[slot], store.y[slot], path2Layer)) {
+            // reading the way back from the flow field is cheap, so it does not wait for the scheduler
+            if ((!hasTarget() || reachedTarget()) && !findNearestPath2Tile()) {
+                return;
+            }
+            // when moving to path2Layer, griever can use path layer
+            moveTowardsTarget(delta, pathLayer);
+        } else {
+            if ((!hasTarget() || reachedTarget()) && !followRoute()) {
+                if (!tryDecide()) {
+                    return;
+                }
+                if (!planRoute() && !findNextTargetWithMinDistance(10f)) {
+                    clearTarget();
+                    return;
+                }
+            }
+            moveTowardsTarget(delta, path2Layer);
+        }
+    }
+
+
+    /**
+     * Plans a route over the path2 layer to a random tile near the Griever. The Griever then walks the
+     * whole route tile by tile (see {@link #followRoute()}) before it has to decide again.
+     *
+     * @return true if a route was found and its first tile became the target, false otherwise.
+     */
+    private boolean planRoute() {
+        int tileX = (int) (store.x[slot] / tileWidth);
+        int tileY = (int) (store.y[slot] / tileHeight);
+        for (int attempt = 0; attempt < ROAM_ATTEMPTS; attempt++) {
+            int goalX = tileX + random.nextInt(2 * ROAM_RADIUS + 1) - ROAM_RADIUS;
+            int goalY = tileY + random.nextInt(2 * ROAM_RADIUS + 1) - ROAM_RADIUS;
+            if ((goalX != tileX || goalY != tileY) && world.getRoamTiles().get(goalX, goalY)
+                    && world.findPath2Route(tileX, tileY, goalX, goalY, route)) {
+                routeIndex = 0;
+                return followRoute();
+            }
+        }
+        route.clear();
+        return false;
+    }
+
+    /**
+     * Makes the next tile of the planned route the target. The Griever keeps its offset within the tiles,
+     * so it moves straight from one tile to the next. A route a moving wall stepped onto since it was planned
+     * is dropped, so only the Grievers whose routes are blocked plan again.
+     *
+     * @return true if the route had another tile, false if the route is finished or blocked.
+     */
+    private boolean followRoute() {
+        if (routeIndex >= route.size) {
+            return false;
+        }
+        int width = path2Layer.getWidth();
+        int tile = route.get(routeIndex++);
+        if (!world.getRoamTiles().get(tile % width, tile / width)) {
+            route.clear();
+            routeIndex = 0;
+            return false;
+        }
+        float monsterX = store.x[slot];
+        float monsterY = store.y[slot];
+        float offsetX = monsterX - (int) (monsterX / tileWidth) * tileWidth;
+        float offsetY = monsterY - (int) (monsterY / tileHeight) * tileHeight;
+        setTarget((tile % width) * tileWidth + offsetX, (tile / width) * tileHeight + offsetY);
+        return true;
+    }
+
+    /**
+     * Finds the next target tile for random movement, ensuring the target is at least a minimum distance
+     * away from the Griever's current position, and makes it the target. The four directions are tried
+     * in a random order.
+     *
+     * @param minDistance The minimum distance the target tile should be away from the Griever's current position.
+     * @return true if a valid tile was found and became the target, false if the target was left unchanged.
+     */
+    private boolean findNextTargetWithMinDistance(float minDistance) {
+        // Shuffle the directions the same way Collections.shuffle does for short lists
+        System.arraycopy(DIRECTION_X, 0, directionX, 0, 4);
+        System.arraycopy(DIRECTION_Y, 0, directionY, 0, 4);
+        for (int i = 4; i > 1; i--) {
+            int j = random.nextInt(i);
+            float swapX = directionX[i - 1];
+            float swapY = directionY[i - 1];
+            directionX[i - 1] = directionX[j];
+            directionY[i - 1] = directionY[j];
+            directionX[j] = swapX;
+            directionY[j] = swapY;
+        }
+
+        float monsterX = store.x[slot];
+        float monsterY = store.y[slot];
+        for (int i = 0; i < 4; i++) {
+            float nextX = monsterX + directionX[i] * tileWidth;
+            float nextY = monsterY + directionY[i] * tileHeight;
+
+            if (isPathTile(nextX, nextY, path2Layer)) {
+                float distance = Vector2.dst(monsterX, monsterY, nextX, nextY);
+
+                if (distance >= minDistance) {
+                    setTarget(nextX, nextY);
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Moves the Griever towards its target tile on the given layer, without entering tiles blocked by walls.
+     *
+     * @param delta The time in seconds since the last update.
+     * @param currentLayer The layer on which the Griever should move.
+     */
+    private void moveTowardsTarget(float delta, BitGrid currentLayer) {
+        float monsterX = store.x[slot];
+        float monsterY = store.y[slot];
+        float directionToTargetX = store.targetX[slot] - monsterX;
+        float directionToTargetY = store.targetY[slot] - monsterY;
+        float distanceToTarget = (float) Math.sqrt(directionToTargetX * directionToTargetX
+                + directionToTargetY * directionToTargetY);
+
+        if (distanceToTarget > 1f) {
+            // a Griever catching up on several ticks must not overshoot its target
+            float step = Math.min(MONSTER_SPEED * delta, distanceToTarget);
+            float deltaX = directionToTargetX / distanceToTarget * step;
+            float deltaY = directionToTargetY / distanceToTarget * step;
+
+            updateGrieverDirection(deltaX, deltaY);
+
+            float newX = monsterX + deltaX;
+            float newY = monsterY + deltaY;
+
+            if (isValidPosition(newX, newY, currentLayer) && isPathTile(newX, newY, currentLayer)
+                    && !world.getCollisionGrid().isBlocked(newX, newY)) {
+                store.x[slot] = newX;
+                store.y[slot] = newY;
+            } else {
+                handleCollision();
+            }
+        }
+    }
+
+    /**
+     * Checks if the specified position (x, y) lies on the map, whose size is the size of the given layer.
+     *
+     * @param x The X-coordinate to check.
+     * @param y The Y-coordinate to check.
+     * @param layer The layer the Griever moves on.
+     * @return true if the position is within the map, false otherwise.
+     */
+    private boolean isValidPosition(float x, float y, BitGrid layer) {
+        return x >= 0f && y >= 0f && x < layer.getWidth() * tileWidth && y < layer.getHeight() * tileHeight;
+    }
+
+
+    /**
+     * Handles collision with obstacles. The Griever will either recalculate its path or move to a random target.
+     */
+    private void handleCollision() {
+        if (hasFlag(GrieverStore.FOLLOWING_PLAYER) || !tryDecide()) {
+            clearTarget();  // Force recalculation of the target in a later update
+        } else if (!findNextTargetWithMinDistance(15f)) {
+            clearTarget();
+        }
+    }
+
+
+    /**
+     * Helper method to calculate the distance between the Griever and the player.
+     *
+     * @param playerX The X-coordinate of the player.
+     * @param playerY The Y-coordinate of the player.
+     * @return The calculated distance.
+     */
+    private float calculateDistance(float playerX, float playerY) {
+        return (float) Math.sqrt(Math.pow(playerX - store.x[slot], 2) + Math.pow(playerY - store.y[slot], 2));
+    }
+
+    /**
+     * Checks if the Griever has reached its target tile.
+     *
+     * @return true if the Griever has reached the target, false otherwise.
+     */
+    private boolean reachedTarget() {
+        float tolerance = 2f;
+        return Math.abs(store.x[slot] - store.targetX[slot]) < tolerance &&
+                Math.abs(store.y[slot] - store.targetY[slot]) < tolerance;
+    }
+
+    /**
+     * Checks if a given position (x, y) is a valid path tile on the specified layer.
+     *
+     * @param x The X-coordinate to check.
+     * @param y The Y-coordinate to check.
+     * @param layer The path layer to check for path tiles.
+     * @return true if the position is a valid path tile, false otherwise.
+     */
+    private boolean isPathTile(float x, float y, BitGrid layer) {
+        int tileX = (int) (x / tileWidth);
+        int tileY = (int) (y / tileHeight);
+        return layer.get(tileX, tileY);
+    }
+
+    /**
+     * Checks if the Griever collides with the player. If a collision occurs, the player loses a life,
+     * and the Griever cannot damage the player again until its cooldown timer fires.
+     *
+     * @param player The player instance.
+     * @param hud The Scoreboard to manage player lives.
+     * @param friends The Friends instance to manage the state of the player's friends.
+     * @param timers The timers the end of the cooldown is scheduled on.
+     */
+    private void checkPlayerCollision(Player player, Scoreboard hud, Friends friends, GameTimers timers) {
+        int diffX = (int) (player.getX() - store.x[slot]);
+        int diffY = (int) (player.getY() - store.y[slot]);
+        float distance = (float) Math.sqrt(diffX * diffX + diffY * diffY);
+
+        if (!hasFlag(GrieverStore.COOLING_DOWN) && distance < PLAYER_COLLISION_RANGE && !hasFlag(GrieverStore.STUNNED)) {
+            if (hud.getLives() >= 0) {
+                friends.removeLastFriend();
+                hud.decrementLives();
+                player.triggerRedEffect();
+                setFlag(GrieverStore.COOLING_DOWN, true);
+                timers.schedule(LIVES_COOLDOWN_DURATION, GameTimers.GRIEVER_COOLDOWN, id);
+            } else {
+                hud.setLives(0);
+                player.revertToPrevious();
+                player.setDead();
+            }
+        }
+    }
+
+    // Entity State Helpers
+    private static final float[] DIRECTION_X = {1, -1, 0, 0};
+    private static final float[] DIRECTION_Y = {0, 0, 1, -1};
+
+    private boolean hasFlag(int flag) {
+        return (store.flags[slot] & flag) != 0;
+    }
+    private void setFlag(int flag, boolean value) {
+        if (value) {
+            store.flags[slot] |= flag;
+        } else {
+            store.flags[slot] &= ~flag;
+        }
+    }
+    private boolean hasTarget() {
+        return hasFlag(GrieverStore.HAS_TARGET);
+    }
+    private void setTarget(float x, float y) {
+        store.targetX[slot] = x;
+        store.targetY[slot] = y;
+        setFlag(GrieverStore.HAS_TARGET, true);
+    }
+    private void clearTarget() {
+        setFlag(GrieverStore.HAS_TARGET, false);
+        // a route only stays valid while the Griever walks it
+        route.clear();
+        routeIndex = 0;
+    }
+    private boolean tryDecide() {
+        return GrieverScheduler.tryDecide(store, slot);
+    }
+
+    //Setters and Getters
+    public void setPosition(float x, float y) {
+        int slot = store.slotOf(id);
+        store.x[slot] = x;
+        store.y[slot] = y;
+    }
+    public int getId() {
+        return id;
+    }
+    public float getMonsterX() {
+        return store.x[store.slotOf(id)];
+    }
+    public float getMonsterY() {
+        return store.y[store.slotOf(id)];
+    }
+    public float getLastTickX() {
+        return store.lastX[store.slotOf(id)];
+    }
+    public float getLastTickY() {
+        return store.lastY[store.slotOf(id)];
+    }
+    public int getFrameDirection() {
+        return store.frameDirection[store.slotOf(id)];
+    }
+    public int getWalkFrame() {
+        return store.walkFrame[store.slotOf(id)];
+    }
+    public boolean isGrieverNotStunned() {
+        return (store.flags[store.slotOf(id)] & GrieverStore.STUNNED) == 0;
+    }
+    public float getWidth() {
+        return SPRITE_SIZE;
+    }
+    public float getHeight() {
+        return SPRITE_SIZE;
+    }
+    public float getScale() {
+        return SCALE;
+    }
+
+    /**
+     * Saves the current state of the Griever (position, stunned state, following state, random movement state,
+     * random number generator, lives cooldown, the time it has not moved yet while far from the player, the
+     * route it follows, its target and all other flags, so a loaded Griever moves on exactly as it would have)
+     * to the preferences file. The timers that end the stun and the cooldown are saved with the game timers.
+     *
+     * @param pref The Preferences instance for saving state.
+     * @param index The index used to differentiate between different Griever states in the preferences file.
+     */
+    public void saveGrieverstate(Preferences pref, int index) {
+        int slot = store.slotOf(id);
+        int flags = store.flags[slot];
+        pref.putFloat("x_" + index, store.x[slot]);
+        pref.putFloat("y_" + index, store.y[slot]);
+        pref.putBoolean("isGrieverStunned_" + index, (flags & GrieverStore.STUNNED) != 0);
+        pref.putBoolean("isGrieverFollowing_" + index, (flags & GrieverStore.FOLLOWING_PLAYER) != 0);
+        pref.putBoolean("isGrieverRandom_" + index, (flags & GrieverStore.RANDOM_MOVEMENT) != 0);
+        pref.putBoolean("isGrieverCoolingDown_" + index, (flags & GrieverStore.COOLING_DOWN) != 0);
+        pref.putLong("randomState0_" + index, random.getState(0));
+        pref.putLong("randomState1_" + index, random.getState(1));
+        pref.putInteger("flags_" + index, flags);
+        pref.putFloat("targetX_" + index, store.targetX[slot]);
+        pref.putFloat("targetY_" + index, store.targetY[slot]);
+        pref.putFloat("velocityX_" + index, store.velocityX[slot]);
+        pref.putFloat("velocityY_" + index, store.velocityY[slot]);
+        pref.putInteger("direction_" + index, store.direction[slot]);
+        pref.putFloat("pendingDelta_" + index, store.pendingDelta[slot]);
+        pref.putInteger("routeSize_" + index, route.size);
+        for (int i = 0; i < route.size; i++) {
+            pref.putInteger("route_" + index + "_" + i, route.get(i));
+        }
+        pref.putInteger("routeIndex_" + index, routeIndex);
+        pref.flush();
+    }
+
+    /**
+     * Loads the Griever's state (position, stunned state, following state, random movement state,
+     * random number generator, lives cooldown, the time it has not moved yet while far from the player, the
+     * route it follows, and if they were saved its target and all other flags) from the preferences file based
+     * on the given index.
+     *
+     * @param pref The Preferences instance containing saved state.
+     * @param index The index used to load the specific Griever state from the preferences file.
+     */
+    public void loadGrieverstate(Preferences pref, int index) {
+        slot = store.slotOf(id);
+        store.x[slot] = pref.getFloat("x_" + index, store.x[slot]);
+        store.y[slot] = pref.getFloat("y_" + index, store.y[slot]);
+        setFlag(GrieverStore.STUNNED, pref.getBoolean("isGrieverStunned_" + index, hasFlag(GrieverStore.STUNNED)));
+        setFlag(GrieverStore.RESTING, hasFlag(GrieverStore.STUNNED));
+        setFlag(GrieverStore.FOLLOWING_PLAYER, pref.getBoolean("isGrieverFollowing_" + index, hasFlag(GrieverStore.FOLLOWING_PLAYER)));
+        setFlag(GrieverStore.RANDOM_MOVEMENT, pref.getBoolean("isGrieverRandom_" + index, hasFlag(GrieverStore.RANDOM_MOVEMENT)));
+        setFlag(GrieverStore.COOLING_DOWN, pref.getBoolean("isGrieverCoolingDown_" + index, hasFlag(GrieverStore.COOLING_DOWN)));
+        if (pref.contains("randomState0_" + index)) {
+            random.setState(pref.getLong("randomState0_" + index), pref.getLong("randomState1_" + index));
+        }
+        store.pendingDelta[slot] = pref.getFloat("pendingDelta_" + index, 0f);
+        route.clear();
+        int routeSize = pref.getInteger("routeSize_" + index, 0);
+        for (int i = 0; i < routeSize; i++) {
+            route.add(pref.getInteger("route_" + index + "_" + i, 0));
+        }
+        routeIndex = pref.getInteger("routeIndex_" + index, 0);
+        if (!pref.contains("flags_" + index)) {
+            return;
+        }
+        store.flags[slot] = pref.getInteger("flags_" + index);
+        store.targetX[slot] = pref.getFloat("targetX_" + index, store.targetX[slot]);
+        store.targetY[slot] = pref.getFloat("targetY_" + index, store.targetY[slot]);
+        store.velocityX[slot] = pref.getFloat("velocityX_" + index, 0f);
+        store.velocityY[slot] = pref.getFloat("velocityY_" + index, 0f);
+        store.direction[slot] = pref.getInteger("direction_" + index, store.direction[slot]);
+        store.frameDirection[slot] = store.direction[slot];
+    }
+}
@@ -0,0 +1,99 @@
+package de.tum.cit.fop.maze.simulation;
+
+import com.badlogic.gdx.utils.Array;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Runs the decision phase of all Grievers of a tick (see {@link Griever#decide(WorldSnapshot)}).
+ *
+ * A decision only reads the {@link WorldSnapshot} and changes the state of its own Griever, so on maps with many
+ * Grievers the decisions are split into batches that run in parallel on a {@link ForkJoinPool}. The result does
+ * not depend on the number of threads: every Griever uses its own random numbers and the side effects of the
+ * decisions (damage, key drops, queued decisions) are applied serially afterwards.
+ * Small maps are decided on the calling thread, because handing a few Grievers to other threads costs more
+ * than it saves.
+ */
+public class GrieverDecisionPhase {
+    // Constants
+    public static final int DEFAULT_BATCH_SIZE = 64;
+
+    // Parallelism
+    private final ForkJoinPool pool;
+    private final int batchSize;
+
+    /**
+     * Creates a decision phase that runs on the common pool with the default batch size.
+     */
+    public GrieverDecisionPhase() {
+        this(ForkJoinPool.commonPool(), DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Creates a decision phase.
+     *
+     * @param pool      the pool the batches run on, or null to decide all Grievers on the calling thread
+     * @param batchSize the number of Grievers decided by one task; maps with at most this many Grievers
+     *                  are decided on the calling thread
+     */
+    public GrieverDecisionPhase(ForkJoinPool pool, int batchSize) {
+        this.pool = pool;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    /**
+     * Lets all Grievers decide and move.
+     *
+     * @param grievers The Grievers of the session.
+     * @param world    The snapshot the Grievers read.
+     */
+    public void run(Array<Griever> grievers, WorldSnapshot world) {
+        if (pool == null || grievers.size <= batchSize || pool.getParallelism() < 2) {
+            decide(grievers.items, 0, grievers.size, world);
+        } else {
+            pool.invoke(new DecisionTask(grievers.items, 0, grievers.size, world, batchSize));
+        }
+    }
+
+    private static void decide(Object[] grievers, int from, int to, WorldSnapshot world) {
+        for (int i = from; i < to; i++) {
+            ((Griever) grievers[i]).decide(world);
+        }
+    }
+
+    /**
+     * Decides a range of Grievers, splitting it in halves until it fits into a batch.
+     */
+    private static class DecisionTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Object[] grievers;
+        private final int from, to;
+        private final WorldSnapshot world;
+        private final int batchSize;
+
+        DecisionTask(Object[] grievers, int from, int to, WorldSnapshot world, int batchSize) {
+            this.grievers = grievers;
+            this.from = from;
+            this.to = to;
+            this.world = world;
+            this.batchSize = batchSize;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= batchSize) {
+                decide(grievers, from, to, world);
+            } else {
+                int middle = (from + to) >>> 1;
+                invokeAll(new DecisionTask(grievers, from, middle, world, batchSize),
+                        new DecisionTask(grievers, middle, to, world, batchSize));
+            }
+        }
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+}
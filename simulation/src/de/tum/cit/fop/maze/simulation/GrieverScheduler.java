@@ -0,0 +1,178 @@
+package de.tum.cit.fop.maze.simulation;
+
+import com.badlogic.gdx.Preferences;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+
+/**
+ * Spreads the expensive decisions of the Grievers (choosing a new target, which searches the path layers)
+ * over several ticks, so the duration of a tick stays flat when many Grievers reach their targets at once.
+ *
+ * A Griever that needs to decide asks for a decision while it moves (see {@link #tryDecide(GrieverStore, int)}).
+ * If it holds a decision granted at the start of the tick, it decides right away; otherwise it waits in place
+ * and is queued at the end of the tick. Every tick has a budget of decisions, which are granted to the waiting
+ * Grievers by their distance to the player, divided by how long they have waited, so near Grievers react first
+ * but far ones are never starved.
+ *
+ * Asking for a decision only changes the flags of the asking Griever in the {@link GrieverStore}, so the Grievers
+ * can move in parallel. The queue is only changed between the parallel phases, in the order of the Grievers,
+ * and the budget counts decisions rather than measuring time, which keeps sessions deterministic.
+ */
+public class GrieverScheduler {
+    // Constants
+    public static final int DEFAULT_DECISIONS_PER_TICK = 2;
+
+    // Budget
+    private final int decisionsPerTick;
+
+    // Waiting Grievers, by id
+    private final IntArray waiting = new IntArray();
+    private final IntArray waitingTicks = new IntArray();
+
+    /**
+     * Creates a scheduler with the given budget.
+     *
+     * @param decisionsPerTick the maximum number of decisions per tick, at least 1
+     */
+    public GrieverScheduler(int decisionsPerTick) {
+        this.decisionsPerTick = Math.max(1, decisionsPerTick);
+    }
+
+    /**
+     * Starts a new tick: withdraws the decisions granted in the last tick that were not used and grants
+     * the budget to the waiting Grievers with the highest priority. Grievers that are not updated in this tick
+     * (see {@link GrieverStore#scheduleUpdates}) keep waiting.
+     *
+     * @param store   The store with the state of the Grievers.
+     * @param playerX The X-coordinate of the player.
+     * @param playerY The Y-coordinate of the player.
+     */
+    public void beginTick(GrieverStore store, float playerX, float playerY) {
+        for (int i = 0; i < store.size(); i++) {
+            store.flags[i] &= ~GrieverStore.DECISION_GRANTED;
+        }
+
+        int decisionsLeft = decisionsPerTick;
+        while (decisionsLeft > 0 && waiting.notEmpty()) {
+            int best = 0;
+            float bestPriority = Float.MAX_VALUE;
+            for (int i = 0; i < waiting.size; i++) {
+                int slot = store.slotOf(waiting.get(i));
+                if ((store.flags[slot] & GrieverStore.DUE) == 0) {
+                    continue;
+                }
+                float distance = Math.abs(store.x[slot] - playerX) + Math.abs(store.y[slot] - playerY);
+                float priority = distance / waitingTicks.get(i);
+                if (priority < bestPriority) {
+                    bestPriority = priority;
+                    best = i;
+                }
+            }
+            if (bestPriority == Float.MAX_VALUE) {
+                break;
+            }
+            int slot = store.slotOf(waiting.removeIndex(best));
+            waitingTicks.removeIndex(best);
+            store.flags[slot] = (store.flags[slot] & ~GrieverStore.WAITING) | GrieverStore.DECISION_GRANTED;
+            decisionsLeft--;
+        }
+        for (int i = 0; i < waitingTicks.size; i++) {
+            waitingTicks.incr(i, 1);
+        }
+    }
+
+    /**
+     * Asks whether a Griever may make a decision now. If not, the Griever is marked to be queued at the end
+     * of the tick. Only the flags of the given Griever are changed, so Grievers may call this in parallel.
+     *
+     * @param store The store with the state of the Grievers.
+     * @param slot  The slot of the Griever that needs to decide.
+     * @return true if the Griever may decide in this tick, false if it has to wait.
+     */
+    public static boolean tryDecide(GrieverStore store, int slot) {
+        int flags = store.flags[slot];
+        if ((flags & GrieverStore.DECISION_GRANTED) != 0) {
+            store.flags[slot] = flags & ~GrieverStore.DECISION_GRANTED;
+            return true;
+        }
+        store.flags[slot] = flags | GrieverStore.WANTS_DECISION;
+        return false;
+    }
+
+    /**
+     * Ends the moving phase of a tick: queues the Grievers that asked for a decision without holding one,
+     * in the order of the given array.
+     *
+     * @param grievers The Grievers of the session.
+     * @param store    The store with the state of the Grievers.
+     */
+    public void endTick(Array<Griever> grievers, GrieverStore store) {
+        for (int i = 0; i < grievers.size; i++) {
+            int id = grievers.get(i).getId();
+            int slot = store.slotOf(id);
+            int flags = store.flags[slot];
+            if ((flags & GrieverStore.WANTS_DECISION) != 0) {
+                flags &= ~GrieverStore.WANTS_DECISION;
+                if ((flags & GrieverStore.WAITING) == 0) {
+                    flags |= GrieverStore.WAITING;
+                    waiting.add(id);
+                    waitingTicks.add(1);
+                }
+                store.flags[slot] = flags;
+            }
+        }
+    }
+
+    /**
+     * Forgets a Griever that was removed from the game.
+     *
+     * @param griever The removed Griever.
+     */
+    public void remove(Griever griever) {
+        int index = waiting.indexOf(griever.getId());
+        if (index >= 0) {
+            waiting.removeIndex(index);
+            waitingTicks.removeIndex(index);
+        }
+    }
+
+    /**
+     * Saves the waiting Grievers in the order they were queued, with how long they have waited.
+     *
+     * @param preferences the Preferences instance for saving state
+     */
+    public void saveState(Preferences preferences) {
+        preferences.putInteger("waitingCount", waiting.size);
+        for (int i = 0; i < waiting.size; i++) {
+            preferences.putInteger("waiting_" + i + "_id", waiting.get(i));
+            preferences.putInteger("waiting_" + i + "_ticks", waitingTicks.get(i));
+        }
+        preferences.flush();
+    }
+
+    /**
+     * Replaces the waiting Grievers with the saved ones. Nothing changes if no queue was saved; the flags
+     * of the Grievers, which tell that they wait, are loaded with the Grievers.
+     *
+     * @param preferences the Preferences instance containing saved state
+     */
+    public void loadState(Preferences preferences) {
+        if (!preferences.contains("waitingCount")) {
+            return;
+        }
+        waiting.clear();
+        waitingTicks.clear();
+        int waitingCount = preferences.getInteger("waitingCount");
+        for (int i = 0; i < waitingCount; i++) {
+            waiting.add(preferences.getInteger("waiting_" + i + "_id", 0));
+            waitingTicks.add(preferences.getInteger("waiting_" + i + "_ticks", 1));
+        }
+    }
+
+    public int getDecisionsPerTick() {
+        return decisionsPerTick;
+    }
+    public int getWaitingCount() {
+        return waiting.size;
+    }
+}
@@ -0,0 +1,239 @@
+package de.tum.cit.fop.maze.simulation;
+
+import java.util.Arrays;
+
+/**
+ * Stores the state of all Grievers of a session in primitive arrays. Each {@link Griever} holds the id
+ * of its entry and implements the decisions of a single Griever; the parts of a tick that are the same
+ * for every Griever (snapshots, animation and velocities) are updated here for all Grievers in one pass.
+ * The end of a stun and of a damage cooldown are {@link GameTimers} of the Griever, so stunned Grievers
+ * are not counted down in every tick.
+ *
+ * Grievers far from the player are not moved in every tick (see {@link SimulationLod}); they collect the
+ * skipped time in {@link #pendingDelta} and move by all of it when they are updated again.
+ */
+public class GrieverStore extends EntityStore {
+    // Flags
+    public static final int STUNNED = 1;
+    public static final int FOLLOWING_PLAYER = 1 << 1;
+    public static final int RANDOM_MOVEMENT = 1 << 2;
+    public static final int HAS_TARGET = 1 << 3;
+    /** Set on stunned Grievers from the tick after they were stunned until their stun ends. */
+    public static final int RESTING = 1 << 4;
+    // Decision Scheduling Flags, see GrieverScheduler
+    public static final int DECISION_GRANTED = 1 << 5;
+    public static final int WANTS_DECISION = 1 << 6;
+    public static final int WAITING = 1 << 7;
+    /** Set on Grievers that are updated in the current tick, see SimulationLod. */
+    public static final int DUE = 1 << 8;
+    /** Set on Grievers stunned during the decisions of the current tick, until the stun is started. */
+    public static final int STUN_STARTED = 1 << 9;
+    /** Set on Grievers that damaged the player and cannot damage the player again yet. */
+    public static final int COOLING_DOWN = 1 << 10;
+
+    // Constants
+    private static final float STUN_DURATION = 3.0f;
+    private static final float ANIMATION_TIME = 0.1f;
+
+    // Components
+    public float[] x, y;
+    public float[] lastX, lastY;
+    public float[] velocityX, velocityY;
+    public float[] targetX, targetY;
+    public float[] pendingDelta;
+    public float[] animationTime;
+    public int[] direction;
+    public int[] frameDirection;
+    public int[] walkFrame;
+    public int[] flags;
+
+    /**
+     * Creates an empty store.
+     *
+     * @param initialCapacity the number of Grievers the store can hold before it grows
+     */
+    public GrieverStore(int initialCapacity) {
+        super(initialCapacity);
+        x = new float[capacity()];
+        y = new float[capacity()];
+        lastX = new float[capacity()];
+        lastY = new float[capacity()];
+        velocityX = new float[capacity()];
+        velocityY = new float[capacity()];
+        targetX = new float[capacity()];
+        targetY = new float[capacity()];
+        pendingDelta = new float[capacity()];
+        animationTime = new float[capacity()];
+        direction = new int[capacity()];
+        frameDirection = new int[capacity()];
+        walkFrame = new int[capacity()];
+        flags = new int[capacity()];
+    }
+
+    /**
+     * Adds a Griever that stands still at the given position, facing right.
+     *
+     * @param startX the X-coordinate of the Griever
+     * @param startY the Y-coordinate of the Griever
+     * @return the id of the new Griever
+     */
+    public int add(float startX, float startY) {
+        int slot = allocate();
+        x[slot] = startX;
+        y[slot] = startY;
+        lastX[slot] = startX;
+        lastY[slot] = startY;
+        velocityX[slot] = 0f;
+        velocityY[slot] = 0f;
+        targetX[slot] = 0f;
+        targetY[slot] = 0f;
+        pendingDelta[slot] = 0f;
+        animationTime[slot] = 0f;
+        direction[slot] = Direction.RIGHT;
+        frameDirection[slot] = Direction.RIGHT;
+        walkFrame[slot] = 0;
+        flags[slot] = 0;
+        return idAt(slot);
+    }
+
+    /**
+     * Remembers the positions of all Grievers at the start of a simulation tick,
+     * so that rendering can interpolate between the last two ticks.
+     */
+    public void snapshotPositions() {
+        System.arraycopy(x, 0, lastX, 0, size());
+        System.arraycopy(y, 0, lastY, 0, size());
+    }
+
+    /**
+     * Ends the stun of a Griever when its timer fires, so it moves again from this tick on.
+     *
+     * @param id The id of the Griever, which may have been removed since it was stunned.
+     */
+    public void endStun(int id) {
+        int slot = slotOf(id);
+        if (slot >= 0) {
+            flags[slot] &= ~(STUNNED | RESTING);
+        }
+    }
+
+    /**
+     * Ends the damage cooldown of a Griever when its timer fires.
+     *
+     * @param id The id of the Griever, which may have been removed since it damaged the player.
+     */
+    public void endCooldown(int id) {
+        int slot = slotOf(id);
+        if (slot >= 0) {
+            flags[slot] &= ~COOLING_DOWN;
+        }
+    }
+
+    /**
+     * Decides which Grievers are updated in this tick. Every Griever collects the time since its last update;
+     * resting Grievers stay in place, so their time is dropped.
+     *
+     * @param lod   The level of detail, already started for this tick.
+     * @param delta The time in seconds since the last update.
+     */
+    public void scheduleUpdates(SimulationLod lod, float delta) {
+        for (int i = 0; i < size(); i++) {
+            int flag = flags[i];
+            if ((flag & RESTING) != 0) {
+                pendingDelta[i] = 0f;
+                flags[i] = flag & ~DUE;
+                continue;
+            }
+            pendingDelta[i] = (flag & DUE) != 0 ? delta : pendingDelta[i] + delta;
+            if (lod.isDue(idAt(i), x[i], y[i])) {
+                flags[i] = flag | DUE;
+            } else {
+                flags[i] = flag & ~DUE;
+            }
+        }
+    }
+
+    /**
+     * Finishes a tick: starts the stuns of the Grievers the player stunned during the decisions, which rest
+     * from the next tick on until their stun timer fires, and reports them to the scoreboard. For all
+     * Grievers that did not rest, switches the walking frames at the animation rate and derives the
+     * velocities of the updated Grievers from their movement. Switching to another direction always starts
+     * with the first walking frame.
+     *
+     * @param delta The time in seconds since the last update.
+     * @param timers The timers the ends of the stuns are scheduled on.
+     * @param hud The Scoreboard to report the stuns to.
+     */
+    public void finishTick(float delta, GameTimers timers, Scoreboard hud) {
+        for (int i = 0; i < size(); i++) {
+            if ((flags[i] & RESTING) != 0) {
+                velocityX[i] = 0f;
+                velocityY[i] = 0f;
+                continue;
+            }
+            animationTime[i] += delta;
+            if (animationTime[i] >= ANIMATION_TIME) {
+                walkFrame[i] = (frameDirection[i] == direction[i] && walkFrame[i] == 0) ? 1 : 0;
+                frameDirection[i] = direction[i];
+                animationTime[i] = 0;
+            }
+            if ((flags[i] & DUE) != 0) {
+                velocityX[i] = (x[i] - lastX[i]) / pendingDelta[i];
+                velocityY[i] = (y[i] - lastY[i]) / pendingDelta[i];
+            }
+            if ((flags[i] & STUN_STARTED) != 0) {
+                flags[i] = (flags[i] & ~STUN_STARTED) | RESTING;
+                timers.schedule(STUN_DURATION, GameTimers.STUN_END, idAt(i));
+                hud.reportGrieverStunned(idAt(i), x[i], y[i]);
+            }
+        }
+    }
+
+    /**
+     * Moves every Griever to the cell of its current position in a spatial index.
+     * Grievers that stayed in their cell leave the index untouched.
+     *
+     * @param index The index of the Grievers, keyed by their ids.
+     */
+    public void indexPositions(SpatialHash index) {
+        for (int i = 0; i < size(); i++) {
+            index.put(idAt(i), x[i], y[i]);
+        }
+    }
+
+    @Override
+    protected void resize(int capacity) {
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        lastX = Arrays.copyOf(lastX, capacity);
+        lastY = Arrays.copyOf(lastY, capacity);
+        velocityX = Arrays.copyOf(velocityX, capacity);
+        velocityY = Arrays.copyOf(velocityY, capacity);
+        targetX = Arrays.copyOf(targetX, capacity);
+        targetY = Arrays.copyOf(targetY, capacity);
+        pendingDelta = Arrays.copyOf(pendingDelta, capacity);
+        animationTime = Arrays.copyOf(animationTime, capacity);
+        direction = Arrays.copyOf(direction, capacity);
+        frameDirection = Arrays.copyOf(frameDirection, capacity);
+        walkFrame = Arrays.copyOf(walkFrame, capacity);
+        flags = Arrays.copyOf(flags, capacity);
+    }
+
+    @Override
+    protected void move(int from, int to) {
+        x[to] = x[from];
+        y[to] = y[from];
+        lastX[to] = lastX[from];
+        lastY[to] = lastY[from];
+        velocityX[to] = velocityX[from];
+        velocityY[to] = velocityY[from];
+        targetX[to] = targetX[from];
+        targetY[to] = targetY[from];
+        pendingDelta[to] = pendingDelta[from];
+        animationTime[to] = animationTime[from];
+        direction[to] = direction[from];
+        frameDirection[to] = frameDirection[from];
+        walkFrame[to] = walkFrame[from];
+        flags[to] = flags[from];
+    }
+}
@@ -0,0 +1,619 @@
+package de.tum.cit.fop.maze.simulation;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Runs maze sessions without a window or OpenGL context and reports how fast the game logic runs.
+ *
+ * Each session is played by a random walker that changes its movement keys every half second.
+ * Sessions run at the game's fixed tick rate as fast as possible, until the game is over, the level
+ * is cleared or the tick limit is reached. Sessions and inputs are seeded, so the printed checksum
+ * stays the same between runs unless the game logic changes its behavior.
+ *
+ * A recorded game (see {@link InputRecording}) can be replayed the same way, which is the standard
+ * throughput benchmark: the replay always runs the same ticks and checks that it reproduces the recorded game.
+ *
+ * The save-load mode checks that saving and loading a session does not change how it goes on: a session is
+ * saved, loaded into a new session with another seed, and both are played on with the same inputs, which
+ * must give the same state after every tick.
+ *
+ * The crowd mode fills a map with many Grievers and plays it once with serial and once with parallel
+ * Griever decisions (see {@link GrieverDecisionPhase}), to show how the decisions scale across cores
+ * and that both runs end in the same state.
+ *
+ * The paths mode generates a large maze and compares route queries of the flat {@link AStar} search with
+ * the hierarchical search ({@link HierarchicalPathfinder}).
+ *
+ * The roam mode plays a session on a generated maze that is larger than the shipped maps, with Grievers
+ * starting just before the middle of the maze, and checks that they walk into its far half.
+ *
+ * The search mode compares the expanded tiles and the time of route queries over the path2 layers of the maps
+ * and over a generated maze, answered by {@link AStar}, by {@link JumpPointSearch}, and by computing the
+ * {@link FlowField} towards the goal that following Grievers read, as the pursuit does whenever the player
+ * enters another tile.
+ *
+ * Usage (run from the assets directory, e.g. with "gradlew :simulation:benchmark"):
+ *   HeadlessBenchmark [sessions] [maxTicks] [map.tmx ...]
+ *   HeadlessBenchmark --replay recording.mzr [repeats]
+ *   HeadlessBenchmark --record recording.mzr map.tmx [maxTicks]
+ *   HeadlessBenchmark --save-load [saveTick] [ticks] [map.tmx ...]
+ *   HeadlessBenchmark --crowd grievers [maxTicks] [map.tmx]
+ *   HeadlessBenchmark --paths [size] [queries]
+ *   HeadlessBenchmark --search [size] [queries] [map.tmx ...]
+ *   HeadlessBenchmark --roam [size] [maxTicks]
+ */
+public class HeadlessBenchmark {
+    // Constants
+    private static final float TICK = 1f / MazeSession.DEFAULT_TICKS_PER_SECOND;
+    private static final int TICKS_PER_INPUT_CHANGE = 30;
+    private static final long SEED = 42L;
+    private static final int DEFAULT_SESSIONS = 20;
+    private static final int DEFAULT_MAX_TICKS = 60 * 300;
+    private static final String[] DEFAULT_MAPS = {"map1.tmx", "map2.tmx", "map3.tmx", "map4.tmx", "map5.tmx"};
+    private static final int DEFAULT_SAVE_TICK = 60 * 20;
+    private static final int DEFAULT_TICKS_AFTER_LOAD = 60 * 60;
+    private static final int SAVE_LOAD_SESSIONS = 5;
+    private static final int DEFAULT_CROWD_TICKS = 60 * 30;
+    private static final float CROWD_MIN_PLAYER_DISTANCE = 150f;
+    private static final int DEFAULT_MAZE_SIZE = 1000;
+    private static final int DEFAULT_PATH_QUERIES = 200;
+    private static final int DEFAULT_SEARCH_MAZE_SIZE = 500;
+    private static final float MAZE_LOOP_CHANCE = 0.1f;
+    private static final int DEFAULT_ROAM_MAZE_SIZE = 256;
+    private static final int DEFAULT_ROAM_TICKS = 60 * 60;
+    private static final int ROAM_GRIEVERS = 32;
+    private static final int ROAM_SPAWN_BAND = 8;
+    private static final int MAZE_TILE_SIZE = 16;
+
+    public static void main(String[] args) {
+        if (args.length > 1 && args[0].equals("--replay")) {
+            runReplay(args[1], args.length > 2 ? Integer.parseInt(args[2]) : 1);
+            return;
+        }
+        if (args.length > 2 && args[0].equals("--record")) {
+            record(args[1], args[2], args.length > 3 ? Integer.parseInt(args[3]) : DEFAULT_MAX_TICKS);
+            return;
+        }
+        if (args.length > 0 && args[0].equals("--save-load")) {
+            int saveTick = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_SAVE_TICK;
+            int ticks = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_TICKS_AFTER_LOAD;
+            for (String map : args.length > 3 ? Arrays.copyOfRange(args, 3, args.length) : DEFAULT_MAPS) {
+                runSaveLoad(map, saveTick, ticks);
+            }
+            return;
+        }
+        if (args.length > 1 && args[0].equals("--crowd")) {
+            runCrowd(Integer.parseInt(args[1]), args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_CROWD_TICKS,
+                    args.length > 3 ? args[3] : DEFAULT_MAPS[0]);
+            return;
+        }
+
+        if (args.length > 0 && args[0].equals("--paths")) {
+            runPaths(args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_MAZE_SIZE,
+                    args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_PATH_QUERIES);
+            return;
+        }
+
+        if (args.length > 0 && args[0].equals("--roam")) {
+            runRoam(args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_ROAM_MAZE_SIZE,
+                    args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_ROAM_TICKS);
+            return;
+        }
+
+        if (args.length > 0 && args[0].equals("--search")) {
+            int size = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_SEARCH_MAZE_SIZE;
+            int queries = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_PATH_QUERIES;
+            for (String map : args.length > 3 ? Arrays.copyOfRange(args, 3, args.length) : DEFAULT_MAPS) {
+                runSearches(map, TmxLayoutReader.read(new FileHandle(map)).getPath2(), queries);
+            }
+            runSearches(size + "x" + size + " maze", generateMaze(size, SEED), queries);
+            return;
+        }
+
+        int sessions = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_SESSIONS;
+        int maxTicks = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_MAX_TICKS;
+        String[] maps = args.length > 2 ? Arrays.copyOfRange(args, 2, args.length) : DEFAULT_MAPS;
+
+        for (String map : maps) {
+            runMap(map, sessions, maxTicks);
+        }
+    }
+
+    /**
+     * Plays the given number of sessions on a map and prints the results.
+     *
+     * @param mapPath  the path of the .tmx file
+     * @param sessions the number of sessions to play
+     * @param maxTicks the maximum number of ticks of a session
+     */
+    private static void runMap(String mapPath, int sessions, int maxTicks) {
+        MazeLayout layout = TmxLayoutReader.read(new FileHandle(mapPath));
+        Random random = new Random(SEED);
+        PlayerInput input = new PlayerInput();
+
+        long totalTicks = 0;
+        long checksum = 0;
+        int gamesOver = 0, levelsCleared = 0;
+        long timersScheduled = 0, timersFired = 0;
+        long start = System.nanoTime();
+
+        for (int s = 0; s < sessions; s++) {
+            MazeSession session = new MazeSession(layout, SEED + s);
+            for (int tick = 0; tick < maxTicks; tick++) {
+                if (tick % TICKS_PER_INPUT_CHANGE == 0) {
+                    input.set(random.nextBoolean(), random.nextBoolean(), random.nextBoolean(),
+                            random.nextBoolean(), random.nextInt(4) == 0);
+                }
+                session.update(TICK, input);
+                totalTicks++;
+                if (session.isGameOver() || session.isLevelCleared()) {
+                    break;
+                }
+            }
+            checksum = 31 * checksum + session.stateHash();
+            timersScheduled += session.getTimers().getScheduledCount();
+            timersFired += session.getTimers().getFiredCount();
+            if (session.isGameOver()) {
+                gamesOver++;
+            } else if (session.isLevelCleared()) {
+                levelsCleared++;
+            }
+        }
+
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("%s: %d sessions, %d ticks in %.2f s (%.0f ticks/s, %.1f sessions/s), "
+                        + "%d game over, %d cleared, %d timed out, checksum %016x%n",
+                mapPath, sessions, totalTicks, seconds, totalTicks / seconds, sessions / seconds,
+                gamesOver, levelsCleared, sessions - gamesOver - levelsCleared, checksum);
+        System.out.printf("  timers: %d scheduled, %d fired%n", timersScheduled, timersFired);
+    }
+
+    /**
+     * Replays a recorded game as fast as possible without rendering and prints the throughput.
+     *
+     * @param recordingPath the path of the recording
+     * @param repeats       how many times the recording is replayed
+     */
+    private static void runReplay(String recordingPath, int repeats) {
+        InputRecording recording = InputRecording.read(new FileHandle(recordingPath).read());
+        MazeLayout layout = TmxLayoutReader.read(new FileHandle(recording.getMapPath()));
+        float tick = 1f / recording.getTicksPerSecond();
+        PlayerInput input = new PlayerInput();
+
+        boolean reproduced = true;
+        long start = System.nanoTime();
+        for (int r = 0; r < repeats; r++) {
+            MazeSession session = new MazeSession(layout, recording.getSeed(), recording.getTicksPerSecond());
+            InputRecording.Playback playback = recording.play();
+            while (playback.hasNext()) {
+                InputRecording.applyMask(playback.next(), input);
+                session.update(tick, input);
+            }
+            reproduced &= !recording.hasFinalStateHash() || session.stateHash() == recording.getFinalStateHash();
+        }
+
+        double seconds = (System.nanoTime() - start) / 1e9;
+        long totalTicks = (long) recording.getTickCount() * repeats;
+        System.out.printf("%s (%s): %d x %d ticks in %.2f s (%.0f ticks/s), %s%n",
+                recordingPath, recording.getMapPath(), repeats, recording.getTickCount(), seconds, totalTicks / seconds,
+                reproduced ? "reproduced" : "DIVERGED from the recording");
+    }
+
+    /**
+     * Saves random-walk sessions on a map, loads each into a new session with another seed, plays both on with
+     * the same inputs and prints whether their states stayed the same. Sessions that ended before they were
+     * saved are skipped.
+     *
+     * @param mapPath  the path of the .tmx file
+     * @param saveTick the tick after which the sessions are saved
+     * @param ticks    the number of ticks played after loading
+     */
+    private static void runSaveLoad(String mapPath, int saveTick, int ticks) {
+        MazeLayout layout = TmxLayoutReader.read(new FileHandle(mapPath));
+        PlayerInput input = new PlayerInput();
+        int saved = 0, same = 0;
+        for (int s = 0; s < SAVE_LOAD_SESSIONS; s++) {
+            MazeSession session = new MazeSession(layout, SEED + s);
+            Random random = new Random(SEED + s);
+            int tick = 0;
+            for (; tick < saveTick && !session.isGameOver() && !session.isLevelCleared(); tick++) {
+                if (tick % TICKS_PER_INPUT_CHANGE == 0) {
+                    input.set(random.nextBoolean(), random.nextBoolean(), random.nextBoolean(),
+                            random.nextBoolean(), random.nextInt(4) == 0);
+                }
+                session.update(TICK, input);
+            }
+            if (session.isGameOver() || session.isLevelCleared()) {
+                continue;
+            }
+            Map<String, MemoryPreferences> preferences = new HashMap<>();
+            session.saveState(name -> preferences.computeIfAbsent(name, key -> new MemoryPreferences()));
+            MazeSession loaded = new MazeSession(layout, ~(SEED + s));
+            loaded.loadState(name -> preferences.computeIfAbsent(name, key -> new MemoryPreferences()));
+            saved++;
+
+            int divergedAt = -1;
+            for (int end = tick + ticks; tick < end && !session.isGameOver() && !session.isLevelCleared(); tick++) {
+                if (tick % TICKS_PER_INPUT_CHANGE == 0) {
+                    input.set(random.nextBoolean(), random.nextBoolean(), random.nextBoolean(),
+                            random.nextBoolean(), random.nextInt(4) == 0);
+                }
+                session.update(TICK, input);
+                loaded.update(TICK, input);
+                if (session.stateHash() != loaded.stateHash()) {
+                    divergedAt = tick + 1;
+                    break;
+                }
+            }
+            if (divergedAt < 0) {
+                same++;
+            } else {
+                System.out.printf("  session %d saved after tick %d: DIFFERENT state after tick %d%n", s, saveTick, divergedAt);
+            }
+        }
+        System.out.printf("%s: %d of %d sessions saved after tick %d, %d of them in the same state after loading%n",
+                mapPath, saved, SAVE_LOAD_SESSIONS, saveTick, same);
+    }
+
+    /**
+     * Plays one random-walk session on a map and writes its input recording.
+     *
+     * @param recordingPath the path to write the recording to
+     * @param mapPath       the path of the .tmx file
+     * @param maxTicks      the maximum number of ticks of the session
+     */
+    private static void record(String recordingPath, String mapPath, int maxTicks) {
+        MazeSession session = new MazeSession(TmxLayoutReader.read(new FileHandle(mapPath)), SEED);
+        InputRecording recording = new InputRecording(mapPath, SEED, Math.round(1f / TICK));
+        Random random = new Random(SEED);
+        PlayerInput input = new PlayerInput();
+
+        for (int tick = 0; tick < maxTicks && !session.isGameOver() && !session.isLevelCleared(); tick++) {
+            if (tick % TICKS_PER_INPUT_CHANGE == 0) {
+                input.set(random.nextBoolean(), random.nextBoolean(), random.nextBoolean(),
+                        random.nextBoolean(), random.nextInt(4) == 0);
+            }
+            recording.record(InputRecording.toMask(input));
+            session.update(TICK, input);
+        }
+        recording.setFinalStateHash(session.stateHash());
+        recording.write(new FileHandle(recordingPath).write(false));
+        System.out.printf("%s: recorded %d ticks of %s%n", recordingPath, recording.getTickCount(), mapPath);
+    }
+
+    /**
+     * Plays a map crowded with Grievers with serial and with parallel decisions and prints both throughputs.
+     *
+     * @param grieverCount the number of Grievers
+     * @param maxTicks     the maximum number of ticks of the session
+     * @param mapPath      the path of the .tmx file
+     */
+    private static void runCrowd(int grieverCount, int maxTicks, String mapPath) {
+        MazeLayout layout = crowd(TmxLayoutReader.read(new FileHandle(mapPath)), grieverCount);
+        GrieverDecisionPhase serial = new GrieverDecisionPhase(null, GrieverDecisionPhase.DEFAULT_BATCH_SIZE);
+        GrieverDecisionPhase parallel = new GrieverDecisionPhase(ForkJoinPool.commonPool(), GrieverDecisionPhase.DEFAULT_BATCH_SIZE);
+
+        // the first round warms up the JIT compiler, the second one is measured
+        long serialHash = 0, parallelHash = 0;
+        for (int round = 0; round < 2; round++) {
+            serialHash = runCrowdSession(layout, serial, maxTicks, round == 1, "serial");
+            parallelHash = runCrowdSession(layout, parallel, maxTicks, round == 1,
+                    "parallel (" + ForkJoinPool.commonPool().getParallelism() + " workers)");
+        }
+        System.out.printf("%s with %d Grievers: %s%n", mapPath, grieverCount,
+                serialHash == parallelHash ? "same final state" : "DIFFERENT final states");
+    }
+
+    private static long runCrowdSession(MazeLayout layout, GrieverDecisionPhase decisions, int maxTicks,
+                                        boolean print, String name) {
+        MazeSession session = new MazeSession(layout, SEED);
+        session.setGrieverDecisions(decisions);
+        PlayerInput input = new PlayerInput();
+        Random random = new Random(SEED);
+
+        int ticks = 0;
+        long start = System.nanoTime();
+        for (; ticks < maxTicks && !session.isGameOver() && !session.isLevelCleared(); ticks++) {
+            if (ticks % TICKS_PER_INPUT_CHANGE == 0) {
+                input.set(random.nextBoolean(), random.nextBoolean(), random.nextBoolean(),
+                        random.nextBoolean(), random.nextInt(4) == 0);
+            }
+            session.update(TICK, input);
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        if (print) {
+            System.out.printf("  %s: %d ticks in %.2f s (%.0f ticks/s)%n", name, ticks, seconds, ticks / seconds);
+        }
+        return session.stateHash();
+    }
+
+    /**
+     * Copies a layout and places the given number of Grievers on random tiles of its "path2" layer
+     * that are not too close to the player.
+     *
+     * @param layout       the layout of the map
+     * @param grieverCount the number of Grievers
+     * @return the crowded layout
+     */
+    private static MazeLayout crowd(MazeLayout layout, int grieverCount) {
+        Array<Vector2> tiles = new Array<>();
+        BitGrid path2 = layout.getPath2();
+        for (int x = 0; x < path2.getWidth(); x++) {
+            for (int y = 0; y < path2.getHeight(); y++) {
+                float spawnX = x * layout.getTileWidth();
+                float spawnY = y * layout.getTileHeight();
+                if (path2.get(x, y) && layout.getPlayerSpawn().dst(spawnX, spawnY) >= CROWD_MIN_PLAYER_DISTANCE) {
+                    tiles.add(new Vector2(spawnX, spawnY));
+                }
+            }
+        }
+        Random random = new Random(SEED);
+        Array<Vector2> spawns = new Array<>();
+        for (int i = 0; i < grieverCount; i++) {
+            spawns.add(new Vector2(tiles.get(random.nextInt(tiles.size))));
+        }
+        return layout.withGrieverSpawns(spawns);
+    }
+
+    /**
+     * Generates a maze and answers the same random route queries with the flat and the hierarchical search.
+     *
+     * @param size    the width and height of the maze in tiles
+     * @param queries the number of route queries
+     */
+    private static void runPaths(int size, int queries) {
+        BitGrid maze = generateMaze(size, SEED);
+        long start = System.nanoTime();
+        HierarchicalGraph graph = new HierarchicalGraph(maze, HierarchicalGraph.DEFAULT_CLUSTER_SIZE);
+        System.out.printf("%dx%d maze: abstract graph with %d nodes and %d edges built in %.0f ms%n", size, size,
+                graph.getNodeCount(), graph.getEdgeCount(), (System.nanoTime() - start) / 1e6);
+
+        int[] queryTiles = randomQueries(maze, queries);
+
+        AStar flat = new AStar();
+        HierarchicalPathfinder hierarchical = new HierarchicalPathfinder(graph);
+        IntArray route = new IntArray();
+        boolean[] flatFound = new boolean[queries];
+        // the first round warms up the JIT compiler, the second one is measured; each search answers all queries
+        // in one pass, so that it does not run on caches the other search has just filled with its own buffers
+        for (int round = 0; round < 2; round++) {
+            long flatLength = 0, hierarchicalLength = 0;
+            int found = 0;
+            long t0 = System.nanoTime();
+            for (int i = 0; i < queryTiles.length; i += 4) {
+                flatFound[i / 4] = flat.findPath(maze, queryTiles[i], queryTiles[i + 1], queryTiles[i + 2], queryTiles[i + 3], route);
+                flatLength += route.size;
+            }
+            long t1 = System.nanoTime();
+            for (int i = 0; i < queryTiles.length; i += 4) {
+                if (hierarchical.findPath(queryTiles[i], queryTiles[i + 1], queryTiles[i + 2], queryTiles[i + 3], route)
+                        && flatFound[i / 4]) {
+                    found++;
+                }
+                hierarchicalLength += route.size;
+            }
+            long t2 = System.nanoTime();
+            long flatNanos = t1 - t0;
+            long hierarchicalNanos = t2 - t1;
+            if (round == 1) {
+                System.out.printf("  flat A*: %.3f ms per query%n", flatNanos / 1e6 / queries);
+                System.out.printf("  hierarchical: %.3f ms per query, routes %.1f%% longer%n",
+                        hierarchicalNanos / 1e6 / queries, 100.0 * (hierarchicalLength - flatLength) / Math.max(1, flatLength));
+                System.out.printf("  %d of %d queries found by both%n", found, queries);
+            }
+        }
+    }
+
+    /**
+     * Plays a session on a generated maze with Grievers that start in the columns just before the middle of
+     * the maze, while the player stands still in the bottom left corner, and prints how many of the Grievers
+     * walked into the far half of the maze.
+     *
+     * @param size     the width and height of the maze in tiles
+     * @param maxTicks the number of ticks of the session
+     */
+    private static void runRoam(int size, int maxTicks) {
+        BitGrid maze = generateMaze(size, SEED);
+        BitGrid walls = new BitGrid(size, size);
+        Array<Vector2> tiles = new Array<>();
+        for (int x = 0; x < size; x++) {
+            for (int y = 0; y < size; y++) {
+                walls.set(x, y, !maze.get(x, y));
+                if (maze.get(x, y) && x >= size / 2 - ROAM_SPAWN_BAND && x < size / 2) {
+                    tiles.add(new Vector2(x * MAZE_TILE_SIZE, y * MAZE_TILE_SIZE));
+                }
+            }
+        }
+        Random random = new Random(SEED);
+        Array<Vector2> spawns = new Array<>();
+        for (int i = 0; i < ROAM_GRIEVERS; i++) {
+            spawns.add(new Vector2(tiles.get(random.nextInt(tiles.size))));
+        }
+        MazeLayout layout = new MazeLayout(size, size, MAZE_TILE_SIZE, MAZE_TILE_SIZE, walls, maze, maze,
+                new BitGrid(size, size), new BitGrid(size, size), new BitGrid(size, size), new Array<>(),
+                new Vector2(MAZE_TILE_SIZE, MAZE_TILE_SIZE), spawns, new Array<>(), new Array<>(), new Array<>(), null);
+
+        MazeSession session = new MazeSession(layout, SEED);
+        GrieverStore store = session.getGrieverStore();
+        PlayerInput input = new PlayerInput();
+        float farHalf = size / 2 * MAZE_TILE_SIZE;
+        boolean[] reachedFarHalf = new boolean[ROAM_GRIEVERS];
+        float farthestX = 0f;
+        long start = System.nanoTime();
+        for (int tick = 0; tick < maxTicks && !session.isGameOver(); tick++) {
+            session.update(TICK, input);
+            for (int i = 0; i < store.size(); i++) {
+                farthestX = Math.max(farthestX, store.x[i]);
+                if (store.x[i] >= farHalf) {
+                    reachedFarHalf[store.idAt(i)] = true;
+                }
+            }
+        }
+        int reached = 0;
+        for (boolean griever : reachedFarHalf) {
+            if (griever) {
+                reached++;
+            }
+        }
+        System.out.printf("%dx%d maze: %d of %d Grievers walked into the far half in %.2f s, farthest x %.0f of %.0f%n",
+                size, size, reached, ROAM_GRIEVERS, (System.nanoTime() - start) / 1e9, farthestX,
+                (float) size * MAZE_TILE_SIZE);
+        if (reached == 0) {
+            System.out.println("  FAILED: no Griever left the near half of the maze");
+        }
+    }
+
+    /**
+     * Answers the same random route queries over a grid with A*, with Jump Point Search and by computing
+     * a flow field towards the goal, and prints the average work and time of a query.
+     *
+     * @param name    the name of the grid to print
+     * @param grid    the walkable tiles
+     * @param queries the number of route queries
+     */
+    private static void runSearches(String name, BitGrid grid, int queries) {
+        int[] queryTiles = randomQueries(grid, queries);
+        AStar aStar = new AStar();
+        JumpPointSearch jumpPoints = new JumpPointSearch();
+        FlowField field = new FlowField(grid);
+        IntArray route = new IntArray();
+
+        // the first round warms up the JIT compiler, the second one is measured
+        for (int round = 0; round < 2; round++) {
+            long aStarNanos = 0, jumpPointNanos = 0, fieldNanos = 0;
+            long aStarExpanded = 0, jumpPointExpanded = 0, jumpPointScanned = 0, fieldTiles = 0;
+            int differentLengths = 0;
+            for (int i = 0; i < queryTiles.length; i += 4) {
+                long t0 = System.nanoTime();
+                aStar.findPath(grid, queryTiles[i], queryTiles[i + 1], queryTiles[i + 2], queryTiles[i + 3], route);
+                long t1 = System.nanoTime();
+                int aStarLength = route.size;
+                jumpPoints.findPath(grid, queryTiles[i], queryTiles[i + 1], queryTiles[i + 2], queryTiles[i + 3], route);
+                long t2 = System.nanoTime();
+                field.update(queryTiles[i + 2], queryTiles[i + 3]);
+                long t3 = System.nanoTime();
+
+                aStarNanos += t1 - t0;
+                jumpPointNanos += t2 - t1;
+                fieldNanos += t3 - t2;
+                aStarExpanded += aStar.getLastExpandedCount();
+                jumpPointExpanded += jumpPoints.getLastExpandedCount();
+                jumpPointScanned += jumpPoints.getLastScannedCount();
+                if (round == 1) {
+                    fieldTiles += countReachable(field, grid);
+                }
+                if (route.size != aStarLength) {
+                    differentLengths++;
+                }
+            }
+            if (round == 1) {
+                System.out.printf("%s (%d x %d, %d queries):%n", name, grid.getWidth(), grid.getHeight(), queries);
+                System.out.printf("  A*: %.1f expanded, %.4f ms per query%n",
+                        (double) aStarExpanded / queries, aStarNanos / 1e6 / queries);
+                System.out.printf("  jump point search: %.1f expanded, %.1f scanned, %.4f ms per query, %d routes of other length%n",
+                        (double) jumpPointExpanded / queries, (double) jumpPointScanned / queries,
+                        jumpPointNanos / 1e6 / queries, differentLengths);
+                System.out.printf("  flow field: %.1f reached, %.4f ms per goal%n",
+                        (double) fieldTiles / queries, fieldNanos / 1e6 / queries);
+            }
+        }
+    }
+
+    private static int countReachable(FlowField field, BitGrid grid) {
+        int reachable = 0;
+        for (int x = 0; x < grid.getWidth(); x++) {
+            for (int y = 0; y < grid.getHeight(); y++) {
+                if (field.getDistance(x, y) != FlowField.UNREACHABLE) {
+                    reachable++;
+                }
+            }
+        }
+        return reachable;
+    }
+
+    /**
+     * Picks random pairs of walkable start and goal tiles.
+     *
+     * @param grid    the walkable tiles
+     * @param queries the number of pairs
+     * @return startX, startY, goalX and goalY of every pair
+     */
+    private static int[] randomQueries(BitGrid grid, int queries) {
+        int[] queryTiles = new int[queries * 4];
+        Random random = new Random(SEED);
+        for (int i = 0; i < queryTiles.length; i += 2) {
+            do {
+                queryTiles[i] = random.nextInt(grid.getWidth());
+                queryTiles[i + 1] = random.nextInt(grid.getHeight());
+            } while (!grid.get(queryTiles[i], queryTiles[i + 1]));
+        }
+        return queryTiles;
+    }
+
+    /**
+     * Generates a maze with corridors of one tile: a random spanning tree of the cells at odd coordinates,
+     * with some extra openings so that the maze has loops like the shipped maps.
+     *
+     * @param size the width and height of the maze in tiles
+     * @param seed the seed of the maze
+     * @return the walkable tiles of the maze
+     */
+    private static BitGrid generateMaze(int size, long seed) {
+        BitGrid maze = new BitGrid(size, size);
+        Random random = new Random(seed);
+        int cells = (size - 1) / 2;
+        boolean[] visited = new boolean[cells * cells];
+        int[] stack = new int[cells * cells];
+        int top = 0;
+        stack[top++] = 0;
+        visited[0] = true;
+        maze.set(1, 1, true);
+        int[] order = {0, 1, 2, 3};
+        while (top > 0) {
+            int cell = stack[top - 1];
+            int cellX = cell % cells;
+            int cellY = cell / cells;
+            for (int i = 3; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                int swap = order[i];
+                order[i] = order[j];
+                order[j] = swap;
+            }
+            boolean moved = false;
+            for (int direction : order) {
+                int nextX = cellX + Direction.dx(direction);
+                int nextY = cellY + Direction.dy(direction);
+                if (nextX < 0 || nextY < 0 || nextX >= cells || nextY >= cells || visited[nextY * cells + nextX]) {
+                    continue;
+                }
+                visited[nextY * cells + nextX] = true;
+                maze.set(2 * cellX + 1 + Direction.dx(direction), 2 * cellY + 1 + Direction.dy(direction), true);
+                maze.set(2 * nextX + 1, 2 * nextY + 1, true);
+                stack[top++] = nextY * cells + nextX;
+                moved = true;
+                break;
+            }
+            if (!moved) {
+                top--;
+            }
+        }
+        for (int x = 1; x < size - 1; x++) {
+            for (int y = 1; y < size - 1; y++) {
+                boolean betweenCells = (x % 2 == 1) != (y % 2 == 1);
+                if (betweenCells && random.nextFloat() < MAZE_LOOP_CHANCE) {
+                    maze.set(x, y, true);
+                }
+            }
+        }
+        return maze;
+    }
+}
@@ -0,0 +1,413 @@
+package de.tum.cit.fop.maze.simulation;
+
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.IntIntMap;
+
+import java.util.Arrays;
+
+/**
+ * The abstract graph of hierarchical path-finding (HPA*) over a {@link BitGrid}. The grid is divided into
+ * square clusters. Where two neighbouring clusters share walkable tiles along their border, entrances are
+ * placed, and the tiles on both sides of an entrance become nodes of the graph. Nodes of neighbouring clusters
+ * are connected by the step across the border; nodes of the same cluster are connected by the length of the
+ * shortest route between them inside the cluster.
+ *
+ * Corridors of mazes wind far away from the straight line to the goal, so the distance to the goal is a weak
+ * estimate for the search. The graph therefore also stores the distances from a few landmark nodes, spread over
+ * the graph, to all nodes; by the triangle inequality they give much better estimates (the ALT heuristic).
+ *
+ * The graph is built once when a map is loaded and is only read afterwards, so any number of
+ * {@link HierarchicalPathfinder}s may search it at the same time. The edges are stored in compressed
+ * arrays (the edges of node n are edgeTarget[edgeStart[n] .. edgeStart[n + 1] - 1]).
+ */
+public class HierarchicalGraph {
+    // Constants
+    public static final int DEFAULT_CLUSTER_SIZE = 16;
+    /** Entrances at least this long get a node pair at both ends instead of one in the middle. */
+    private static final int LONG_ENTRANCE = 6;
+    public static final int LANDMARK_COUNT = 32;
+    public static final int UNREACHABLE = Integer.MAX_VALUE;
+
+    // Grid
+    private final BitGrid walkable;
+    private final int clusterSize;
+    private final int clustersX, clustersY;
+
+    // Nodes
+    private int nodeCount;
+    private final IntArray nodeTiles = new IntArray();
+    private final IntIntMap nodeOfTile = new IntIntMap();
+    private int[] clusterNodeStart;
+    private int[] clusterNodes;
+
+    // Edges
+    private int[] edgeStart;
+    private int[] edgeTarget;
+    private int[] edgeCost;
+
+    // Landmarks, landmarkDistance[n * landmarkCount + l] is the distance from landmark l to node n,
+    // so the distances of a node lie next to each other
+    private int landmarkCount;
+    private int[] landmarkDistance;
+
+    /**
+     * Builds the abstract graph of a grid.
+     *
+     * @param walkable    the walkable tiles; the grid must not change while the graph is used
+     * @param clusterSize the width and height of a cluster in tiles
+     */
+    public HierarchicalGraph(BitGrid walkable, int clusterSize) {
+        this.walkable = walkable;
+        this.clusterSize = clusterSize;
+        this.clustersX = (walkable.getWidth() + clusterSize - 1) / clusterSize;
+        this.clustersY = (walkable.getHeight() + clusterSize - 1) / clusterSize;
+
+        IntArray edgesFrom = new IntArray();
+        IntArray edgesTo = new IntArray();
+        IntArray edgesCost = new IntArray();
+        findEntrances(edgesFrom, edgesTo, edgesCost);
+        groupNodesByCluster();
+        connectNodesInsideClusters(edgesFrom, edgesTo, edgesCost);
+        compressEdges(edgesFrom, edgesTo, edgesCost);
+        placeLandmarks();
+    }
+
+    /**
+     * Places the entrances on the borders between neighbouring clusters and connects the node pairs across them.
+     */
+    private void findEntrances(IntArray edgesFrom, IntArray edgesTo, IntArray edgesCost) {
+        int width = walkable.getWidth();
+        int height = walkable.getHeight();
+        for (int clusterY = 0; clusterY < clustersY; clusterY++) {
+            for (int clusterX = 0; clusterX < clustersX; clusterX++) {
+                int minX = clusterX * clusterSize;
+                int minY = clusterY * clusterSize;
+                int maxX = Math.min(minX + clusterSize, width) - 1;
+                int maxY = Math.min(minY + clusterSize, height) - 1;
+                if (maxX + 1 < width) {
+                    // border to the cluster on the right
+                    findEntrancesAlong(maxX, minY, 0, 1, maxY - minY + 1, 1, 0, edgesFrom, edgesTo, edgesCost);
+                }
+                if (maxY + 1 < height) {
+                    // border to the cluster above
+                    findEntrancesAlong(minX, maxY, 1, 0, maxX - minX + 1, 0, 1, edgesFrom, edgesTo, edgesCost);
+                }
+            }
+        }
+    }
+
+    /**
+     * Walks along one border and places entrances on every run of tiles that are walkable on both sides.
+     *
+     * @param x       the x-coordinate of the first border tile inside the cluster
+     * @param y       the y-coordinate of the first border tile inside the cluster
+     * @param stepX   the step along the border
+     * @param stepY   the step along the border
+     * @param length  the number of tiles along the border
+     * @param acrossX the step from a border tile to the tile in the neighbouring cluster
+     * @param acrossY the step from a border tile to the tile in the neighbouring cluster
+     */
+    private void findEntrancesAlong(int x, int y, int stepX, int stepY, int length, int acrossX, int acrossY,
+                                   IntArray edgesFrom, IntArray edgesTo, IntArray edgesCost) {
+        int runStart = -1;
+        for (int i = 0; i <= length; i++) {
+            boolean open = i < length && walkable.get(x + i * stepX, y + i * stepY)
+                    && walkable.get(x + i * stepX + acrossX, y + i * stepY + acrossY);
+            if (open && runStart < 0) {
+                runStart = i;
+            } else if (!open && runStart >= 0) {
+                int runEnd = i - 1;
+                if (runEnd - runStart + 1 >= LONG_ENTRANCE) {
+                    addEntrance(x + runStart * stepX, y + runStart * stepY, acrossX, acrossY, edgesFrom, edgesTo, edgesCost);
+                    addEntrance(x + runEnd * stepX, y + runEnd * stepY, acrossX, acrossY, edgesFrom, edgesTo, edgesCost);
+                } else {
+                    int middle = (runStart + runEnd) / 2;
+                    addEntrance(x + middle * stepX, y + middle * stepY, acrossX, acrossY, edgesFrom, edgesTo, edgesCost);
+                }
+                runStart = -1;
+            }
+        }
+    }
+
+    private void addEntrance(int x, int y, int acrossX, int acrossY,
+                             IntArray edgesFrom, IntArray edgesTo, IntArray edgesCost) {
+        int inside = nodeAt(x, y);
+        int outside = nodeAt(x + acrossX, y + acrossY);
+        edgesFrom.add(inside);
+        edgesTo.add(outside);
+        edgesCost.add(1);
+        edgesFrom.add(outside);
+        edgesTo.add(inside);
+        edgesCost.add(1);
+    }
+
+    private int nodeAt(int x, int y) {
+        int tile = y * walkable.getWidth() + x;
+        int node = nodeOfTile.get(tile, -1);
+        if (node < 0) {
+            node = nodeCount++;
+            nodeTiles.add(tile);
+            nodeOfTile.put(tile, node);
+        }
+        return node;
+    }
+
+    private void groupNodesByCluster() {
+        int clusterCount = clustersX * clustersY;
+        clusterNodeStart = new int[clusterCount + 1];
+        for (int node = 0; node < nodeCount; node++) {
+            clusterNodeStart[clusterOfTile(nodeTiles.get(node)) + 1]++;
+        }
+        for (int cluster = 0; cluster < clusterCount; cluster++) {
+            clusterNodeStart[cluster + 1] += clusterNodeStart[cluster];
+        }
+        clusterNodes = new int[nodeCount];
+        int[] next = Arrays.copyOf(clusterNodeStart, clusterCount);
+        for (int node = 0; node < nodeCount; node++) {
+            clusterNodes[next[clusterOfTile(nodeTiles.get(node))]++] = node;
+        }
+    }
+
+    /**
+     * Connects every pair of nodes of a cluster that can reach each other inside the cluster,
+     * with a breadth-first search from every node.
+     */
+    private void connectNodesInsideClusters(IntArray edgesFrom, IntArray edgesTo, IntArray edgesCost) {
+        ClusterSearch search = new ClusterSearch(this);
+        for (int cluster = 0; cluster < clustersX * clustersY; cluster++) {
+            for (int i = clusterNodeStart[cluster]; i < clusterNodeStart[cluster + 1]; i++) {
+                int node = clusterNodes[i];
+                search.run(nodeTiles.get(node));
+                for (int j = clusterNodeStart[cluster]; j < clusterNodeStart[cluster + 1]; j++) {
+                    int other = clusterNodes[j];
+                    int distance = search.distanceTo(nodeTiles.get(other));
+                    if (other != node && distance != ClusterSearch.UNREACHABLE) {
+                        edgesFrom.add(node);
+                        edgesTo.add(other);
+                        edgesCost.add(distance);
+                    }
+                }
+            }
+        }
+    }
+
+    private void compressEdges(IntArray edgesFrom, IntArray edgesTo, IntArray edgesCost) {
+        edgeStart = new int[nodeCount + 1];
+        for (int i = 0; i < edgesFrom.size; i++) {
+            edgeStart[edgesFrom.get(i) + 1]++;
+        }
+        for (int node = 0; node < nodeCount; node++) {
+            edgeStart[node + 1] += edgeStart[node];
+        }
+        edgeTarget = new int[edgesFrom.size];
+        edgeCost = new int[edgesFrom.size];
+        int[] next = Arrays.copyOf(edgeStart, nodeCount);
+        for (int i = 0; i < edgesFrom.size; i++) {
+            int index = next[edgesFrom.get(i)]++;
+            edgeTarget[index] = edgesTo.get(i);
+            edgeCost[index] = edgesCost.get(i);
+        }
+    }
+
+    /**
+     * Places the landmarks one after another on the node farthest from all landmarks placed so far,
+     * and stores the distances from every landmark to all nodes.
+     */
+    private void placeLandmarks() {
+        landmarkCount = Math.min(LANDMARK_COUNT, nodeCount);
+        landmarkDistance = new int[nodeCount * landmarkCount];
+        int[] closestLandmark = new int[nodeCount];
+        Arrays.fill(closestLandmark, UNREACHABLE);
+        IntHeap open = new IntHeap(64);
+        int landmark = 0;
+        for (int l = 0; l < landmarkCount; l++) {
+            int[] distances = distancesFrom(landmark, open);
+            int farthest = 0;
+            int farthestDistance = -1;
+            for (int node = 0; node < nodeCount; node++) {
+                int distance = distances[node];
+                landmarkDistance[node * landmarkCount + l] = distance;
+                if (distance < closestLandmark[node]) {
+                    closestLandmark[node] = distance;
+                }
+                // nodes unreachable from every landmark so far start a new component
+                int score = closestLandmark[node] == UNREACHABLE ? Integer.MAX_VALUE - 1 : closestLandmark[node];
+                if (score > farthestDistance) {
+                    farthestDistance = score;
+                    farthest = node;
+                }
+            }
+            landmark = farthest;
+        }
+    }
+
+    /**
+     * Runs Dijkstra's algorithm over the abstract graph.
+     *
+     * @param source the node to start from
+     * @param open   the heap to use
+     * @return the distances from the source to all nodes
+     */
+    private int[] distancesFrom(int source, IntHeap open) {
+        int[] distance = new int[nodeCount];
+        Arrays.fill(distance, UNREACHABLE);
+        distance[source] = 0;
+        open.clear();
+        open.push(source, 0);
+        while (!open.isEmpty()) {
+            int priority = open.peekPriority();
+            int node = open.pop();
+            if (priority > distance[node]) {
+                continue;
+            }
+            for (int edge = edgeStart[node]; edge < edgeStart[node + 1]; edge++) {
+                int next = edgeTarget[edge];
+                int nextDistance = priority + edgeCost[edge];
+                if (nextDistance < distance[next]) {
+                    distance[next] = nextDistance;
+                    open.push(next, nextDistance);
+                }
+            }
+        }
+        return distance;
+    }
+
+    /**
+     * Gets the cluster a tile belongs to.
+     *
+     * @param tile the index of the tile
+     * @return the index of the cluster
+     */
+    public int clusterOfTile(int tile) {
+        int width = walkable.getWidth();
+        return (tile / width / clusterSize) * clustersX + (tile % width) / clusterSize;
+    }
+
+    public int getClusterMinX(int cluster) {
+        return (cluster % clustersX) * clusterSize;
+    }
+    public int getClusterMinY(int cluster) {
+        return (cluster / clustersX) * clusterSize;
+    }
+    public int getClusterMaxX(int cluster) {
+        return Math.min(getClusterMinX(cluster) + clusterSize, walkable.getWidth()) - 1;
+    }
+    public int getClusterMaxY(int cluster) {
+        return Math.min(getClusterMinY(cluster) + clusterSize, walkable.getHeight()) - 1;
+    }
+    public int getClusterNodeStart(int cluster) {
+        return clusterNodeStart[cluster];
+    }
+    public int getClusterNodeEnd(int cluster) {
+        return clusterNodeStart[cluster + 1];
+    }
+    public int getClusterNode(int index) {
+        return clusterNodes[index];
+    }
+    public int getEdgeStart(int node) {
+        return edgeStart[node];
+    }
+    public int getEdgeEnd(int node) {
+        return edgeStart[node + 1];
+    }
+    public int getEdgeTarget(int edge) {
+        return edgeTarget[edge];
+    }
+    public int getEdgeCost(int edge) {
+        return edgeCost[edge];
+    }
+    public int getLandmarkCount() {
+        return landmarkCount;
+    }
+    public int getLandmarkDistance(int landmark, int node) {
+        return landmarkDistance[node * landmarkCount + landmark];
+    }
+    public int getNodeTile(int node) {
+        return nodeTiles.get(node);
+    }
+    public int getNodeCount() {
+        return nodeCount;
+    }
+    public int getEdgeCount() {
+        return edgeTarget.length;
+    }
+    public int getClusterSize() {
+        return clusterSize;
+    }
+    public BitGrid getWalkable() {
+        return walkable;
+    }
+
+    /**
+     * A breadth-first search that stays inside the cluster of its start tile. It finds the distances from a
+     * tile to the nodes of its cluster, both while the graph is built and when a search connects its start
+     * and goal to the graph. The buffers only cover one cluster and are reused by every search.
+     */
+    static class ClusterSearch {
+        static final int UNREACHABLE = HierarchicalGraph.UNREACHABLE;
+
+        private final HierarchicalGraph graph;
+        private final int[] distance;
+        private final int[] queue;
+        private int minX, minY, maxX, maxY;
+
+        ClusterSearch(HierarchicalGraph graph) {
+            this.graph = graph;
+            this.distance = new int[graph.clusterSize * graph.clusterSize];
+            this.queue = new int[graph.clusterSize * graph.clusterSize];
+        }
+
+        /**
+         * Searches from a tile to every tile of its cluster it can reach. The start tile does not have to be walkable.
+         *
+         * @param startTile the index of the start tile
+         */
+        void run(int startTile) {
+            BitGrid walkable = graph.walkable;
+            int width = walkable.getWidth();
+            int cluster = graph.clusterOfTile(startTile);
+            minX = graph.getClusterMinX(cluster);
+            minY = graph.getClusterMinY(cluster);
+            maxX = graph.getClusterMaxX(cluster);
+            maxY = graph.getClusterMaxY(cluster);
+            Arrays.fill(distance, UNREACHABLE);
+
+            int head = 0, tail = 0;
+            int start = local(startTile % width, startTile / width);
+            distance[start] = 0;
+            queue[tail++] = start;
+            while (head < tail) {
+                int tile = queue[head++];
+                int tileX = minX + tile % graph.clusterSize;
+                int tileY = minY + tile / graph.clusterSize;
+                for (int d = 0; d < Direction.COUNT; d++) {
+                    int nextX = tileX + Direction.dx(d);
+                    int nextY = tileY + Direction.dy(d);
+                    if (nextX < minX || nextY < minY || nextX > maxX || nextY > maxY || !walkable.get(nextX, nextY)) {
+                        continue;
+                    }
+                    int next = local(nextX, nextY);
+                    if (distance[next] == UNREACHABLE) {
+                        distance[next] = distance[tile] + 1;
+                        queue[tail++] = next;
+                    }
+                }
+            }
+        }
+
+        /**
+         * Gets the distance from the start tile of the last search to a tile of the same cluster.
+         *
+         * @param tile the index of the tile
+         * @return the number of steps, or {@link #UNREACHABLE}
+         */
+        int distanceTo(int tile) {
+            int width = graph.walkable.getWidth();
+            return distance[local(tile % width, tile / width)];
+        }
+
+        private int local(int x, int y) {
+            return (y - minY) * graph.clusterSize + (x - minX);
+        }
+    }
+}
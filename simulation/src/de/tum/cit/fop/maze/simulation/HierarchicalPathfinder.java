@@ -0,0 +1,297 @@
+package de.tum.cit.fop.maze.simulation;
+
+import com.badlogic.gdx.utils.IntArray;
+
+/**
+ * Finds routes over large grids with hierarchical path-finding (HPA*). A search connects its start and goal
+ * to the nodes of their clusters, searches the small abstract {@link HierarchicalGraph} instead of the grid,
+ * and then refines the abstract route into tiles: the steps between clusters are single tiles, and the parts
+ * inside a cluster are found by an {@link AStar} search limited to that cluster.
+ *
+ * Start and goal in the same cluster are first tried with a search inside the cluster. The abstract search
+ * estimates the remaining distance with the landmarks of the graph, using only the landmarks that bound the
+ * distance from the start to the goal best, since the others rarely raise an estimate. The routes are close to, but not always
+ * exactly, the shortest routes, because long entrances only have nodes at their ends.
+ * The graph is shared, but every pathfinder has its own buffers and must not be used by several threads at once.
+ */
+public class HierarchicalPathfinder {
+    // Constants
+    private static final int ACTIVE_LANDMARKS = 12;
+
+    // Graph
+    private final HierarchicalGraph graph;
+    private final int startNode, goalNode;
+
+    // Scratch Buffers, indexed by node
+    private final int[] cost, parent, generation;
+    private final boolean[] closed;
+    private final int[] goalLinkCost, goalLinkGeneration;
+    private final int[] estimates, estimateGeneration;
+    private int currentGeneration = 0;
+    private final IntHeap open = new IntHeap(64);
+    private final IntArray startLinkNodes = new IntArray();
+    private final IntArray startLinkCosts = new IntArray();
+    private final IntArray abstractRoute = new IntArray();
+    private final int[] goalLandmarkDistance;
+    private final int[] activeLandmarks;
+    private final int[] landmarkBounds;
+
+    // Local Searches
+    private final HierarchicalGraph.ClusterSearch clusterSearch;
+    private final AStar localSearch = new AStar();
+    private final IntArray segment = new IntArray();
+
+    /**
+     * Creates a pathfinder for a graph.
+     *
+     * @param graph the abstract graph of the grid to search
+     */
+    public HierarchicalPathfinder(HierarchicalGraph graph) {
+        this.graph = graph;
+        int nodeCount = graph.getNodeCount() + 2;
+        this.startNode = nodeCount - 2;
+        this.goalNode = nodeCount - 1;
+        this.cost = new int[nodeCount];
+        this.parent = new int[nodeCount];
+        this.generation = new int[nodeCount];
+        this.closed = new boolean[nodeCount];
+        this.goalLinkCost = new int[nodeCount];
+        this.goalLinkGeneration = new int[nodeCount];
+        this.estimates = new int[nodeCount];
+        this.estimateGeneration = new int[nodeCount];
+        this.goalLandmarkDistance = new int[graph.getLandmarkCount()];
+        this.activeLandmarks = new int[Math.min(ACTIVE_LANDMARKS, graph.getLandmarkCount())];
+        this.landmarkBounds = new int[graph.getLandmarkCount()];
+        this.clusterSearch = new HierarchicalGraph.ClusterSearch(graph);
+    }
+
+    /**
+     * Searches a route from one tile to another.
+     *
+     * @param startX the x-coordinate of the start tile, which does not have to be walkable
+     * @param startY the y-coordinate of the start tile
+     * @param goalX  the x-coordinate of the goal tile
+     * @param goalY  the y-coordinate of the goal tile
+     * @param route  receives the tile indices of the route after the start tile, ending with the goal;
+     *               cleared first, and left empty if there is no route
+     * @return true if a route was found, false otherwise
+     */
+    public boolean findPath(int startX, int startY, int goalX, int goalY, IntArray route) {
+        route.clear();
+        BitGrid walkable = graph.getWalkable();
+        if (!walkable.isInBounds(startX, startY) || !walkable.get(goalX, goalY)) {
+            return false;
+        }
+        int width = walkable.getWidth();
+        int startTile = startY * width + startX;
+        int goalTile = goalY * width + goalX;
+        if (startTile == goalTile) {
+            return true;
+        }
+
+        int startCluster = graph.clusterOfTile(startTile);
+        int goalCluster = graph.clusterOfTile(goalTile);
+        if (startCluster == goalCluster && localSearch.findPath(walkable,
+                graph.getClusterMinX(startCluster), graph.getClusterMinY(startCluster),
+                graph.getClusterMaxX(startCluster), graph.getClusterMaxY(startCluster),
+                startX, startY, goalX, goalY, route)) {
+            return true;
+        }
+
+        currentGeneration++;
+        linkStart(startTile, startCluster);
+        linkGoal(goalTile, goalCluster);
+        measureGoalFromLandmarks(goalCluster);
+        selectLandmarks();
+        if (!searchAbstractRoute()) {
+            return false;
+        }
+        return refine(startTile, goalTile, route);
+    }
+
+    private void linkStart(int startTile, int startCluster) {
+        startLinkNodes.clear();
+        startLinkCosts.clear();
+        clusterSearch.run(startTile);
+        for (int i = graph.getClusterNodeStart(startCluster); i < graph.getClusterNodeEnd(startCluster); i++) {
+            int node = graph.getClusterNode(i);
+            int distance = clusterSearch.distanceTo(graph.getNodeTile(node));
+            if (distance != HierarchicalGraph.ClusterSearch.UNREACHABLE) {
+                startLinkNodes.add(node);
+                startLinkCosts.add(distance);
+            }
+        }
+    }
+
+    private void linkGoal(int goalTile, int goalCluster) {
+        // the grid is undirected, so the distances from the goal are the distances to the goal
+        clusterSearch.run(goalTile);
+        for (int i = graph.getClusterNodeStart(goalCluster); i < graph.getClusterNodeEnd(goalCluster); i++) {
+            int node = graph.getClusterNode(i);
+            int distance = clusterSearch.distanceTo(graph.getNodeTile(node));
+            if (distance != HierarchicalGraph.ClusterSearch.UNREACHABLE) {
+                goalLinkCost[node] = distance;
+                goalLinkGeneration[node] = currentGeneration;
+            }
+        }
+    }
+
+    /**
+     * Computes the distances from the landmarks to the goal: the goal can only be reached over the nodes
+     * of its cluster, so it is the shortest distance to one of them plus the link from there.
+     */
+    private void measureGoalFromLandmarks(int goalCluster) {
+        for (int l = 0; l < goalLandmarkDistance.length; l++) {
+            long best = HierarchicalGraph.UNREACHABLE;
+            for (int i = graph.getClusterNodeStart(goalCluster); i < graph.getClusterNodeEnd(goalCluster); i++) {
+                int node = graph.getClusterNode(i);
+                int distance = graph.getLandmarkDistance(l, node);
+                if (goalLinkGeneration[node] == currentGeneration && distance != HierarchicalGraph.UNREACHABLE) {
+                    best = Math.min(best, (long) distance + goalLinkCost[node]);
+                }
+            }
+            goalLandmarkDistance[l] = (int) Math.min(best, HierarchicalGraph.UNREACHABLE);
+        }
+    }
+
+    /**
+     * Picks the landmarks whose triangle inequality gives the highest estimate for the start of the search;
+     * only they are scanned by {@link #estimate(int)}.
+     */
+    private void selectLandmarks() {
+        for (int l = 0; l < landmarkBounds.length; l++) {
+            int bound = -1;
+            int toGoal = goalLandmarkDistance[l];
+            for (int i = 0; i < startLinkNodes.size && toGoal != HierarchicalGraph.UNREACHABLE; i++) {
+                int toNode = graph.getLandmarkDistance(l, startLinkNodes.get(i));
+                if (toNode != HierarchicalGraph.UNREACHABLE) {
+                    bound = Math.max(bound, Math.abs(toGoal - toNode));
+                }
+            }
+            landmarkBounds[l] = bound;
+        }
+        for (int a = 0; a < activeLandmarks.length; a++) {
+            int best = 0;
+            for (int l = 1; l < landmarkBounds.length; l++) {
+                if (landmarkBounds[l] > landmarkBounds[best]) {
+                    best = l;
+                }
+            }
+            activeLandmarks[a] = best;
+            landmarkBounds[best] = Integer.MIN_VALUE;
+        }
+    }
+
+    /**
+     * Estimates the distance from a node to the goal with the triangle inequality over the landmarks.
+     * The estimate of a node is computed once per search.
+     */
+    private int estimate(int node) {
+        if (estimateGeneration[node] == currentGeneration) {
+            return estimates[node];
+        }
+        int estimate = 0;
+        for (int a = 0; a < activeLandmarks.length; a++) {
+            int l = activeLandmarks[a];
+            int toGoal = goalLandmarkDistance[l];
+            int toNode = graph.getLandmarkDistance(l, node);
+            if (toGoal != HierarchicalGraph.UNREACHABLE && toNode != HierarchicalGraph.UNREACHABLE) {
+                estimate = Math.max(estimate, Math.abs(toGoal - toNode));
+            }
+        }
+        estimates[node] = estimate;
+        estimateGeneration[node] = currentGeneration;
+        return estimate;
+    }
+
+    /**
+     * Runs A* over the abstract graph, from the virtual start node to the virtual goal node,
+     * and stores the nodes in between in {@link #abstractRoute}.
+     */
+    private boolean searchAbstractRoute() {
+        open.clear();
+        visit(startNode, 0, -1);
+        open.push(startNode, 0);
+        while (!open.isEmpty()) {
+            int node = open.pop();
+            if (closed[node]) {
+                continue;
+            }
+            closed[node] = true;
+            if (node == goalNode) {
+                abstractRoute.clear();
+                for (int n = parent[goalNode]; n != startNode; n = parent[n]) {
+                    abstractRoute.add(n);
+                }
+                abstractRoute.reverse();
+                return true;
+            }
+
+            if (node == startNode) {
+                for (int i = 0; i < startLinkNodes.size; i++) {
+                    relax(node, startLinkNodes.get(i), startLinkCosts.get(i));
+                }
+                continue;
+            }
+            for (int edge = graph.getEdgeStart(node); edge < graph.getEdgeEnd(node); edge++) {
+                relax(node, graph.getEdgeTarget(edge), graph.getEdgeCost(edge));
+            }
+            if (goalLinkGeneration[node] == currentGeneration) {
+                relax(node, goalNode, goalLinkCost[node]);
+            }
+        }
+        return false;
+    }
+
+    private void relax(int node, int next, int edgeCost) {
+        int nextCost = cost[node] + edgeCost;
+        if (generation[next] == currentGeneration && nextCost >= cost[next]) {
+            return;
+        }
+        visit(next, nextCost, node);
+        open.push(next, next == goalNode ? nextCost : nextCost + estimate(next));
+    }
+
+    private void visit(int node, int nodeCost, int parentNode) {
+        if (generation[node] != currentGeneration) {
+            generation[node] = currentGeneration;
+            closed[node] = false;
+        }
+        cost[node] = nodeCost;
+        parent[node] = parentNode;
+    }
+
+    /**
+     * Turns the abstract route into tiles: a step across a cluster border is a single tile,
+     * everything else is searched inside the cluster.
+     */
+    private boolean refine(int startTile, int goalTile, IntArray route) {
+        BitGrid walkable = graph.getWalkable();
+        int width = walkable.getWidth();
+        int current = startTile;
+        for (int i = 0; i <= abstractRoute.size; i++) {
+            int next = i < abstractRoute.size ? graph.getNodeTile(abstractRoute.get(i)) : goalTile;
+            if (next == current) {
+                continue;
+            }
+            int cluster = graph.clusterOfTile(current);
+            if (cluster != graph.clusterOfTile(next)) {
+                route.add(next);
+            } else if (localSearch.findPath(walkable,
+                    graph.getClusterMinX(cluster), graph.getClusterMinY(cluster),
+                    graph.getClusterMaxX(cluster), graph.getClusterMaxY(cluster),
+                    current % width, current / width, next % width, next / width, segment)) {
+                route.addAll(segment);
+            } else {
+                route.clear();
+                return false;
+            }
+            current = next;
+        }
+        return true;
+    }
+
+    public HierarchicalGraph getGraph() {
+        return graph;
+    }
+}
@@ -0,0 +1,244 @@
+package de.tum.cit.fop.maze.simulation;
+
+import com.badlogic.gdx.utils.ByteArray;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.IntArray;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Records the keys held down in every simulation tick of a session, so that the session can be replayed exactly.
+ *
+ * The keys of a tick are stored as a bit mask. Consecutive ticks with the same keys are merged into runs,
+ * and each run is written as the bits that changed since the previous run followed by its length as a
+ * variable-length integer. A typical run takes two bytes, so a game of several minutes fits into a few kilobytes.
+ * Together with the seed of the session this is all that is needed to reproduce it (see {@link MazeSession}).
+ */
+public class InputRecording {
+    // Input Bits
+    public static final int MOVE_UP = 1;
+    public static final int MOVE_DOWN = 1 << 1;
+    public static final int MOVE_LEFT = 1 << 2;
+    public static final int MOVE_RIGHT = 1 << 3;
+    public static final int RUN = 1 << 4;
+    public static final int ZOOM_IN = 1 << 5;
+    public static final int ZOOM_OUT = 1 << 6;
+
+    // File Format
+    private static final int MAGIC = 0x4D5A5250; // "MZRP"
+    private static final int VERSION = 1;
+
+    // Session
+    private final String mapPath;
+    private final long seed;
+    private final int ticksPerSecond;
+    private long finalStateHash;
+    private boolean hasFinalStateHash = false;
+
+    // Runs of equal input
+    private final ByteArray runMasks = new ByteArray();
+    private final IntArray runLengths = new IntArray();
+    private int tickCount = 0;
+
+    /**
+     * Creates an empty recording of a session.
+     *
+     * @param mapPath        the path of the map the session is played on
+     * @param seed           the seed of the session
+     * @param ticksPerSecond the number of simulation ticks per second of the session
+     */
+    public InputRecording(String mapPath, long seed, int ticksPerSecond) {
+        this.mapPath = mapPath;
+        this.seed = seed;
+        this.ticksPerSecond = ticksPerSecond;
+    }
+
+    /**
+     * Appends the keys held down during the next tick.
+     *
+     * @param mask the input bits of the tick
+     */
+    public void record(int mask) {
+        if (runMasks.notEmpty() && runMasks.peek() == (byte) mask) {
+            runLengths.incr(runLengths.size - 1, 1);
+        } else {
+            runMasks.add((byte) mask);
+            runLengths.add(1);
+        }
+        tickCount++;
+    }
+
+    /**
+     * Converts the movement keys of a player input into input bits.
+     *
+     * @param input the movement keys
+     * @return the input bits of the movement keys
+     */
+    public static int toMask(PlayerInput input) {
+        int mask = 0;
+        if (input.isMoveUp()) mask |= MOVE_UP;
+        if (input.isMoveDown()) mask |= MOVE_DOWN;
+        if (input.isMoveLeft()) mask |= MOVE_LEFT;
+        if (input.isMoveRight()) mask |= MOVE_RIGHT;
+        if (input.isRun()) mask |= RUN;
+        return mask;
+    }
+
+    /**
+     * Sets the movement keys of a player input from input bits.
+     *
+     * @param mask  the input bits
+     * @param input the player input to set
+     */
+    public static void applyMask(int mask, PlayerInput input) {
+        input.set((mask & MOVE_UP) != 0, (mask & MOVE_DOWN) != 0, (mask & MOVE_LEFT) != 0,
+                (mask & MOVE_RIGHT) != 0, (mask & RUN) != 0);
+    }
+
+    /**
+     * Writes the recording in its binary format.
+     *
+     * @param output the stream to write to; it is closed afterwards
+     */
+    public void write(OutputStream output) {
+        try (DataOutputStream out = new DataOutputStream(output)) {
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+            out.writeUTF(mapPath);
+            out.writeLong(seed);
+            writeVarInt(out, ticksPerSecond);
+            out.writeBoolean(hasFinalStateHash);
+            out.writeLong(finalStateHash);
+            writeVarInt(out, runMasks.size);
+            int previousMask = 0;
+            for (int i = 0; i < runMasks.size; i++) {
+                int mask = runMasks.get(i) & 0xFF;
+                out.writeByte(mask ^ previousMask);
+                writeVarInt(out, runLengths.get(i));
+                previousMask = mask;
+            }
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Could not write input recording", e);
+        }
+    }
+
+    /**
+     * Reads a recording written by {@link #write(OutputStream)}.
+     *
+     * @param input the stream to read from; it is closed afterwards
+     * @return the recording
+     */
+    public static InputRecording read(InputStream input) {
+        try (DataInputStream in = new DataInputStream(input)) {
+            if (in.readInt() != MAGIC || in.readByte() != VERSION) {
+                throw new GdxRuntimeException("Not an input recording of this version");
+            }
+            InputRecording recording = new InputRecording(in.readUTF(), in.readLong(), readVarInt(in));
+            recording.hasFinalStateHash = in.readBoolean();
+            recording.finalStateHash = in.readLong();
+            int runCount = readVarInt(in);
+            int mask = 0;
+            for (int i = 0; i < runCount; i++) {
+                mask ^= in.readUnsignedByte();
+                int length = readVarInt(in);
+                recording.runMasks.add((byte) mask);
+                recording.runLengths.add(length);
+                recording.tickCount += length;
+            }
+            return recording;
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Could not read input recording", e);
+        }
+    }
+
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static int readVarInt(DataInputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new GdxRuntimeException("Malformed input recording");
+    }
+
+    /**
+     * Starts playing back the recorded input from the first tick.
+     *
+     * @return a new playback of this recording
+     */
+    public Playback play() {
+        return new Playback();
+    }
+
+    /**
+     * Returns the recorded input bits tick by tick.
+     */
+    public class Playback {
+        private int run = 0;
+        private int remainingInRun = runLengths.isEmpty() ? 0 : runLengths.first();
+
+        public boolean hasNext() {
+            return run < runMasks.size;
+        }
+
+        /**
+         * Gets the input bits of the next tick.
+         *
+         * @return the input bits, or 0 if the recording has ended
+         */
+        public int next() {
+            if (!hasNext()) {
+                return 0;
+            }
+            int mask = runMasks.get(run) & 0xFF;
+            if (--remainingInRun == 0 && ++run < runMasks.size) {
+                remainingInRun = runLengths.get(run);
+            }
+            return mask;
+        }
+    }
+
+    /**
+     * Remembers the state hash of the session after the last recorded tick, so a replay can check that it
+     * reproduced the session exactly.
+     *
+     * @param finalStateHash the value of {@link MazeSession#stateHash()} after the last tick
+     */
+    public void setFinalStateHash(long finalStateHash) {
+        this.finalStateHash = finalStateHash;
+        this.hasFinalStateHash = true;
+    }
+
+    public String getMapPath() {
+        return mapPath;
+    }
+    public long getSeed() {
+        return seed;
+    }
+    public int getTicksPerSecond() {
+        return ticksPerSecond;
+    }
+    public int getTickCount() {
+        return tickCount;
+    }
+    public boolean hasFinalStateHash() {
+        return hasFinalStateHash;
+    }
+    public long getFinalStateHash() {
+        return finalStateHash;
+    }
+}
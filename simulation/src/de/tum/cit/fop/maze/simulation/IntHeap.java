@@ -0,0 +1,100 @@
+package de.tum.cit.fop.maze.simulation;
+
+import java.util.Arrays;
+
+/**
+ * A binary min-heap of int values ordered by int priorities, used as the open set of the path searches.
+ * Values with equal priorities are popped in no particular but deterministic order.
+ *
+ * The heap does not support changing the priority of a value; searches push a value again with its new
+ * priority and skip the outdated entry when it is popped.
+ */
+public class IntHeap {
+    private int[] values;
+    private int[] priorities;
+    private int size;
+
+    /**
+     * Creates an empty heap.
+     *
+     * @param initialCapacity the number of entries the heap can hold before it grows
+     */
+    public IntHeap(int initialCapacity) {
+        values = new int[Math.max(1, initialCapacity)];
+        priorities = new int[values.length];
+    }
+
+    /**
+     * Adds a value to the heap.
+     *
+     * @param value    the value
+     * @param priority the priority; lower priorities are popped first
+     */
+    public void push(int value, int priority) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size * 2);
+            priorities = Arrays.copyOf(priorities, size * 2);
+        }
+        int index = size++;
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (priorities[parent] <= priority) {
+                break;
+            }
+            values[index] = values[parent];
+            priorities[index] = priorities[parent];
+            index = parent;
+        }
+        values[index] = value;
+        priorities[index] = priority;
+    }
+
+    /**
+     * Removes the value with the lowest priority. The heap must not be empty.
+     *
+     * @return the removed value
+     */
+    public int pop() {
+        int top = values[0];
+        int lastValue = values[--size];
+        int lastPriority = priorities[size];
+        int index = 0;
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && priorities[child + 1] < priorities[child]) {
+                child++;
+            }
+            if (priorities[child] >= lastPriority) {
+                break;
+            }
+            values[index] = values[child];
+            priorities[index] = priorities[child];
+            index = child;
+        }
+        values[index] = lastValue;
+        priorities[index] = lastPriority;
+        return top;
+    }
+
+    /**
+     * Gets the lowest priority in the heap. The heap must not be empty.
+     *
+     * @return the priority of the value {@link #pop()} would return
+     */
+    public int peekPriority() {
+        return priorities[0];
+    }
+
+    public void clear() {
+        size = 0;
+    }
+    public boolean isEmpty() {
+        return size == 0;
+    }
+    public int size() {
+        return size;
+    }
+}
@@ -0,0 +1,66 @@
+package de.tum.cit.fop.maze.simulation;
+
+import com.badlogic.gdx.Preferences;
+import com.badlogic.gdx.math.Vector2;
+
+/**
+ * The Item class represents a collectible item in the game. This class extends the
+ * CollectibleItem class and handles the functionality of collecting items, updating the
+ * player's state, and saving or loading the item state.
+ */
+public class Item extends CollectibleItem {
+    private final GameEventBus events;
+
+    /**
+     * Constructor for creating the Items at the item positions of a layout.
+     *
+     * @param layout The layout of the map containing the item positions.
+     * @param events The bus collected items are published on.
+     */
+    public Item(MazeLayout layout, GameEventBus events) {
+        super(layout.getItemSpawns());
+        this.events = events;
+    }
+
+    @Override
+    /**
+     * This method is called when the item is collected. It publishes the collected item.
+     */
+    protected void onCollected(Vector2 position) {
+        events.publish(GameEventBus.ITEM_COLLECTED, GameEventBus.NO_ENTITY, position.x, position.y);
+    }
+
+    /**
+     * Updates the state of the item by checking if the player is within the interaction radius
+     * and collects the item if possible. The player's speed is increased for each collected item.
+     *
+     * @param player The player object that is attempting to collect the item.
+     * @param interactionRadius The radius within which the player can collect the item.
+     */
+    public void update(Player player, float interactionRadius) {
+        int collectedItems = checkAndCollectAll(player.getX(), player.getY(), interactionRadius);
+        for (int i = 0; i < collectedItems; i++) {
+            player.increaseSpeed(3f); // Increase the player's speed upon collecting each item
+        }
+    }
+
+    /**
+     * Saves the current state of the item to preferences. This allows the game to remember
+     * the item state between sessions.
+     *
+     * @param preferences The Preferences instance for saving state.
+     */
+    public void saveItemState(Preferences preferences) {
+        saveState(preferences, "Item");
+    }
+
+    /**
+     * Loads the saved state of the item from preferences. This allows the game to restore
+     * the item state from a previous session.
+     *
+     * @param preferences The Preferences instance containing saved state.
+     */
+    public void loadItemState(Preferences preferences) {
+        loadState(preferences, "Item");
+    }
+}
\ No newline at end of file
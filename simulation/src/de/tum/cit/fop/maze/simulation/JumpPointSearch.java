@@ -0,0 +1,247 @@
+package de.tum.cit.fop.maze.simulation;
+
+import com.badlogic.gdx.utils.IntArray;
+
+/**
+ * Finds shortest routes between two tiles of a {@link BitGrid} with Jump Point Search, for grids where every
+ * step costs the same and moves in one of the four directions, like the layers of the maze.
+ *
+ * Of all shortest routes, the search only follows the canonical ones that move horizontally as early as
+ * possible. A tile entered horizontally may continue in its direction or turn up or down; a tile entered
+ * vertically may only continue, unless the tile beside it cannot be reached horizontally from behind
+ * (a forced neighbour). So the search does not put every tile into its open set, but jumps along straight
+ * lines and only stops at jump points: the goal, tiles with forced neighbours, and tiles of a horizontal jump
+ * from which a vertical jump finds a jump point. In corridors and open rooms this expands far fewer tiles
+ * than {@link AStar}, at the price of scanning the tiles along the jumps.
+ *
+ * The routes have the same length as those of {@link AStar}, and the scratch arrays are reused in the same
+ * way. An instance must not be used by several threads at once.
+ */
+public class JumpPointSearch {
+    // Constants
+    private static final int NONE = -1;
+    private static final int HORIZONTAL = (1 << Direction.LEFT) | (1 << Direction.RIGHT);
+
+    // Scratch Buffers, indexed by tile
+    private int[] cost = new int[0];
+    private int[] parent = new int[0];
+    private int[] generation = new int[0];
+    private boolean[] closed = new boolean[0];
+    private byte[] arrivals = new byte[0];
+    private int currentGeneration = 0;
+
+    // Open Set, ordered by estimated total cost
+    private final IntHeap open = new IntHeap(64);
+
+    // Current Search
+    private BitGrid walkable;
+    private int width;
+    private int goal;
+
+    // Statistics
+    private int lastExpandedCount, lastScannedCount;
+
+    /**
+     * Searches the shortest route from one tile to another over the set tiles of a grid.
+     *
+     * @param walkable the walkable tiles
+     * @param startX   the x-coordinate of the start tile, which does not have to be walkable
+     * @param startY   the y-coordinate of the start tile
+     * @param goalX    the x-coordinate of the goal tile
+     * @param goalY    the y-coordinate of the goal tile
+     * @param route    receives the tile indices of the route after the start tile, ending with the goal;
+     *                 cleared first, and left empty if there is no route
+     * @return true if a route was found, false otherwise
+     */
+    public boolean findPath(BitGrid walkable, int startX, int startY, int goalX, int goalY, IntArray route) {
+        route.clear();
+        lastExpandedCount = 0;
+        lastScannedCount = 0;
+        if (!walkable.isInBounds(startX, startY) || !walkable.get(goalX, goalY)) {
+            return false;
+        }
+        this.walkable = walkable;
+        this.width = walkable.getWidth();
+        int start = startY * width + startX;
+        this.goal = goalY * width + goalX;
+        if (start == goal) {
+            return true;
+        }
+        prepare(width * walkable.getHeight());
+
+        open.clear();
+        visit(start, 0, -1);
+        open.push(start, heuristic(start));
+        while (!open.isEmpty()) {
+            int tile = open.pop();
+            if (closed[tile]) {
+                continue;
+            }
+            closed[tile] = true;
+            lastExpandedCount++;
+            if (tile == goal) {
+                buildRoute(start, route);
+                return true;
+            }
+
+            int successors = tile == start ? 0xF : successors(tile, arrivals[tile]);
+            for (int d = 0; d < Direction.COUNT; d++) {
+                if ((successors & (1 << d)) == 0) {
+                    continue;
+                }
+                int jumpPoint = jump(tile, d);
+                if (jumpPoint != NONE) {
+                    relax(tile, jumpPoint, d);
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gets the directions a tile has to be left in, given the directions it was entered in
+     * on routes of the same length.
+     */
+    private int successors(int tile, int arrivalMask) {
+        int x = tile % width;
+        int y = tile / width;
+        int successors = 0;
+        for (int d = 0; d < Direction.COUNT; d++) {
+            if ((arrivalMask & (1 << d)) == 0) {
+                continue;
+            }
+            if ((HORIZONTAL & (1 << d)) != 0) {
+                successors |= (1 << d) | (1 << Direction.UP) | (1 << Direction.DOWN);
+            } else {
+                successors |= 1 << d;
+                if (isForced(x, y, Direction.LEFT, d)) {
+                    successors |= 1 << Direction.LEFT;
+                }
+                if (isForced(x, y, Direction.RIGHT, d)) {
+                    successors |= 1 << Direction.RIGHT;
+                }
+            }
+        }
+        return successors;
+    }
+
+    /**
+     * Checks if the neighbour beside a tile entered vertically can only be reached over that tile,
+     * because the tile diagonally behind it is blocked.
+     */
+    private boolean isForced(int x, int y, int side, int vertical) {
+        return walkable.get(x + Direction.dx(side), y)
+                && !walkable.get(x + Direction.dx(side), y - Direction.dy(vertical));
+    }
+
+    /**
+     * Walks from a tile in a direction until it reaches a jump point or a blocked tile.
+     *
+     * @return the index of the jump point, or {@link #NONE}
+     */
+    private int jump(int tile, int direction) {
+        int x = tile % width;
+        int y = tile / width;
+        int dx = Direction.dx(direction);
+        int dy = Direction.dy(direction);
+        boolean horizontal = dx != 0;
+        while (true) {
+            x += dx;
+            y += dy;
+            lastScannedCount++;
+            if (!walkable.get(x, y)) {
+                return NONE;
+            }
+            int next = y * width + x;
+            if (next == goal) {
+                return next;
+            }
+            if (horizontal) {
+                if (jump(next, Direction.UP) != NONE || jump(next, Direction.DOWN) != NONE) {
+                    return next;
+                }
+            } else if (isForced(x, y, Direction.LEFT, direction) || isForced(x, y, Direction.RIGHT, direction)) {
+                return next;
+            }
+        }
+    }
+
+    private void relax(int tile, int jumpPoint, int direction) {
+        int jumpCost = cost[tile] + distance(tile, jumpPoint);
+        if (generation[jumpPoint] != currentGeneration || jumpCost < cost[jumpPoint]) {
+            visit(jumpPoint, jumpCost, tile);
+            arrivals[jumpPoint] = (byte) (1 << direction);
+            open.push(jumpPoint, jumpCost + heuristic(jumpPoint));
+        } else if (jumpCost == cost[jumpPoint] && (arrivals[jumpPoint] & (1 << direction)) == 0) {
+            // an equally short route entering from another side may continue in other directions
+            arrivals[jumpPoint] |= (byte) (1 << direction);
+            if (closed[jumpPoint]) {
+                closed[jumpPoint] = false;
+                open.push(jumpPoint, jumpCost + heuristic(jumpPoint));
+            }
+        }
+    }
+
+    private void prepare(int tileCount) {
+        if (cost.length < tileCount) {
+            cost = new int[tileCount];
+            parent = new int[tileCount];
+            generation = new int[tileCount];
+            closed = new boolean[tileCount];
+            arrivals = new byte[tileCount];
+            currentGeneration = 0;
+        }
+        currentGeneration++;
+    }
+
+    private void visit(int tile, int tileCost, int parentTile) {
+        if (generation[tile] != currentGeneration) {
+            generation[tile] = currentGeneration;
+            closed[tile] = false;
+        }
+        cost[tile] = tileCost;
+        parent[tile] = parentTile;
+    }
+
+    private int distance(int from, int to) {
+        return Math.abs(to % width - from % width) + Math.abs(to / width - from / width);
+    }
+
+    private int heuristic(int tile) {
+        return distance(tile, goal);
+    }
+
+    /**
+     * Fills in the tiles between the jump points, which always lie on a straight line.
+     */
+    private void buildRoute(int start, IntArray route) {
+        for (int tile = goal; tile != start; tile = parent[tile]) {
+            int from = parent[tile];
+            int step = tile % width != from % width ? Integer.signum(tile % width - from % width)
+                    : Integer.signum(tile / width - from / width) * width;
+            for (int t = tile; t != from; t -= step) {
+                route.add(t);
+            }
+        }
+        route.reverse();
+    }
+
+    /**
+     * Gets the number of jump points the last search expanded, to compare it with other searches.
+     *
+     * @return the number of expanded jump points
+     */
+    public int getLastExpandedCount() {
+        return lastExpandedCount;
+    }
+
+    /**
+     * Gets the number of tiles the jumps of the last search stepped over, which is the real work next to
+     * the expansions.
+     *
+     * @return the number of scanned tiles
+     */
+    public int getLastScannedCount() {
+        return lastScannedCount;
+    }
+}
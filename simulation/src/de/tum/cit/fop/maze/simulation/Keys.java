@@ -0,0 +1,77 @@
+package de.tum.cit.fop.maze.simulation;
+
+import com.badlogic.gdx.utils.IntArray;
+
+/**
+ * Stores the keys dropped by crushed Grievers. A key is collected when the player comes close enough
+ * and is then removed from the store, so every key in the store is still waiting to be collected.
+ * The keys are indexed in a {@link SpatialHash}, so only the keys around the player are checked.
+ */
+public class Keys extends BodyStore {
+    //Constants
+    private static final float SCALE = 0.2f;
+    private static final float PROXIMITY_RANGE = 5f;
+
+    //Notifications
+    private final GameEventBus events;
+
+    //Proximity
+    private final SpatialHash index;
+    private final IntArray nearbyKeys = new IntArray();
+
+    /**
+     * Creates an empty key store.
+     *
+     * @param layout The layout of the map the keys are dropped on.
+     * @param events The bus collected keys are published on.
+     */
+    public Keys(MazeLayout layout, GameEventBus events) {
+        super(8);
+        this.events = events;
+        this.index = SpatialHash.forLayout(layout);
+    }
+
+    @Override
+    public int add(float x, float y) {
+        int id = super.add(x, y);
+        index.put(id, x, y);
+        return id;
+    }
+
+    @Override
+    public void removeAt(int slot) {
+        index.remove(idAt(slot));
+        super.removeAt(slot);
+    }
+
+    @Override
+    public void clear() {
+        index.clear();
+        super.clear();
+    }
+
+    /**
+     * Collects every key the player is close enough to and updates the scoreboard.
+     *
+     * @param player The player object to check for proximity.
+     * @param hud The Scoreboard to update when a key is collected.
+     */
+    public void update(Player player, Scoreboard hud) {
+        float playerX = player.getX();
+        float playerY = player.getY();
+        index.queryRadius(playerX, playerY, PROXIMITY_RANGE, nearbyKeys);
+        for (int k = 0; k < nearbyKeys.size; k++) {
+            int i = slotOf(nearbyKeys.get(k));
+            float distance = (float) Math.sqrt(Math.pow(playerX - x[i], 2) + Math.pow(playerY - y[i], 2));
+            if (distance < PROXIMITY_RANGE) {
+                hud.collectKey();
+                events.publish(GameEventBus.KEY_COLLECTED, idAt(i), x[i], y[i]);
+                removeAt(i);
+            }
+        }
+    }
+
+    public float getScale() {
+        return SCALE;
+    }
+}
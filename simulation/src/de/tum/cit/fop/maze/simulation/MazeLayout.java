@@ -0,0 +1,162 @@
+package de.tum.cit.fop.maze.simulation;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * The MazeLayout class describes everything a maze session needs to know about a map, without
+ * any textures: the size of the map, which tiles of each gameplay layer are set, the moving walls
+ * and the spawn positions of the player, Grievers, friends and collectible items, as well as the map
+ * properties that tune the simulation.
+ *
+ * A layout is read once per map (see {@link TmxLayoutReader}) and never changes. Each
+ * {@link MazeSession} copies the parts it modifies, such as the moving walls.
+ */
+public class MazeLayout {
+    // Map Size
+    private final int width, height;
+    private final int tileWidth, tileHeight;
+
+    // Tile Layers
+    private final BitGrid walls;
+    private final BitGrid path;
+    private final BitGrid path2;
+    private final BitGrid exits;
+    private final BitGrid staticObstacles;
+    private final BitGrid movingWalls;
+    private final Array<WallSpawn> movingWallSpawns;
+
+    // Spawn Positions
+    private final Vector2 playerSpawn;
+    private final Array<Vector2> grieverSpawns;
+    private final Array<Vector2> friendSpawns;
+    private final Array<Vector2> itemSpawns;
+    private final Array<Vector2> trapItemSpawns;
+
+    // Map Properties
+    private final String routeSearch;
+
+    /**
+     * Describes a tile of the "moving walls" layer whose tile has a movement direction.
+     */
+    public static class WallSpawn {
+        public final int x, y;
+        public final String direction;
+
+        public WallSpawn(int x, int y, String direction) {
+            this.x = x;
+            this.y = y;
+            this.direction = direction;
+        }
+    }
+
+    /**
+     * Constructs a MazeLayout from the already parsed layers and objects of a map.
+     *
+     * @param width            the width of the map in tiles
+     * @param height           the height of the map in tiles
+     * @param tileWidth        the width of a tile in pixels
+     * @param tileHeight       the height of a tile in pixels
+     * @param walls            the tiles of the "walls" layer that are blocked
+     * @param path             the tiles of the "path" layer
+     * @param path2            the tiles of the "path2" layer
+     * @param exits            the tiles of the "exits" layer
+     * @param staticObstacles  the tiles of the "static obstacles" layer
+     * @param movingWalls      the tiles of the "moving walls" layer
+     * @param movingWallSpawns the moving wall tiles that have a movement direction
+     * @param playerSpawn      the start position of the player
+     * @param grieverSpawns    the start positions of the Grievers
+     * @param friendSpawns     the positions of the friends waiting to be saved
+     * @param itemSpawns       the positions of the speed items
+     * @param trapItemSpawns   the positions of the trap items
+     * @param routeSearch      the value of the "routeSearch" map property, or null if the map does not set it
+     */
+    public MazeLayout(int width, int height, int tileWidth, int tileHeight,
+                      BitGrid walls, BitGrid path, BitGrid path2, BitGrid exits, BitGrid staticObstacles,
+                      BitGrid movingWalls, Array<WallSpawn> movingWallSpawns,
+                      Vector2 playerSpawn, Array<Vector2> grieverSpawns, Array<Vector2> friendSpawns,
+                      Array<Vector2> itemSpawns, Array<Vector2> trapItemSpawns, String routeSearch) {
+        this.width = width;
+        this.height = height;
+        this.tileWidth = tileWidth;
+        this.tileHeight = tileHeight;
+        this.walls = walls;
+        this.path = path;
+        this.path2 = path2;
+        this.exits = exits;
+        this.staticObstacles = staticObstacles;
+        this.movingWalls = movingWalls;
+        this.movingWallSpawns = movingWallSpawns;
+        this.playerSpawn = playerSpawn;
+        this.grieverSpawns = grieverSpawns;
+        this.friendSpawns = friendSpawns;
+        this.itemSpawns = itemSpawns;
+        this.trapItemSpawns = trapItemSpawns;
+        this.routeSearch = routeSearch;
+    }
+
+    /**
+     * Creates a copy of this layout with other Griever start positions, e.g. to test a map with many Grievers.
+     * The grids are shared, since layouts never change them.
+     *
+     * @param grieverSpawns the start positions of the Grievers
+     * @return the new layout
+     */
+    public MazeLayout withGrieverSpawns(Array<Vector2> grieverSpawns) {
+        return new MazeLayout(width, height, tileWidth, tileHeight, walls, path, path2, exits, staticObstacles,
+                movingWalls, movingWallSpawns, playerSpawn, grieverSpawns, friendSpawns, itemSpawns, trapItemSpawns,
+                routeSearch);
+    }
+
+    public int getWidth() {
+        return width;
+    }
+    public int getHeight() {
+        return height;
+    }
+    public int getTileWidth() {
+        return tileWidth;
+    }
+    public int getTileHeight() {
+        return tileHeight;
+    }
+    public BitGrid getWalls() {
+        return walls;
+    }
+    public BitGrid getPath() {
+        return path;
+    }
+    public BitGrid getPath2() {
+        return path2;
+    }
+    public BitGrid getExits() {
+        return exits;
+    }
+    public BitGrid getStaticObstacles() {
+        return staticObstacles;
+    }
+    public BitGrid getMovingWalls() {
+        return movingWalls;
+    }
+    public Array<WallSpawn> getMovingWallSpawns() {
+        return movingWallSpawns;
+    }
+    public Vector2 getPlayerSpawn() {
+        return playerSpawn;
+    }
+    public Array<Vector2> getGrieverSpawns() {
+        return grieverSpawns;
+    }
+    public Array<Vector2> getFriendSpawns() {
+        return friendSpawns;
+    }
+    public Array<Vector2> getItemSpawns() {
+        return itemSpawns;
+    }
+    public Array<Vector2> getTrapItemSpawns() {
+        return trapItemSpawns;
+    }
+    public String getRouteSearch() {
+        return routeSearch;
+    }
+}
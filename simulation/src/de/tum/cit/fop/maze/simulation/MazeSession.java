@@ -0,0 +1,567 @@
+package de.tum.cit.fop.maze.simulation;
+
+import com.badlogic.gdx.Preferences;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.IntSet;
+
+import java.util.List;
+
+/**
+ * The MazeSession class runs the game logic of one attempt at a map: the player, Grievers, friends,
+ * moving walls, keys, doors, traps and items. It does not load textures or read the keyboard,
+ * so it can be advanced by the game screen as well as by headless tools such as benchmarks.
+ *
+ * Every call to {@link #update(float, PlayerInput)} advances the session by one simulation tick.
+ * All randomness of a session is derived from a single seed and all timing from the ticks' durations,
+ * so two sessions with the same layout, seed, tick durations and inputs evolve identically.
+ *
+ * The things happening during a tick are published on the session's {@link GameEventBus}, which the game
+ * subscribes to for sounds and messages. The session itself reacts to crushed Grievers by dropping their keys.
+ */
+public class MazeSession {
+    // Constants
+    /** The tick rate the game runs at unless it is configured otherwise. */
+    public static final int DEFAULT_TICKS_PER_SECOND = 60;
+    private static final float FRIEND_INTERACTION_RADIUS = 3f;
+    private static final float ITEM_INTERACTION_RADIUS = 7f;
+
+    // Map
+    private final MazeLayout layout;
+    private final BitGrid movingWallsLayer;
+    private final CollisionGrid collisionGrid;
+    private final GameEventBus events = new GameEventBus();
+
+    // Game Entities
+    private final Scoreboard scoreboard;
+    private final Player player;
+    private final Friends friends;
+    private final GrieverStore grieverStore;
+    private final Array<Griever> grievers;
+    private final Griever[] grieversById;
+    private final GrieverScheduler grieverScheduler;
+    private GrieverDecisionPhase grieverDecisions;
+    private SimulationLod lod = new SimulationLod();
+    private final WorldSnapshot world;
+    private final Keys keys;
+    private final Item item;
+    private final TrapItem trapItem;
+    private final Array<Door> doors;
+    private final Traps traps;
+    private final List<Wall> walls;
+
+    // Timed Mechanics, woken up on the game clock
+    private final GameTimers timers;
+
+    // Proximity
+    private final SpatialHash grieverIndex;
+    private final IntArray nearbyGrievers = new IntArray();
+
+    // Session State
+    private long seed;
+    private long tickCount = 0;
+    private final Vector2 playerPosition = new Vector2();
+    private boolean isGameOver = false;
+    private boolean isLevelCleared = false;
+    private float finalScore;
+
+    /**
+     * Creates a new session at the start of the given map with a random seed.
+     *
+     * @param layout the layout of the map to play
+     */
+    public MazeSession(MazeLayout layout) {
+        this(layout, MathUtils.random.nextLong());
+    }
+
+    /**
+     * Creates a new deterministic session at the start of the given map.
+     *
+     * @param layout the layout of the map to play
+     * @param seed   the seed all random decisions of the session are derived from
+     */
+    public MazeSession(MazeLayout layout, long seed) {
+        this(layout, seed, DEFAULT_TICKS_PER_SECOND);
+    }
+
+    /**
+     * Creates a new deterministic session at the start of the given map, updated at the given tick rate.
+     *
+     * @param layout         the layout of the map to play
+     * @param seed           the seed all random decisions of the session are derived from
+     * @param ticksPerSecond the number of ticks per second the session is updated with
+     */
+    public MazeSession(MazeLayout layout, long seed, int ticksPerSecond) {
+        this.layout = layout;
+        this.seed = seed;
+        this.timers = new GameTimers(ticksPerSecond);
+        this.movingWallsLayer = new BitGrid(layout.getMovingWalls());
+        this.collisionGrid = new CollisionGrid(layout, movingWallsLayer);
+
+        this.scoreboard = new Scoreboard(events);
+        this.player = Player.loadPlayerFromLayout(layout, collisionGrid);
+        this.friends = new Friends(layout, player, events);
+        this.grieverStore = new GrieverStore(layout.getGrieverSpawns().size);
+        this.grievers = Griever.loadGrieversFromLayout(layout, seed, grieverStore);
+        this.grieversById = new Griever[grievers.size];
+        for (Griever griever : grievers) {
+            grieversById[griever.getId()] = griever;
+        }
+        this.grieverIndex = SpatialHash.forLayout(layout);
+        grieverStore.indexPositions(grieverIndex);
+        this.grieverScheduler = new GrieverScheduler(GrieverScheduler.DEFAULT_DECISIONS_PER_TICK);
+        this.grieverDecisions = new GrieverDecisionPhase();
+        this.world = new WorldSnapshot(layout, movingWallsLayer, collisionGrid);
+
+        this.item = new Item(layout, events);
+        this.trapItem = new TrapItem(layout, events, timers);
+        this.keys = new Keys(layout, events);
+        this.doors = createDoorsFromLayout(layout);
+        this.traps = new Traps(layout, events, timers);
+
+        // Moving walls depend on the scoreboard; their moves update collisions and navigation
+        this.walls = Wall.createWallsFromLayout(layout, movingWallsLayer, scoreboard, events,
+                (tileX, tileY, occupied) -> {
+                    collisionGrid.onTileChanged(tileX, tileY, occupied);
+                    world.onTileChanged(tileX, tileY, occupied);
+                }, timers);
+        timers.setHandler(GameTimers.WALL_MOVE, this::wakeWall);
+        timers.setHandler(GameTimers.WALL_RETURN, this::wakeWall);
+        timers.setHandler(GameTimers.STUN_END, (type, id, time) -> grieverStore.endStun(id));
+        timers.setHandler(GameTimers.GRIEVER_COOLDOWN, (type, id, time) -> grieverStore.endCooldown(id));
+        events.subscribe(GameEventBus.mask(GameEventBus.GRIEVER_CRUSHED), this::dropKey);
+    }
+
+    /**
+     * Creates a Door for every tile of the "exits" layer.
+     *
+     * @param layout the layout of the map
+     * @return an Array of Door objects
+     */
+    private static Array<Door> createDoorsFromLayout(MazeLayout layout) {
+        Array<Door> doors = new Array<>();
+        BitGrid exits = layout.getExits();
+        for (int x = 0; x < exits.getWidth(); x++) {
+            for (int y = 0; y < exits.getHeight(); y++) {
+                if (exits.get(x, y)) {
+                    doors.add(new Door(x * layout.getTileWidth(), y * layout.getTileHeight(),
+                            layout.getTileWidth(), layout.getTileHeight()));
+                }
+            }
+        }
+        return doors;
+    }
+
+    /**
+     * Removes a crushed Griever from the game and drops its key where it was crushed.
+     *
+     * @param type      the type of the event, always {@link GameEventBus#GRIEVER_CRUSHED}
+     * @param grieverId the id of the crushed Griever
+     * @param x         the X-coordinate the Griever was crushed at
+     * @param y         the Y-coordinate the Griever was crushed at
+     */
+    private void dropKey(int type, int grieverId, float x, float y) {
+        for (int i = 0; i < grievers.size; i++) {
+            Griever griever = grievers.get(i);
+            if (griever.getId() == grieverId) {
+                grievers.removeIndex(i);
+                grieverScheduler.remove(griever);
+                grieverStore.remove(grieverId);
+                grieverIndex.remove(grieverId);
+                grieversById[grieverId] = null;
+                int keyId = keys.add(x, y);
+                events.publish(GameEventBus.KEY_SPAWNED, keyId, x, y);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Resolves the interactions between the player, the friends and the Grievers, each pair once per tick.
+     * The Grievers near the player or a friend are found through the spatial index instead of scanning all
+     * of them. The interactions with the moving walls happen when a wall enters a tile, see
+     * {@link #wakeWall(int, int, float)}.
+     *
+     * @param delta the duration of the tick in seconds
+     */
+    private void resolveInteractions(float delta) {
+        grieverIndex.queryRadius(player.getX(), player.getY(), Griever.PLAYER_COLLISION_RANGE, nearbyGrievers);
+        for (int i = 0; i < nearbyGrievers.size; i++) {
+            grieversById[nearbyGrievers.get(i)].resolvePlayerCollision(player, scoreboard, friends, timers);
+        }
+        friends.update(player, scoreboard, FRIEND_INTERACTION_RADIUS, delta, grieverIndex, grieverStore);
+    }
+
+    /**
+     * Wakes up a moving wall whose timer fired and lets it crush what it moved onto, or bring back the player
+     * it crushed once it has returned.
+     *
+     * @param type the type of the timer, see {@link Wall#onTimer(int, GameTimers)}
+     * @param id   the index of the wall
+     * @param time the time the timer was scheduled for
+     */
+    private void wakeWall(int type, int id, float time) {
+        Wall wall = walls.get(id);
+        wall.onTimer(type, timers);
+        if (wall.hasEnteredTile()) {
+            crushOnWallTile(wall);
+        }
+        wall.checkAndMovePlayer(player, friends);
+    }
+
+    /**
+     * Crushes the Grievers and friends overlapping the tile a moving wall just entered. Only the Grievers
+     * in the cells around the tile are checked.
+     *
+     * @param wall the wall that entered a tile during this tick
+     */
+    private void crushOnWallTile(Wall wall) {
+        float wallX = wall.getTargetX() * layout.getTileWidth();
+        float wallY = wall.getTargetY() * layout.getTileHeight();
+        float grieverSize = Griever.SPRITE_SIZE * Griever.SCALE;
+        grieverIndex.queryRect(wallX - grieverSize, wallY - grieverSize,
+                wallX + layout.getTileWidth(), wallY + layout.getTileHeight(), nearbyGrievers);
+        for (int i = 0; i < nearbyGrievers.size; i++) {
+            wall.checkAndMoveGriever(grieversById[nearbyGrievers.get(i)]);
+        }
+        friends.checkFriendsCollisionWithWall(wall, scoreboard);
+    }
+
+    /**
+     * Advances the session by one simulation tick. Updates walls, the player, grievers, friends,
+     * keys, doors, traps and items, and checks whether the game is over or the level is cleared.
+     * Once the session has ended, further updates are ignored.
+     * The events of the tick are dispatched before this method returns.
+     *
+     * @param delta the duration of the tick in seconds
+     * @param input the movement keys held down during the tick
+     */
+    public void update(float delta, PlayerInput input) {
+        if (isGameOver || isLevelCleared) {
+            return;
+        }
+        tick(delta, input);
+        events.dispatch();
+    }
+
+    private void tick(float delta, PlayerInput input) {
+        tickCount++;
+
+        player.snapshotPosition();
+        grieverStore.snapshotPositions();
+        keys.snapshotPositions();
+        friends.snapshotPositions();
+
+        scoreboard.updateTimer(delta);
+
+        timers.advance(delta);
+        // Crushed Grievers drop their keys before the others decide
+        events.dispatch();
+
+        player.update(delta, input.isMoveUp(), input.isMoveDown(), input.isMoveLeft(), input.isMoveRight(),
+                input.isRun(), friends);
+
+        // The Grievers decide in parallel against a snapshot; their side effects are applied serially below
+        lod.beginTick(tickCount, player.getX(), player.getY());
+        grieverStore.scheduleUpdates(lod, delta);
+        grieverScheduler.beginTick(grieverStore, player.getX(), player.getY());
+        world.capture(player);
+        grieverDecisions.run(grievers, world);
+        grieverScheduler.endTick(grievers, grieverStore);
+        grieverStore.indexPositions(grieverIndex);
+
+        resolveInteractions(delta);
+
+        grieverStore.finishTick(delta, timers, scoreboard);
+
+        keys.update(player, scoreboard);
+
+        if (scoreboard.getLives() < 0 || scoreboard.getScoreTimer() <= 0) {
+            scoreboard.stopTimer();
+            isGameOver = true;
+            return;
+        }
+
+        scoreboard.updateScoreTimer(delta);
+
+        playerPosition.set(player.getX(), player.getY());
+        for (Door door : doors) {
+            if (door.tryToOpen(playerPosition, scoreboard, friends)) {
+                finalScore = Door.calculateFinalScore(scoreboard);
+                isLevelCleared = true;
+                return;
+            }
+        }
+        traps.fallRocks(playerPosition, scoreboard, player, delta, friends, lod);
+
+        item.update(player, ITEM_INTERACTION_RADIUS);
+        trapItem.update(player, ITEM_INTERACTION_RADIUS);
+    }
+
+    /**
+     * Computes a hash of the positions and the progress of the session. Two deterministic sessions
+     * that were given the same inputs have the same hash after the same number of ticks,
+     * which makes it easy to check that a recorded run was reproduced exactly.
+     *
+     * @return the hash of the current state
+     */
+    public long stateHash() {
+        long hash = tickCount;
+        hash = 31 * hash + Float.floatToIntBits(player.getX());
+        hash = 31 * hash + Float.floatToIntBits(player.getY());
+        for (Griever griever : grievers) {
+            hash = 31 * hash + Float.floatToIntBits(griever.getMonsterX());
+            hash = 31 * hash + Float.floatToIntBits(griever.getMonsterY());
+        }
+        BodyStore followers = friends.getFollowers();
+        for (int i = 0; i < followers.size(); i++) {
+            hash = 31 * hash + Float.floatToIntBits(followers.x[i]);
+            hash = 31 * hash + Float.floatToIntBits(followers.y[i]);
+        }
+        for (Wall wall : walls) {
+            hash = 31 * hash + wall.getX();
+            hash = 31 * hash + wall.getY();
+        }
+        hash = 31 * hash + keys.size();
+        hash = 31 * hash + scoreboard.getLives();
+        hash = 31 * hash + Float.floatToIntBits(scoreboard.getScoreTimer());
+        hash = 31 * hash + (scoreboard.isKeyCollected() ? 1 : 0);
+        return hash;
+    }
+
+    /**
+     * Saves the state of the session. Every part of the session is written to its own preferences,
+     * which are provided by the given store.
+     *
+     * @param store provides the Preferences instance for a given name
+     */
+    public void saveState(PreferencesStore store) {
+        Preferences sessionPreferences = store.get("SessionState");
+        sessionPreferences.putLong("seed", seed);
+        sessionPreferences.putLong("tickCount", tickCount);
+        sessionPreferences.flush();
+        timers.saveState(store.get("Timers"));
+        Preferences wallPreferences = store.get("Walls");
+        wallPreferences.putInteger("wallCount", walls.size());
+        for (int i = 0; i < walls.size(); i++) {
+            walls.get(i).saveWallState(wallPreferences, i);
+        }
+        wallPreferences.flush();
+
+        player.savePlayerState(store.get("PlayerState"));
+
+        item.saveItemState(store.get("ItemState"));
+        trapItem.saveTrapItemState(store.get("TrapItem"));
+
+        traps.saveTrapState(store.get("trap"));
+
+        scoreboard.saveScoreboardState(store.get("HUDState"));
+        friends.saveFriendState(store.get("Friends"));
+        Preferences grieverPreferences = store.get("grieverstate");
+        grieverPreferences.putInteger("grieverCount", grievers.size);
+        for (int i = 0; i < grievers.size; i++) {
+            grieverPreferences.putInteger("grieverId_" + i, grievers.get(i).getId());
+            grievers.get(i).saveGrieverstate(grieverPreferences, i);
+        }
+        grieverScheduler.saveState(store.get("GrieverScheduler"));
+
+        Preferences preferences = store.get("Keys");
+        preferences.putInteger("numberOfKeys", keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            preferences.putFloat("key_" + i + "_x", keys.x[i]);
+            preferences.putFloat("key_" + i + "_y", keys.y[i]);
+            preferences.putBoolean("key_" + i + "_collected", false);
+        }
+        preferences.flush();
+    }
+
+    /**
+     * Loads the saved state of the session, restoring its seed, player, items, traps, walls, and keys.
+     * A loaded session goes on exactly like the saved one would have.
+     *
+     * @param store provides the Preferences instance for a given name
+     */
+    public void loadState(PreferencesStore store) {
+        Preferences sessionPreferences = store.get("SessionState");
+        seed = sessionPreferences.getLong("seed", seed);
+        tickCount = sessionPreferences.getLong("tickCount", tickCount);
+        timers.loadState(store.get("Timers"));
+        loadWalls(store.get("Walls"));
+
+        player.loadPlayerState(store.get("PlayerState"));
+
+        item.loadItemState(store.get("ItemState"));
+        trapItem.loadTrapItemState(store.get("TrapItem"));
+
+        traps.loadTrapState(store.get("trap"));
+
+        scoreboard.loadScoreboardState(store.get("HUDState"));
+
+        Preferences grieverPreferences = store.get("grieverstate");
+        removeCrushedGrievers(grieverPreferences);
+        for (int i = 0; i < grievers.size; i++) {
+            Griever griever = grievers.get(i);
+            griever.reseed(seed + griever.getId());
+            griever.loadGrieverstate(grieverPreferences, i);
+        }
+        grieverStore.indexPositions(grieverIndex);
+        grieverScheduler.loadState(store.get("GrieverScheduler"));
+
+        keys.clear();
+        Preferences preferences = store.get("Keys");
+        int numberOfKeys = preferences.getInteger("numberOfKeys", 0);
+        for (int i = 0; i < numberOfKeys; i++) {
+            float x = preferences.getFloat("key_" + i + "_x", 0);
+            float y = preferences.getFloat("key_" + i + "_y", 0);
+            boolean collected = preferences.getBoolean("key_" + i + "_collected", false);
+
+            if (!collected) {
+                keys.add(x, y);
+            }
+        }
+
+        friends.loadFriendState(store.get("Friends"), player);
+    }
+
+    /**
+     * Moves the walls to the tiles they were saved on, matching the wall timers restored before. The walls
+     * all leave their tiles first, so a wall can be loaded onto the tile another wall starts on. Nothing
+     * changes if no walls were saved.
+     *
+     * @param wallPreferences the Preferences instance containing the saved walls
+     */
+    private void loadWalls(Preferences wallPreferences) {
+        if (wallPreferences.getInteger("wallCount", -1) != walls.size()) {
+            return;
+        }
+        for (Wall wall : walls) {
+            wall.leaveTile();
+        }
+        for (int i = 0; i < walls.size(); i++) {
+            walls.get(i).loadWallState(wallPreferences, i);
+        }
+    }
+
+    /**
+     * Removes the Grievers that were crushed before the session was saved. The ids of the Grievers follow
+     * their order in the layout, so the saved ids tell which Grievers were still alive.
+     *
+     * @param grieverPreferences the Preferences instance containing the saved Grievers
+     */
+    private void removeCrushedGrievers(Preferences grieverPreferences) {
+        if (!grieverPreferences.contains("grieverCount")) {
+            return;
+        }
+        IntSet aliveIds = new IntSet();
+        int grieverCount = grieverPreferences.getInteger("grieverCount");
+        for (int i = 0; i < grieverCount; i++) {
+            aliveIds.add(grieverPreferences.getInteger("grieverId_" + i, -1));
+        }
+        for (int i = grievers.size - 1; i >= 0; i--) {
+            Griever griever = grievers.get(i);
+            if (!aliveIds.contains(griever.getId())) {
+                grievers.removeIndex(i);
+                grieverScheduler.remove(griever);
+                grieverStore.remove(griever.getId());
+                grieverIndex.remove(griever.getId());
+                grieversById[griever.getId()] = null;
+            }
+        }
+    }
+
+    /**
+     * Provides the Preferences instance used to save a part of the session.
+     */
+    public interface PreferencesStore {
+        Preferences get(String name);
+    }
+
+    /**
+     * Replaces the way the Grievers' decisions are run, e.g. to compare parallel and serial decisions.
+     * The choice does not change the outcome of the session.
+     *
+     * @param grieverDecisions the decision phase to use
+     */
+    public void setGrieverDecisions(GrieverDecisionPhase grieverDecisions) {
+        this.grieverDecisions = grieverDecisions;
+    }
+
+    /**
+     * Replaces the level of detail of the session, e.g. {@link SimulationLod#FULL_RATE} to update every
+     * entity in every tick. Unlike the decision phase, the choice changes the outcome of the session.
+     *
+     * @param lod the level of detail to use
+     */
+    public void setSimulationLod(SimulationLod lod) {
+        this.lod = lod;
+    }
+
+    public GameEventBus getEvents() {
+        return events;
+    }
+    public MazeLayout getLayout() {
+        return layout;
+    }
+    public BitGrid getMovingWallsLayer() {
+        return movingWallsLayer;
+    }
+    public CollisionGrid getCollisionGrid() {
+        return collisionGrid;
+    }
+    public Scoreboard getScoreboard() {
+        return scoreboard;
+    }
+    public Player getPlayer() {
+        return player;
+    }
+    public Friends getFriends() {
+        return friends;
+    }
+    public GrieverScheduler getGrieverScheduler() {
+        return grieverScheduler;
+    }
+    public Array<Griever> getGrievers() {
+        return grievers;
+    }
+    public GrieverStore getGrieverStore() {
+        return grieverStore;
+    }
+    public Keys getKeys() {
+        return keys;
+    }
+    public Item getItem() {
+        return item;
+    }
+    public TrapItem getTrapItem() {
+        return trapItem;
+    }
+    public Array<Door> getDoors() {
+        return doors;
+    }
+    public Traps getTraps() {
+        return traps;
+    }
+    public GameTimers getTimers() {
+        return timers;
+    }
+    public List<Wall> getWalls() {
+        return walls;
+    }
+    public long getSeed() {
+        return seed;
+    }
+    public long getTickCount() {
+        return tickCount;
+    }
+    public boolean isGameOver() {
+        return isGameOver;
+    }
+    public boolean isLevelCleared() {
+        return isLevelCleared;
+    }
+    public float getFinalScore() {
+        return finalScore;
+    }
+}
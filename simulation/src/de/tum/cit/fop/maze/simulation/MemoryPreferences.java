@@ -0,0 +1,131 @@
+package de.tum.cit.fop.maze.simulation;
+
+import com.badlogic.gdx.Preferences;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Preferences that are kept in memory instead of a file, so sessions can be saved and loaded without
+ * a running libGDX application, e.g. by the headless benchmark. Like the preferences of the backends,
+ * reading a missing key gives the default value.
+ */
+public class MemoryPreferences implements Preferences {
+    private final Map<String, Object> values = new HashMap<>();
+
+    @Override
+    public Preferences putBoolean(String key, boolean val) {
+        values.put(key, val);
+        return this;
+    }
+
+    @Override
+    public Preferences putInteger(String key, int val) {
+        values.put(key, val);
+        return this;
+    }
+
+    @Override
+    public Preferences putLong(String key, long val) {
+        values.put(key, val);
+        return this;
+    }
+
+    @Override
+    public Preferences putFloat(String key, float val) {
+        values.put(key, val);
+        return this;
+    }
+
+    @Override
+    public Preferences putString(String key, String val) {
+        values.put(key, val);
+        return this;
+    }
+
+    @Override
+    public Preferences put(Map<String, ?> vals) {
+        values.putAll(vals);
+        return this;
+    }
+
+    @Override
+    public boolean getBoolean(String key) {
+        return getBoolean(key, false);
+    }
+
+    @Override
+    public int getInteger(String key) {
+        return getInteger(key, 0);
+    }
+
+    @Override
+    public long getLong(String key) {
+        return getLong(key, 0L);
+    }
+
+    @Override
+    public float getFloat(String key) {
+        return getFloat(key, 0f);
+    }
+
+    @Override
+    public String getString(String key) {
+        return getString(key, "");
+    }
+
+    @Override
+    public boolean getBoolean(String key, boolean defValue) {
+        Object value = values.get(key);
+        return value instanceof Boolean ? (Boolean) value : defValue;
+    }
+
+    @Override
+    public int getInteger(String key, int defValue) {
+        Object value = values.get(key);
+        return value instanceof Number ? ((Number) value).intValue() : defValue;
+    }
+
+    @Override
+    public long getLong(String key, long defValue) {
+        Object value = values.get(key);
+        return value instanceof Number ? ((Number) value).longValue() : defValue;
+    }
+
+    @Override
+    public float getFloat(String key, float defValue) {
+        Object value = values.get(key);
+        return value instanceof Number ? ((Number) value).floatValue() : defValue;
+    }
+
+    @Override
+    public String getString(String key, String defValue) {
+        Object value = values.get(key);
+        return value != null ? value.toString() : defValue;
+    }
+
+    @Override
+    public Map<String, ?> get() {
+        return new HashMap<>(values);
+    }
+
+    @Override
+    public boolean contains(String key) {
+        return values.containsKey(key);
+    }
+
+    @Override
+    public void clear() {
+        values.clear();
+    }
+
+    @Override
+    public void remove(String key) {
+        values.remove(key);
+    }
+
+    @Override
+    public void flush() {
+        // nothing to write
+    }
+}
@@ -0,0 +1,447 @@
+package de.tum.cit.fop.maze.simulation;
+
+import com.badlogic.gdx.Preferences;
+
+
+/**
+ * The Player class represents the player character in the game, including its movement, collision detection,
+ * state management (e.g., speed boosts) and the state of its walking animation. It handles user input for
+ * player movement, running, speed boosting, and special effects like red visual effects and death.
+ * Drawing the player is left to the game, which reads the animation state from this class.
+ */
+public class Player {
+
+    //Sprite Sizes (in pixels, before scaling)
+    private static final float SPRITE_SIZE = 32f;
+    private static final float DEAD_SPRITE_SIZE = 64f;
+
+    //Gap kept between the player's box and a wall it runs into from the left or from below (in pixels)
+    private static final float SKIN = 0.001f;
+
+    //Slowdown per following friend, and the lowest speed factor a long train of friends can slow the player to
+    private static final float SLOWDOWN_PER_FRIEND = 0.05f;
+    private static final float MIN_SLOWDOWN_FACTOR = 0.5f;
+
+    //Positions and Movements
+    private float x, y;
+    private float previousX, previousY;
+    private float lastTickX, lastTickY;
+    private float startX, startY;
+
+    //Speed and Running
+    private float speed, runningSpeed, normalSpeed;
+    private float runTimer = 0f, cooldownTimer = 0f;
+    private boolean isRunning = false, canRun = true;
+    private final float runDuration = 2f;
+    private final float cooldownDuration = 4f;
+
+    //Animation
+    private float stateTime = 0f;
+    private int direction = Direction.RIGHT;
+    private final float walkAnimationTime = 0.1f;
+    private int frameDirection = Direction.DOWN;
+    private int walkFrame = 0;
+    private boolean isDeadSpriteShown = false;
+
+    //Collision
+    private final CollisionGrid collisionGrid;
+    private final int tileWidth, tileHeight;
+
+    //Speed Up Effect Controls
+    private float speedBoostDuration = 0f;
+    private float boostedSpeed = 100.0f;
+    private boolean isSpeedBoosted = false;
+
+    //VFX Controls
+    private float redEffectTimer = 0f;
+    private boolean isInRedEffect = false;
+
+    //Player states
+    private float scale = 0.2f;
+    private boolean isDead;
+
+    /**
+     * Constructs a new Player with the specified collision grid.
+     *
+     * @param collisionGrid The blocked tiles of the walls and moving walls, used to detect collisions with the environment.
+     */
+    public Player(CollisionGrid collisionGrid) {
+        this.speed = 30.0f;
+        this.runningSpeed = 70.0f;
+        this.normalSpeed = speed;
+        this.collisionGrid = collisionGrid;
+        this.tileWidth = collisionGrid.getTileWidth();
+        this.tileHeight = collisionGrid.getTileHeight();
+        this.isDead = false;
+    }
+
+    /**
+     * Creates the player at the start position of the given layout.
+     *
+     * @param layout The layout of the map, containing the player's initial position.
+     * @param collisionGrid The blocked tiles of the walls and moving walls.
+     * @return The initialized Player object.
+     */
+    public static Player loadPlayerFromLayout(MazeLayout layout, CollisionGrid collisionGrid) {
+        Player player = new Player(collisionGrid);
+        float startX = layout.getPlayerSpawn().x;
+        float startY = layout.getPlayerSpawn().y;
+
+        player.setX(startX);
+        player.setY(startY);
+        player.setStartX(startX);
+        player.setStartY(startY);
+        player.snapshotPosition();
+        return player;
+    }
+
+    /**
+     * Updates the player's state each tick, including movement, running, and effects.
+     * Handles player input for movement and manages the player's speed and animations.
+     *
+     * @param delta The time in seconds since the last update.
+     * @param moveUp Whether the player is moving up.
+     * @param moveDown Whether the player is moving down.
+     * @param moveLeft Whether the player is moving left.
+     * @param moveRight Whether the player is moving right.
+     * @param runKeyPressed Whether the player is pressing the run key.
+     * @param friends The Friends object to manage following friends.
+     */
+
+    public void update(float delta, boolean moveUp, boolean moveDown, boolean moveLeft, boolean moveRight, boolean runKeyPressed, Friends friends) {
+        previousX = x;
+        previousY = y;
+
+        float slowdownFactor = Math.max(MIN_SLOWDOWN_FACTOR, 1 - SLOWDOWN_PER_FRIEND * friends.getFollowingCount());
+
+        if (isSpeedBoosted) {
+            speedBoostDuration -= delta;
+            speed = boostedSpeed;
+            if (speedBoostDuration <= 0) {
+                resetSpeedBoost();
+            }
+        }
+
+        if (isInRedEffect) {
+            redEffectTimer += delta;
+            if (redEffectTimer >= 3f) {
+                isInRedEffect = false;
+                redEffectTimer = 0f;
+            }
+        }
+
+        if (canRun && runKeyPressed) {
+            isRunning = true;
+        } else {
+            isRunning = false;
+        }
+
+        if (isRunning) {
+            runTimer += delta;
+            if (runTimer >= runDuration) {
+                canRun = false;
+                runTimer = runDuration;
+            }
+        } else if (!canRun) {
+            cooldownTimer += delta;
+            if (cooldownTimer >= cooldownDuration) {
+                canRun = true;
+                cooldownTimer = 0;
+                runTimer = 0;
+            }
+        }
+
+        float currentSpeed = speed * slowdownFactor;
+
+        if (isRunning) {
+            currentSpeed = runningSpeed * slowdownFactor;
+        }
+
+        float moveX = moveLeft ? -currentSpeed * delta : moveRight ? currentSpeed * delta : 0f;
+        float moveY = moveUp ? currentSpeed * delta : moveDown ? -currentSpeed * delta : 0f;
+        move(delta, moveX, moveY);
+    }
+
+    /**
+     * Moves the player's box by the given distances, sliding along the walls it runs into. The motion is split
+     * into sub-steps of at most half a tile; every sub-step sweeps the box first vertically, then horizontally,
+     * and stops each axis at the first blocked tile the box would enter. No tile is skipped however long
+     * the tick is, and being stopped on one axis keeps the progress on the other.
+     *
+     * @param delta The time in seconds since the last update.
+     * @param moveX The distance to move along the x-axis in pixels.
+     * @param moveY The distance to move along the y-axis in pixels.
+     */
+    private void move(float delta, float moveX, float moveY) {
+        float maxStep = Math.min(tileWidth, tileHeight) / 2f;
+        int steps = Math.max(1, (int) Math.ceil(Math.max(Math.abs(moveX), Math.abs(moveY)) / maxStep));
+        boolean movedX = false, movedY = false;
+        for (int i = 0; i < steps; i++) {
+            movedY |= sweepY(moveY / steps);
+            movedX |= sweepX(moveX / steps);
+        }
+
+        if (movedY) {
+            direction = moveY > 0 ? Direction.UP : Direction.DOWN;
+            animate(delta, direction);
+        }
+        if (movedX) {
+            direction = moveX > 0 ? Direction.RIGHT : Direction.LEFT;
+            animate(delta, direction);
+        }
+    }
+
+    /**
+     * Reverts the player's position to the position at the start of the last update.
+     */
+    public void revertToPrevious() {
+        x = previousX;
+        y = previousY;
+    }
+
+    /**
+     * Moves the player's box along the x-axis until it would enter a blocked tile.
+     *
+     * @param distance The distance to move in pixels, negative to move left.
+     * @return True if the player moved, false if it was blocked right away.
+     */
+    private boolean sweepX(float distance) {
+        if (distance == 0) {
+            return false;
+        }
+        float size = SPRITE_SIZE * scale;
+        int bottomRow = (int) Math.floor(y / tileHeight);
+        int topRow = (int) Math.ceil((y + size) / tileHeight) - 1;
+        float targetX = x + distance;
+        if (distance > 0) {
+            int toColumn = (int) Math.ceil((targetX + size) / tileWidth) - 1;
+            for (int column = (int) Math.ceil((x + size) / tileWidth); column <= toColumn; column++) {
+                if (isBlocked(column, column, bottomRow, topRow)) {
+                    targetX = Math.max(x, column * tileWidth - size - SKIN);
+                    break;
+                }
+            }
+        } else {
+            int toColumn = (int) Math.floor(targetX / tileWidth);
+            for (int column = (int) Math.floor(x / tileWidth) - 1; column >= toColumn; column--) {
+                if (isBlocked(column, column, bottomRow, topRow)) {
+                    targetX = Math.min(x, (column + 1) * tileWidth);
+                    break;
+                }
+            }
+        }
+        boolean moved = targetX != x;
+        x = targetX;
+        return moved;
+    }
+
+    /**
+     * Moves the player's box along the y-axis until it would enter a blocked tile.
+     *
+     * @param distance The distance to move in pixels, negative to move down.
+     * @return True if the player moved, false if it was blocked right away.
+     */
+    private boolean sweepY(float distance) {
+        if (distance == 0) {
+            return false;
+        }
+        float size = SPRITE_SIZE * scale;
+        int leftColumn = (int) Math.floor(x / tileWidth);
+        int rightColumn = (int) Math.ceil((x + size) / tileWidth) - 1;
+        float targetY = y + distance;
+        if (distance > 0) {
+            int toRow = (int) Math.ceil((targetY + size) / tileHeight) - 1;
+            for (int row = (int) Math.ceil((y + size) / tileHeight); row <= toRow; row++) {
+                if (isBlocked(leftColumn, rightColumn, row, row)) {
+                    targetY = Math.max(y, row * tileHeight - size - SKIN);
+                    break;
+                }
+            }
+        } else {
+            int toRow = (int) Math.floor(targetY / tileHeight);
+            for (int row = (int) Math.floor(y / tileHeight) - 1; row >= toRow; row--) {
+                if (isBlocked(leftColumn, rightColumn, row, row)) {
+                    targetY = Math.min(y, (row + 1) * tileHeight);
+                    break;
+                }
+            }
+        }
+        boolean moved = targetY != y;
+        y = targetY;
+        return moved;
+    }
+
+    /**
+     * Checks if any tile of a rectangle of tiles is blocked. Tiles outside of the map are blocked,
+     * so the player cannot leave it.
+     *
+     * @param minColumn The first column of the rectangle.
+     * @param maxColumn The last column of the rectangle.
+     * @param minRow The first row of the rectangle.
+     * @param maxRow The last row of the rectangle.
+     * @return True if a tile of the rectangle is blocked, false otherwise.
+     */
+    private boolean isBlocked(int minColumn, int maxColumn, int minRow, int maxRow) {
+        BitGrid blocked = collisionGrid.getBlocked();
+        for (int column = minColumn; column <= maxColumn; column++) {
+            for (int row = minRow; row <= maxRow; row++) {
+                if (!blocked.isInBounds(column, row) || blocked.get(column, row)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Animates the player's movement by alternating between the two walking frames of a direction.
+     * Switching to another direction always starts with its first frame.
+     *
+     * @param delta The time in seconds since the last update.
+     * @param animationDirection The direction whose frames should be shown.
+     */
+    private void animate(float delta, int animationDirection) {
+        stateTime += delta;
+        if (stateTime >= walkAnimationTime) {
+            walkFrame = (!isDeadSpriteShown && frameDirection == animationDirection && walkFrame == 0) ? 1 : 0;
+            frameDirection = animationDirection;
+            isDeadSpriteShown = false;
+            stateTime = 0f;
+        }
+    }
+
+    /**
+     * Remembers the player's position at the start of a simulation tick,
+     * so that rendering can interpolate between the last two ticks.
+     */
+    public void snapshotPosition() {
+        lastTickX = x;
+        lastTickY = y;
+    }
+
+    /**
+     * Increases the player's speed for a given duration.
+     *
+     * @param duration The duration for the speed boost in seconds.
+     */
+    public void increaseSpeed(float duration) {
+        isSpeedBoosted = true;
+        speedBoostDuration = duration;
+    }
+
+    /**
+     * Resets the player's speed to normal after the speed boost duration expires.
+     */
+    public void resetSpeedBoost() {
+        isSpeedBoosted = false;
+        speed = normalSpeed;
+    }
+
+    /**
+     * Saves the player's current state (position, speed, effect timers, etc.) to persistent storage.
+     *
+     * @param preferences the Preferences instance for saving state
+     */
+    public void savePlayerState(Preferences preferences) {
+        preferences.putFloat("x", x);
+        preferences.putFloat("y", y);
+        preferences.putFloat("speed", speed);
+        preferences.putBoolean("isDead", isDead);
+        preferences.putString("direction", Direction.name(direction));
+        preferences.putBoolean("isSpeedBoosted", isSpeedBoosted);
+        preferences.putFloat("speedBoostDuration", speedBoostDuration);
+        preferences.putBoolean("isInRedEffect", isInRedEffect);
+        preferences.putFloat("redEffectTimer", redEffectTimer);
+        preferences.putBoolean("isRunning", isRunning);
+        preferences.putBoolean("canRun", canRun);
+        preferences.putFloat("runTimer", runTimer);
+        preferences.putFloat("cooldownTimer", cooldownTimer);
+        preferences.flush();
+    }
+
+
+    /**
+     * Loads the player's state from persistent storage and restores it.
+     *
+     * @param preferences the Preferences instance containing saved state
+     */
+    public void loadPlayerState(Preferences preferences) {
+        x = preferences.getFloat("x", x);
+        y = preferences.getFloat("y", y);
+        speed = preferences.getFloat("speed", speed);
+        isDead = preferences.getBoolean("isDead", isDead);
+        direction = Direction.parse(preferences.getString("direction"), direction);
+        isSpeedBoosted = preferences.getBoolean("isSpeedBoosted", isSpeedBoosted);
+        speedBoostDuration = preferences.getFloat("speedBoostDuration", speedBoostDuration);
+        isInRedEffect = preferences.getBoolean("isInRedEffect", isInRedEffect);
+        redEffectTimer = preferences.getFloat("redEffectTimer", redEffectTimer);
+        isRunning = preferences.getBoolean("isRunning", isRunning);
+        canRun = preferences.getBoolean("canRun", canRun);
+        runTimer = preferences.getFloat("runTimer", runTimer);
+        cooldownTimer = preferences.getFloat("cooldownTimer", cooldownTimer);
+    }
+
+    // Getter and Setter methods for player position and state
+    public void setStartX(float startX) {
+        this.startX = startX;
+    }
+    public void setStartY(float startY) {
+        this.startY = startY;
+    }
+    public float getX() {
+        return x;
+    }
+    public float getY() {
+        return y;
+    }
+    public float getLastTickX() {
+        return lastTickX;
+    }
+    public float getLastTickY() {
+        return lastTickY;
+    }
+    public void setX(float x) {
+        this.x = x;
+    }
+    public void setY(float y) {
+        this.y = y;
+    }
+    public float getWidth() {
+        return isDeadSpriteShown ? DEAD_SPRITE_SIZE : SPRITE_SIZE;
+    }
+    public float getHeight() {
+        return isDeadSpriteShown ? DEAD_SPRITE_SIZE : SPRITE_SIZE;
+    }
+    public float getScale() {
+        return scale;
+    }
+    public int getDirection() {
+        return direction;
+    }
+    public int getFrameDirection() {
+        return frameDirection;
+    }
+    public int getWalkFrame() {
+        return walkFrame;
+    }
+    public boolean isDeadSpriteShown() {
+        return isDeadSpriteShown;
+    }
+    public boolean isInRedEffect() {
+        return isInRedEffect;
+    }
+    public float getRedEffectTimer() {
+        return redEffectTimer;
+    }
+    public boolean isDead() {
+        return isDead;
+    }
+    public void setDead() {
+        this.isDead = true;
+        this.isDeadSpriteShown = true;
+    }
+    public void triggerRedEffect() {
+        isInRedEffect = true;
+        redEffectTimer = 0f;
+    }
+}
@@ -0,0 +1,44 @@
+package de.tum.cit.fop.maze.simulation;
+
+/**
+ * The PlayerInput class holds the movement keys that are held down during a simulation tick.
+ * The game fills it from the keyboard, while headless sessions can fill it from any other source.
+ */
+public class PlayerInput {
+    // Movement Keys
+    private boolean moveUp, moveDown, moveLeft, moveRight;
+    private boolean run;
+
+    /**
+     * Sets the state of all movement keys at once.
+     *
+     * @param moveUp    Whether the player is moving up.
+     * @param moveDown  Whether the player is moving down.
+     * @param moveLeft  Whether the player is moving left.
+     * @param moveRight Whether the player is moving right.
+     * @param run       Whether the player is pressing the run key.
+     */
+    public void set(boolean moveUp, boolean moveDown, boolean moveLeft, boolean moveRight, boolean run) {
+        this.moveUp = moveUp;
+        this.moveDown = moveDown;
+        this.moveLeft = moveLeft;
+        this.moveRight = moveRight;
+        this.run = run;
+    }
+
+    public boolean isMoveUp() {
+        return moveUp;
+    }
+    public boolean isMoveDown() {
+        return moveDown;
+    }
+    public boolean isMoveLeft() {
+        return moveLeft;
+    }
+    public boolean isMoveRight() {
+        return moveRight;
+    }
+    public boolean isRun() {
+        return run;
+    }
+}
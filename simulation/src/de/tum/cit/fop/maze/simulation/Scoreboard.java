@@ -0,0 +1,162 @@
+package de.tum.cit.fop.maze.simulation;
+
+import com.badlogic.gdx.Preferences;
+
+/**
+ * The Scoreboard class keeps track of the game progress of a maze session: the player's lives
+ * (saved friends), the elapsed time, the remaining score time and whether the key was collected.
+ * The HUD displays these values but does not own them.
+ */
+public class Scoreboard {
+    // Constants
+    private static final float INITIAL_SCORE_TIME = 300f;
+    private static final int INITIAL_LIVES = 3;
+
+    // Game State Variables
+    private int lives;
+    private float globalTimer;
+    private boolean isGameRunning = true;
+    private float finalTime;
+    private float scoreTimer;
+    private boolean keyCollected;
+
+    // Notifications
+    private final GameEventBus events;
+
+    /**
+     * Constructs a Scoreboard with the initial lives and score time.
+     *
+     * @param events the bus a lost friend or a stunned Griever is published on
+     */
+    public Scoreboard(GameEventBus events) {
+        this.events = events;
+        this.lives = INITIAL_LIVES;
+        this.globalTimer = 0f;
+        this.keyCollected = false;
+        this.scoreTimer = INITIAL_SCORE_TIME;
+    }
+
+    /**
+     * Updates the global timer, which tracks the time elapsed in the game.
+     *
+     * @param delta The time in seconds since the last update.
+     */
+    public void updateTimer(float delta) {
+        globalTimer += delta;
+    }
+
+    /**
+     * Updates the score timer, which tracks the remaining time before the game ends.
+     *
+     * @param delta The time in seconds since the last update.
+     */
+    public void updateScoreTimer(float delta) {
+        if (isGameRunning) {
+            scoreTimer -= delta;
+        }
+    }
+
+    /**
+     * Stops the timer and records the final time when the game ends.
+     */
+    public void stopTimer() {
+        isGameRunning = false;
+        finalTime = scoreTimer;
+    }
+
+    /**
+     * Gets the score shown while playing, based on the remaining time and lives.
+     *
+     * @return the current score
+     */
+    public int getScore() {
+        return 1000 + (int) scoreTimer * 5 + (lives * 150);
+    }
+
+    /**
+     * Increments the number of lives by 1.
+     */
+    public void incrementLives() {
+        this.lives++;
+    }
+
+    /**
+     * Decrements the number of lives by 1 and publishes the lost friend.
+     */
+    public void decrementLives() {
+        this.lives--;
+        events.publish(GameEventBus.FRIEND_LOST);
+    }
+
+    /**
+     * Reports that a Griever is stunned.
+     *
+     * @param grieverId the id of the stunned Griever
+     * @param x         the X-coordinate of the Griever
+     * @param y         the Y-coordinate of the Griever
+     */
+    public void reportGrieverStunned(int grieverId, float x, float y) {
+        events.publish(GameEventBus.GRIEVER_STUNNED, grieverId, x, y);
+    }
+
+    /**
+     * Reports that the player cannot leave without friends.
+     */
+    public void reportExitNeedsFriend() {
+        events.publish(GameEventBus.EXIT_NEEDS_FRIEND);
+    }
+
+    /**
+     * Saves the current state of the scoreboard (lives, score timer, key collected, etc.)
+     * to the preferences for persistence between sessions.
+     *
+     * @param preferences the Preferences instance for saving state
+     */
+    public void saveScoreboardState(Preferences preferences) {
+        preferences.putInteger("lives", lives);
+        preferences.putFloat("scoreTimer", scoreTimer);
+        preferences.putBoolean("keyCollected", keyCollected);
+        preferences.putBoolean("isGameRunning", isGameRunning);
+        preferences.putFloat("finalTime", finalTime);
+        preferences.putFloat("globalTimer", globalTimer);
+        preferences.flush();
+    }
+
+    /**
+     * Loads the saved state of the scoreboard from preferences.
+     *
+     * @param preferences the Preferences instance containing saved state
+     */
+    public void loadScoreboardState(Preferences preferences) {
+        lives = preferences.getInteger("lives", lives);
+        scoreTimer = preferences.getFloat("scoreTimer", scoreTimer);
+        keyCollected = preferences.getBoolean("keyCollected", keyCollected);
+        isGameRunning = preferences.getBoolean("isGameRunning", isGameRunning);
+        finalTime = preferences.getFloat("finalTime", finalTime);
+        globalTimer = preferences.getFloat("globalTimer", globalTimer);
+    }
+
+    public float getFinalTime() {
+        return finalTime;
+    }
+    public float getGlobalTimer() {
+        return globalTimer;
+    }
+    public float getScoreTimer() {
+        return scoreTimer;
+    }
+    public int getLives() {
+        return lives;
+    }
+    public void collectKey() {
+        if (!keyCollected) {
+            keyCollected = true;
+        }
+    }
+    public boolean isKeyCollected() {
+        return keyCollected;
+    }
+    public void setLives(int lives) {
+        this.lives = lives;
+    }
+}
@@ -0,0 +1,123 @@
+package de.tum.cit.fop.maze.simulation;
+
+/**
+ * Decides how often an entity is updated, depending on its distance to the player. Entities near the player
+ * are updated in every tick; distant ones only in every second or every fourth tick, and catch up on the
+ * skipped time when they are updated. This keeps the cost of a tick bound to what is around the player
+ * rather than to the number of entities on the map.
+ *
+ * The distances are fixed, so the simulation does not depend on the zoom or the size of the window and
+ * recorded sessions replay identically. Everything the camera can show is updated in every tick: the camera
+ * follows the player, and at its largest zoom of {@value #MAX_CAMERA_ZOOM} on a viewport of up to
+ * {@value #MAX_VIEWPORT_WIDTH}x{@value #MAX_VIEWPORT_HEIGHT} pixels it shows at most half the diagonal of
+ * that viewport times the zoom around the player. Larger viewports have to zoom out less, see
+ * {@link #largestZoom(float, float)}. The updates of distant entities are spread over the ticks by their ids,
+ * so they do not all fall into the same tick.
+ */
+public class SimulationLod {
+    // Constants
+    /** The largest zoom of the game camera. */
+    public static final float MAX_CAMERA_ZOOM = 0.3f;
+    /** The largest viewport the camera shows at its largest zoom, that of a 4K display. */
+    public static final int MAX_VIEWPORT_WIDTH = 3840, MAX_VIEWPORT_HEIGHT = 2160;
+    /** The sprites of entities just outside the view still reach into it. */
+    private static final float VIEW_MARGIN = 32f;
+    private static final float MAX_VIEW_DISTANCE =
+            MAX_CAMERA_ZOOM * halfDiagonal(MAX_VIEWPORT_WIDTH, MAX_VIEWPORT_HEIGHT);
+    public static final float DEFAULT_FULL_RATE_DISTANCE = MAX_VIEW_DISTANCE + VIEW_MARGIN;
+    public static final float DEFAULT_HALF_RATE_DISTANCE = 2 * DEFAULT_FULL_RATE_DISTANCE;
+    public static final int FAR_INTERVAL = 4;
+
+    /** Updates every entity in every tick. */
+    public static final SimulationLod FULL_RATE = new SimulationLod(Float.MAX_VALUE, Float.MAX_VALUE);
+
+    // Distances
+    private final float fullRateDistance2;
+    private final float halfRateDistance2;
+
+    // Current Tick
+    private long tick;
+    private float playerX, playerY;
+
+    /**
+     * Creates a level of detail with the default distances.
+     */
+    public SimulationLod() {
+        this(DEFAULT_FULL_RATE_DISTANCE, DEFAULT_HALF_RATE_DISTANCE);
+    }
+
+    /**
+     * Creates a level of detail.
+     *
+     * @param fullRateDistance entities up to this distance from the player are updated in every tick
+     * @param halfRateDistance entities up to this distance are updated in every second tick,
+     *                         entities further away in every {@value #FAR_INTERVAL}th tick
+     */
+    public SimulationLod(float fullRateDistance, float halfRateDistance) {
+        this.fullRateDistance2 = square(fullRateDistance);
+        this.halfRateDistance2 = square(Math.max(fullRateDistance, halfRateDistance));
+    }
+
+    private static float square(float distance) {
+        return distance == Float.MAX_VALUE ? Float.MAX_VALUE : distance * distance;
+    }
+
+    private static float halfDiagonal(float width, float height) {
+        return (float) Math.sqrt(width * width + height * height) / 2f;
+    }
+
+    /**
+     * Gets the largest zoom of a camera following the player that only shows entities updated in every tick
+     * with the default distances.
+     *
+     * @param viewportWidth  the width of the viewport of the camera in pixels
+     * @param viewportHeight the height of the viewport of the camera in pixels
+     * @return {@value #MAX_CAMERA_ZOOM}, or less for viewports larger than the largest one
+     */
+    public static float largestZoom(float viewportWidth, float viewportHeight) {
+        return Math.min(MAX_CAMERA_ZOOM, MAX_VIEW_DISTANCE / halfDiagonal(viewportWidth, viewportHeight));
+    }
+
+    /**
+     * Starts a new tick.
+     *
+     * @param tick    the number of the tick
+     * @param playerX the X-coordinate of the player
+     * @param playerY the Y-coordinate of the player
+     */
+    public void beginTick(long tick, float playerX, float playerY) {
+        this.tick = tick;
+        this.playerX = playerX;
+        this.playerY = playerY;
+    }
+
+    /**
+     * Gets the number of ticks between two updates of an entity at the given position.
+     *
+     * @param x the X-coordinate of the entity
+     * @param y the Y-coordinate of the entity
+     * @return 1, 2 or {@value #FAR_INTERVAL}
+     */
+    public int intervalAt(float x, float y) {
+        float dx = x - playerX;
+        float dy = y - playerY;
+        float distance2 = dx * dx + dy * dy;
+        if (distance2 <= fullRateDistance2) {
+            return 1;
+        }
+        return distance2 <= halfRateDistance2 ? 2 : FAR_INTERVAL;
+    }
+
+    /**
+     * Checks if an entity is updated in the current tick.
+     *
+     * @param id the id of the entity, used to spread the updates over the ticks
+     * @param x  the X-coordinate of the entity
+     * @param y  the Y-coordinate of the entity
+     * @return true if the entity is updated, false if it skips the tick and catches up later
+     */
+    public boolean isDue(int id, float x, float y) {
+        int interval = intervalAt(x, y);
+        return interval == 1 || (tick + id) % interval == 0;
+    }
+}
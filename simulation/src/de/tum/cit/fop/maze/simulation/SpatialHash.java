@@ -0,0 +1,172 @@
+package de.tum.cit.fop.maze.simulation;
+
+import com.badlogic.gdx.utils.IntArray;
+
+import java.util.Arrays;
+
+/**
+ * A uniform grid of cells over the map that indexes entities by position, so that proximity checks only look
+ * at the entities in the cells around a point instead of at all entities. The cells have the size of a tile.
+ *
+ * Entities are identified by their ids in an {@link EntityStore}. Every cell keeps a doubly linked list of its
+ * entities in int arrays indexed by id, so moving an entity to another cell, adding and removing take
+ * constant time, and an entity that stays in its cell costs a single comparison. Entities outside of the map,
+ * like crushed Grievers, are kept but never found.
+ */
+public class SpatialHash {
+    // Constants
+    private static final int NONE = -1;
+    private static final int OUTSIDE = -2;
+
+    // Cells
+    private final int columns, rows;
+    private final float cellWidth, cellHeight;
+    private final int[] head;
+
+    // Entities, indexed by id
+    private int[] cellOf = new int[0];
+    private int[] next = new int[0];
+    private int[] previous = new int[0];
+
+    /**
+     * Creates an empty index over a map.
+     *
+     * @param columns    the number of cells along the x-axis, usually the width of the map in tiles
+     * @param rows       the number of cells along the y-axis
+     * @param cellWidth  the width of a cell in pixels
+     * @param cellHeight the height of a cell in pixels
+     */
+    public SpatialHash(int columns, int rows, float cellWidth, float cellHeight) {
+        this.columns = columns;
+        this.rows = rows;
+        this.cellWidth = cellWidth;
+        this.cellHeight = cellHeight;
+        this.head = new int[columns * rows];
+        Arrays.fill(head, NONE);
+    }
+
+    /**
+     * Creates an empty index with one cell per tile of a map.
+     *
+     * @param layout the layout of the map
+     * @return the index
+     */
+    public static SpatialHash forLayout(MazeLayout layout) {
+        return new SpatialHash(layout.getWidth(), layout.getHeight(), layout.getTileWidth(), layout.getTileHeight());
+    }
+
+    private int cellAt(float x, float y) {
+        int column = (int) Math.floor(x / cellWidth);
+        int row = (int) Math.floor(y / cellHeight);
+        if (column < 0 || row < 0 || column >= columns || row >= rows) {
+            return OUTSIDE;
+        }
+        return row * columns + column;
+    }
+
+    /**
+     * Adds an entity or moves it to its new position. Nothing changes if the entity stays in its cell.
+     *
+     * @param id the id of the entity
+     * @param x  the x-coordinate of the entity in pixels
+     * @param y  the y-coordinate of the entity in pixels
+     */
+    public void put(int id, float x, float y) {
+        if (id >= cellOf.length) {
+            int oldLength = cellOf.length;
+            int length = Math.max(id + 1, oldLength * 2);
+            cellOf = Arrays.copyOf(cellOf, length);
+            next = Arrays.copyOf(next, length);
+            previous = Arrays.copyOf(previous, length);
+            Arrays.fill(cellOf, oldLength, length, NONE);
+        }
+        int cell = cellAt(x, y);
+        if (cellOf[id] == cell) {
+            return;
+        }
+        unlink(id);
+        cellOf[id] = cell;
+        if (cell >= 0) {
+            previous[id] = NONE;
+            next[id] = head[cell];
+            if (head[cell] != NONE) {
+                previous[head[cell]] = id;
+            }
+            head[cell] = id;
+        }
+    }
+
+    /**
+     * Removes an entity, if it is in the index.
+     *
+     * @param id the id of the entity
+     */
+    public void remove(int id) {
+        if (id < cellOf.length) {
+            unlink(id);
+            cellOf[id] = NONE;
+        }
+    }
+
+    private void unlink(int id) {
+        int cell = cellOf[id];
+        if (cell < 0) {
+            return;
+        }
+        if (previous[id] != NONE) {
+            next[previous[id]] = next[id];
+        } else {
+            head[cell] = next[id];
+        }
+        if (next[id] != NONE) {
+            previous[next[id]] = previous[id];
+        }
+    }
+
+    /**
+     * Removes all entities.
+     */
+    public void clear() {
+        Arrays.fill(head, NONE);
+        Arrays.fill(cellOf, NONE);
+    }
+
+    /**
+     * Finds the entities in the cells that overlap a rectangle. The result may contain entities outside of the
+     * rectangle, which the caller filters with its exact test; it never misses an entity inside it.
+     *
+     * @param minX   the left edge of the rectangle in pixels
+     * @param minY   the bottom edge of the rectangle in pixels
+     * @param maxX   the right edge of the rectangle in pixels
+     * @param maxY   the top edge of the rectangle in pixels
+     * @param result receives the ids of the entities in ascending order; cleared first
+     */
+    public void queryRect(float minX, float minY, float maxX, float maxY, IntArray result) {
+        result.clear();
+        int minColumn = Math.max(0, (int) Math.floor(minX / cellWidth));
+        int minRow = Math.max(0, (int) Math.floor(minY / cellHeight));
+        int maxColumn = Math.min(columns - 1, (int) Math.floor(maxX / cellWidth));
+        int maxRow = Math.min(rows - 1, (int) Math.floor(maxY / cellHeight));
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int column = minColumn; column <= maxColumn; column++) {
+                for (int id = head[row * columns + column]; id != NONE; id = next[id]) {
+                    result.add(id);
+                }
+            }
+        }
+        // ascending ids keep the order in which the entities were created, whatever cells they are in
+        result.sort();
+    }
+
+    /**
+     * Finds the entities in the cells within a distance of a point, see {@link #queryRect}.
+     *
+     * @param x      the x-coordinate of the point in pixels
+     * @param y      the y-coordinate of the point in pixels
+     * @param radius the distance in pixels
+     * @param result receives the ids of the entities in ascending order; cleared first
+     */
+    public void queryRadius(float x, float y, float radius, IntArray result) {
+        queryRect(x - radius, y - radius, x + radius, y + radius, result);
+    }
+}
@@ -0,0 +1,16 @@
+package de.tum.cit.fop.maze.simulation;
+
+/**
+ * Receives the tiles whose occupation changes while a session runs, such as the tiles a moving wall
+ * leaves or enters, so that the navigation data built from the tiles can be repaired instead of rebuilt.
+ */
+public interface TileChangeListener {
+    /**
+     * Called after a tile became occupied or free.
+     *
+     * @param tileX    the x-coordinate of the tile
+     * @param tileY    the y-coordinate of the tile
+     * @param occupied true if the tile is now occupied, false if it is free again
+     */
+    void onTileChanged(int tileX, int tileY, boolean occupied);
+}
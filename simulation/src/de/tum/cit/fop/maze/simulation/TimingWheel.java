@@ -0,0 +1,231 @@
+package de.tum.cit.fop.maze.simulation;
+
+import com.badlogic.gdx.utils.IntArray;
+
+import java.util.Arrays;
+
+/**
+ * A hashed timing wheel that wakes up timed mechanics at a time of the game clock, so that they cost
+ * nothing on the ticks they wait. The game time is divided into slots of a fixed resolution, and every slot
+ * of the wheel holds the timers whose time falls into it, modulo the number of slots. Advancing the wheel
+ * only looks at the slots the clock passed since the last advance.
+ *
+ * A timer is a type and an entity id, both chosen by the caller, and fires on the first advance at or after
+ * its time. Timers of the same slot fire in the order they were scheduled. The timers are kept in int and
+ * float arrays indexed by handle, so scheduling and firing do not allocate once the arrays have grown.
+ */
+public class TimingWheel {
+    // Constants
+    private static final int NONE = -1;
+    private static final int FREE = -2;
+    private static final int FIRING = -3;
+
+    /**
+     * Receives the timers that fire.
+     */
+    public interface Handler {
+        /**
+         * Called for every timer that fires. The handler may schedule and cancel timers.
+         *
+         * @param type the type of the timer
+         * @param id   the id of the entity the timer belongs to
+         * @param time the game time the timer was scheduled for
+         */
+        void onTimer(int type, int id, float time);
+    }
+
+    // Slots
+    private final float resolution;
+    private final int mask;
+    private final int[] head, tail;
+    private long cursor = 0;
+
+    // Timers, indexed by handle
+    private float[] times = new float[16];
+    private int[] types = new int[16];
+    private int[] ids = new int[16];
+    private int[] next = new int[16];
+    private int[] previous = new int[16];
+    private int[] slotOf = new int[16];
+    private int freeHandle = NONE;
+    private int handleCount = 0;
+    private int size = 0;
+
+    // Firing
+    private final IntArray due = new IntArray();
+
+    /**
+     * Creates an empty wheel. Timers further ahead than the wheel spans are visited once per turn until
+     * they are due, so the span should cover the usual delays.
+     *
+     * @param resolution the length of a slot in seconds of game time, usually the length of a tick
+     * @param slotCount  the number of slots, a power of two
+     */
+    public TimingWheel(float resolution, int slotCount) {
+        if (Integer.bitCount(slotCount) != 1) {
+            throw new IllegalArgumentException("The slot count must be a power of two: " + slotCount);
+        }
+        this.resolution = resolution;
+        this.mask = slotCount - 1;
+        this.head = new int[slotCount];
+        this.tail = new int[slotCount];
+        Arrays.fill(head, NONE);
+        Arrays.fill(tail, NONE);
+    }
+
+    /**
+     * Schedules a timer. A time that has already passed fires on the next advance.
+     *
+     * @param time the game time in seconds at which the timer fires
+     * @param type the type of the timer
+     * @param id   the id of the entity the timer belongs to
+     * @return the handle of the timer, valid until it fires or is cancelled
+     */
+    public int schedule(float time, int type, int id) {
+        int handle = allocate();
+        times[handle] = time;
+        types[handle] = type;
+        ids[handle] = id;
+        int slot = (int) (Math.max(cursor, slotNumber(time)) & mask);
+        slotOf[handle] = slot;
+        next[handle] = NONE;
+        previous[handle] = tail[slot];
+        if (tail[slot] != NONE) {
+            next[tail[slot]] = handle;
+        } else {
+            head[slot] = handle;
+        }
+        tail[slot] = handle;
+        size++;
+        return handle;
+    }
+
+    /**
+     * Cancels a timer that has not fired yet.
+     *
+     * @param handle the handle returned by {@link #schedule(float, int, int)}
+     */
+    public void cancel(int handle) {
+        if (handle < 0 || handle >= handleCount || slotOf[handle] == FREE) {
+            return;
+        }
+        if (slotOf[handle] != FIRING) {
+            unlink(handle);
+        }
+        release(handle);
+        size--;
+    }
+
+    /**
+     * Advances the wheel to the current game time and fires every timer whose time has come, in the order
+     * of their slots.
+     *
+     * @param now     the current game time in seconds
+     * @param handler the handler the fired timers are passed to
+     */
+    public void advance(float now, Handler handler) {
+        long nowSlot = slotNumber(now);
+        long lastSlot = Math.min(nowSlot, cursor + mask);
+        due.clear();
+        for (long slotNumber = cursor; slotNumber <= lastSlot; slotNumber++) {
+            int slot = (int) (slotNumber & mask);
+            for (int handle = head[slot]; handle != NONE; ) {
+                int following = next[handle];
+                if (times[handle] <= now) {
+                    unlink(handle);
+                    slotOf[handle] = FIRING;
+                    due.add(handle);
+                }
+                handle = following;
+            }
+        }
+        // the slot of the current time is visited again next time, for the timers later within it
+        cursor = nowSlot;
+
+        for (int i = 0; i < due.size; i++) {
+            int handle = due.get(i);
+            if (slotOf[handle] == FIRING) {
+                release(handle);
+                size--;
+                handler.onTimer(types[handle], ids[handle], times[handle]);
+            }
+        }
+    }
+
+    /**
+     * Passes every pending timer to a visitor without firing it, in the order they would fire
+     * if they were all due. The visitor must not schedule or cancel timers.
+     *
+     * @param visitor the handler receiving the pending timers
+     */
+    public void visit(Handler visitor) {
+        for (long slotNumber = cursor; slotNumber <= cursor + mask; slotNumber++) {
+            for (int handle = head[(int) (slotNumber & mask)]; handle != NONE; handle = next[handle]) {
+                visitor.onTimer(types[handle], ids[handle], times[handle]);
+            }
+        }
+    }
+
+    /**
+     * Removes all timers.
+     */
+    public void clear() {
+        Arrays.fill(head, NONE);
+        Arrays.fill(tail, NONE);
+        freeHandle = NONE;
+        handleCount = 0;
+        size = 0;
+        cursor = 0;
+    }
+
+    private long slotNumber(float time) {
+        return (long) Math.floor(time / resolution);
+    }
+
+    private int allocate() {
+        if (freeHandle != NONE) {
+            int handle = freeHandle;
+            freeHandle = next[handle];
+            return handle;
+        }
+        if (handleCount == times.length) {
+            int length = handleCount * 2;
+            times = Arrays.copyOf(times, length);
+            types = Arrays.copyOf(types, length);
+            ids = Arrays.copyOf(ids, length);
+            next = Arrays.copyOf(next, length);
+            previous = Arrays.copyOf(previous, length);
+            slotOf = Arrays.copyOf(slotOf, length);
+        }
+        return handleCount++;
+    }
+
+    private void release(int handle) {
+        slotOf[handle] = FREE;
+        next[handle] = freeHandle;
+        freeHandle = handle;
+    }
+
+    private void unlink(int handle) {
+        int slot = slotOf[handle];
+        if (previous[handle] != NONE) {
+            next[previous[handle]] = next[handle];
+        } else {
+            head[slot] = next[handle];
+        }
+        if (next[handle] != NONE) {
+            previous[next[handle]] = previous[handle];
+        } else {
+            tail[slot] = previous[handle];
+        }
+    }
+
+    /**
+     * Gets the number of timers that have not fired yet.
+     *
+     * @return the number of pending timers
+     */
+    public int size() {
+        return size;
+    }
+}
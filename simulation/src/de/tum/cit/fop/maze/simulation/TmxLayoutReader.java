@@ -0,0 +1,251 @@
+package de.tum.cit.fop.maze.simulation;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.IntMap;
+import com.badlogic.gdx.utils.IntSet;
+import com.badlogic.gdx.utils.XmlReader;
+import com.badlogic.gdx.utils.XmlReader.Element;
+
+/**
+ * Reads a {@link MazeLayout} directly from a Tiled (.tmx) map file.
+ *
+ * Unlike TmxMapLoader, this reader never loads the tileset images, so it works without an OpenGL
+ * context (e.g. on build machines). It follows the same conventions as TmxMapLoader: tile rows and
+ * object positions are flipped so that (0, 0) is the bottom left corner of the map, and only the
+ * properties of single tiles (not of whole tilesets) are taken into account.
+ */
+public class TmxLayoutReader {
+    // Constants
+    private static final int FLIP_FLAGS_MASK = 0xE0000000;
+    private static final String BLOCKED_PROPERTY = "blocked";
+    private static final String DIRECTION_PROPERTY = "direction";
+    private static final String ROUTE_SEARCH_PROPERTY = "routeSearch";
+
+    // Tile Properties
+    private final IntSet blockedTiles = new IntSet();
+    private final IntMap<String> tileDirections = new IntMap<>();
+
+    // Map Size
+    private int width, height;
+    private int tileWidth, tileHeight;
+
+    private TmxLayoutReader() {
+    }
+
+    /**
+     * Reads the layout of the map stored in the given file.
+     *
+     * @param file the .tmx file of the map
+     * @return the layout of the map
+     */
+    public static MazeLayout read(FileHandle file) {
+        return new TmxLayoutReader().parse(new XmlReader().parse(file));
+    }
+
+    /**
+     * Builds the layout from the root element of a .tmx file.
+     *
+     * @param map the root "map" element
+     * @return the layout of the map
+     */
+    private MazeLayout parse(Element map) {
+        width = map.getIntAttribute("width");
+        height = map.getIntAttribute("height");
+        tileWidth = map.getIntAttribute("tilewidth");
+        tileHeight = map.getIntAttribute("tileheight");
+
+        for (Element tileset : map.getChildrenByName("tileset")) {
+            readTileProperties(tileset);
+        }
+
+        BitGrid walls = new BitGrid(width, height);
+        BitGrid path = new BitGrid(width, height);
+        BitGrid path2 = new BitGrid(width, height);
+        BitGrid exits = new BitGrid(width, height);
+        BitGrid staticObstacles = new BitGrid(width, height);
+        BitGrid movingWalls = new BitGrid(width, height);
+        Array<MazeLayout.WallSpawn> movingWallSpawns = new Array<>();
+
+        for (Element layer : map.getChildrenByName("layer")) {
+            String name = layer.getAttribute("name", "");
+            int[][] tiles = readTiles(layer);
+            switch (name) {
+                case "walls":
+                    fill(walls, tiles, true);
+                    break;
+                case "path":
+                    fill(path, tiles, false);
+                    break;
+                case "path2":
+                    fill(path2, tiles, false);
+                    break;
+                case "exits":
+                    fill(exits, tiles, false);
+                    break;
+                case "static obstacles":
+                    fill(staticObstacles, tiles, false);
+                    break;
+                case "moving walls":
+                    fill(movingWalls, tiles, false);
+                    collectMovingWalls(tiles, movingWallSpawns);
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        Vector2 playerSpawn = new Vector2();
+        Array<Vector2> players = readObjects(map, "player", "player");
+        if (players.notEmpty()) {
+            playerSpawn.set(players.peek());
+        }
+
+        return new MazeLayout(width, height, tileWidth, tileHeight,
+                walls, path, path2, exits, staticObstacles, movingWalls, movingWallSpawns,
+                playerSpawn,
+                readObjects(map, "griever", "griever"),
+                readObjects(map, "friend", "friend"),
+                readObjects(map, "item", null),
+                readObjects(map, "trapitem", null),
+                readProperty(map, ROUTE_SEARCH_PROPERTY));
+    }
+
+    /**
+     * Remembers which tiles of a tileset are blocked and which have a movement direction.
+     *
+     * @param tileset the "tileset" element
+     */
+    private void readTileProperties(Element tileset) {
+        if (tileset.getAttribute("source", null) != null) {
+            throw new GdxRuntimeException("External tilesets are not supported: " + tileset.getAttribute("source"));
+        }
+        int firstGid = tileset.getIntAttribute("firstgid", 1);
+        for (Element tile : tileset.getChildrenByName("tile")) {
+            int gid = firstGid + tile.getIntAttribute("id");
+            Element properties = tile.getChildByName("properties");
+            if (properties == null) {
+                continue;
+            }
+            for (Element property : properties.getChildrenByName("property")) {
+                String name = property.getAttribute("name", "");
+                if (BLOCKED_PROPERTY.equals(name)) {
+                    blockedTiles.add(gid);
+                } else if (DIRECTION_PROPERTY.equals(name)) {
+                    tileDirections.put(gid, property.getAttribute("value", property.getText()));
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads the tile ids of a CSV encoded layer, flipped so that row 0 is the bottom row.
+     *
+     * @param layer the "layer" element
+     * @return the tile ids indexed by [x][y], 0 for empty cells
+     */
+    private int[][] readTiles(Element layer) {
+        Element data = layer.getChildByName("data");
+        String encoding = data.getAttribute("encoding", "");
+        if (!"csv".equals(encoding)) {
+            throw new GdxRuntimeException("Unsupported layer encoding: " + encoding);
+        }
+
+        int[][] tiles = new int[width][height];
+        String[] values = data.getText().split(",");
+        for (int i = 0; i < values.length && i < width * height; i++) {
+            int gid = (int) Long.parseLong(values[i].trim());
+            int x = i % width;
+            int y = height - 1 - i / width;
+            tiles[x][y] = gid & ~FLIP_FLAGS_MASK;
+        }
+        return tiles;
+    }
+
+    /**
+     * Sets every tile of the grid that holds a tile in the layer.
+     *
+     * @param grid         the grid to fill
+     * @param tiles        the tile ids of the layer
+     * @param blockedOnly  whether only tiles with the "blocked" property should be set
+     */
+    private void fill(BitGrid grid, int[][] tiles, boolean blockedOnly) {
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                int gid = tiles[x][y];
+                if (gid != 0 && (!blockedOnly || blockedTiles.contains(gid))) {
+                    grid.set(x, y, true);
+                }
+            }
+        }
+    }
+
+    /**
+     * Collects the moving wall tiles that have a direction, in the same column-by-column order
+     * in which the walls were created from the TiledMapTileLayer.
+     *
+     * @param tiles the tile ids of the "moving walls" layer
+     * @param spawns the array to add the moving walls to
+     */
+    private void collectMovingWalls(int[][] tiles, Array<MazeLayout.WallSpawn> spawns) {
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                String direction = tileDirections.get(tiles[x][y]);
+                if (tiles[x][y] != 0 && direction != null) {
+                    spawns.add(new MazeLayout.WallSpawn(x, y, direction));
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads the positions of the objects of an object layer. If a property name is given,
+     * only objects whose property has the value "1" are returned.
+     *
+     * @param map          the root "map" element
+     * @param layerName    the name of the object layer
+     * @param propertyName the property that marks the objects to read, or null for all objects
+     * @return the positions of the objects, with (0, 0) in the bottom left corner of the map
+     */
+    private Array<Vector2> readObjects(Element map, String layerName, String propertyName) {
+        Array<Vector2> positions = new Array<>();
+        float mapHeightInPixels = height * tileHeight;
+
+        for (Element group : map.getChildrenByName("objectgroup")) {
+            if (!layerName.equals(group.getAttribute("name", ""))) {
+                continue;
+            }
+            for (Element object : group.getChildrenByName("object")) {
+                if (propertyName != null && !"1".equals(readProperty(object, propertyName))) {
+                    continue;
+                }
+                float x = object.getFloatAttribute("x", 0);
+                float y = mapHeightInPixels - object.getFloatAttribute("y", 0) - object.getFloatAttribute("height", 0);
+                positions.add(new Vector2(x, y));
+            }
+        }
+        return positions;
+    }
+
+    /**
+     * Reads the value of a custom property of a map object or of the map itself.
+     *
+     * @param object the "object" or "map" element
+     * @param name   the name of the property
+     * @return the value of the property, or null if the object does not have it
+     */
+    private String readProperty(Element object, String name) {
+        Element properties = object.getChildByName("properties");
+        if (properties == null) {
+            return null;
+        }
+        for (Element property : properties.getChildrenByName("property")) {
+            if (name.equals(property.getAttribute("name", ""))) {
+                return property.getAttribute("value", property.getText());
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,105 @@
+package de.tum.cit.fop.maze.simulation;
+
+import com.badlogic.gdx.Preferences;
+import com.badlogic.gdx.math.Vector2;
+
+/**
+ * The TrapItem class represents a collectible item in the game that triggers a special trap effect,
+ * such as a fog effect, when collected by the player.
+ */
+public class TrapItem extends CollectibleItem {
+    private float fogEndTime = 0f;
+    private boolean isFogActive = false;
+    private static final float FOG_DURATION = 3f; // Duration in seconds for how long the fog effect lasts
+    private final GameEventBus events;
+    private final GameTimers timers;
+
+    /**
+     * Constructs the TrapItems at the trap item positions of a layout.
+     *
+     * @param layout   The layout of the map containing the trap item positions
+     * @param events   The bus collected trap items are published on
+     * @param timers   The timers the end of the fog is scheduled on
+     */
+    public TrapItem(MazeLayout layout, GameEventBus events, GameTimers timers) {
+        super(layout.getTrapItemSpawns());
+        this.events = events;
+        this.timers = timers;
+        timers.setHandler(GameTimers.FOG_END, (type, id, time) -> endFogEffect(time));
+    }
+
+    /**
+     * Called when the TrapItem is collected. Publishes the collected item and activates the fog effect.
+     */
+    @Override
+    protected void onCollected(Vector2 position) {
+        events.publish(GameEventBus.TRAP_ITEM_COLLECTED, GameEventBus.NO_ENTITY, position.x, position.y);
+        activateFogEffect();
+    }
+
+    /**
+     * Activates the fog effect, marking it as active and scheduling its end. Activating it again while it is
+     * active extends it; the timer of the earlier activation then finds the fog not yet due to end.
+     */
+    public void activateFogEffect() {
+        isFogActive = true;
+        fogEndTime = timers.getTime() + FOG_DURATION;
+        timers.scheduleAt(fogEndTime, GameTimers.FOG_END, GameEventBus.NO_ENTITY);
+    }
+
+    /**
+     * Deactivates the fog effect when the timer of its latest activation fires.
+     *
+     * @param time The time the fired timer was scheduled for
+     */
+    private void endFogEffect(float time) {
+        if (time >= fogEndTime) {
+            isFogActive = false;
+        }
+    }
+
+    /**
+     * Updates the TrapItem by checking for player collection.
+     *
+     * @param player            The player interacting with the TrapItem
+     * @param interactionRadius The radius within which the player can collect the item
+     */
+    public void update(Player player, float interactionRadius) {
+        checkAndCollectAll(player.getX(), player.getY(), interactionRadius);
+    }
+
+    /**
+     * Checks if the fog effect is currently active.
+     *
+     * @return True if the fog effect is active, false otherwise
+     */
+    public boolean isFogActive() {
+        return isFogActive;
+    }
+
+    /**
+     * Saves the current state of the TrapItem, including the fog effect status. The timer that ends the fog
+     * is saved with the game timers.
+     *
+     * @param preferences The Preferences instance for saving state
+     */
+    public void saveTrapItemState(Preferences preferences) {
+        preferences.putBoolean("TrapItem_isFogActive", isFogActive);
+        preferences.putFloat("TrapItem_fogEndTime", fogEndTime);
+        saveState(preferences, "TrapItem");
+    }
+
+    /**
+     * Loads the saved state of the TrapItem, restoring the fog effect status. The timer that ends the fog
+     * is restored with the game timers, so nothing is scheduled here; saves without the time the fog ends
+     * load without fog, since they have no timer that would end it.
+     *
+     * @param preferences The Preferences instance containing saved state
+     */
+    public void loadTrapItemState(Preferences preferences) {
+        loadState(preferences, "TrapItem");
+        fogEndTime = preferences.getFloat("TrapItem_fogEndTime", 0f);
+        isFogActive = preferences.getBoolean("TrapItem_isFogActive", false)
+                && preferences.contains("TrapItem_fogEndTime");
+    }
+}
\ No newline at end of file
@@ -0,0 +1,262 @@
+package de.tum.cit.fop.maze.simulation;
+
+import com.badlogic.gdx.Preferences;
+import com.badlogic.gdx.math.Vector2;
+
+import java.util.Arrays;
+
+/**
+ * Stores the traps of a map, each with a rock that falls when the player steps onto the trap.
+ * A falling rock damages the player when it reaches the ground; after that the trap waits for a
+ * short cooldown before it can be triggered again.
+ *
+ * The rock going back up and the end of the cooldown are {@link GameTimers} of the trap, so waiting traps
+ * are not counted down in every tick.
+ *
+ * All traps have the size of a tile. Their state is kept in primitive arrays, and
+ * {@link #fallRocks(Vector2, Scoreboard, Player, float, Friends, SimulationLod)} updates all of them in one pass.
+ * Traps far from the player are updated less often and catch up on the skipped time, see {@link SimulationLod}.
+ */
+public class Traps extends EntityStore {
+    // Rock Falling Controls
+    private static final float FALL_SPEED = 300f;
+    private static final float FALL_HEIGHT = 70f;
+    private static final float ROCK_RESET_DELAY = 0.5f;
+    private static final float LIVES_COOLDOWN_DURATION = 1f;
+
+    // Components
+    public float[] x, y;
+    public float[] rockY;
+    public float[] rockFallDuration;
+    public float[] pendingDelta;
+    public boolean[] isRockFalling;
+    public boolean[] isCoolingDown;
+
+    // Shared by all traps
+    private final float width, height;
+    private final GameEventBus events;
+    private final GameTimers timers;
+
+    /**
+     * Creates a trap for every tile of the "static obstacles" layer of a layout.
+     *
+     * @param layout   the layout of the map
+     * @param events the bus a rock starting to fall is published on
+     * @param timers the timers the rock resets and cooldowns are scheduled on
+     */
+    public Traps(MazeLayout layout, GameEventBus events, GameTimers timers) {
+        super(16);
+        this.width = layout.getTileWidth();
+        this.height = layout.getTileHeight();
+        this.events = events;
+        this.timers = timers;
+        timers.setHandler(GameTimers.ROCK_RESET, (type, id, time) -> resetRock(id));
+        timers.setHandler(GameTimers.LIVES_COOLDOWN, (type, id, time) -> endCooldown(id));
+        x = new float[capacity()];
+        y = new float[capacity()];
+        rockY = new float[capacity()];
+        rockFallDuration = new float[capacity()];
+        pendingDelta = new float[capacity()];
+        isRockFalling = new boolean[capacity()];
+        isCoolingDown = new boolean[capacity()];
+
+        BitGrid obstacles = layout.getStaticObstacles();
+        for (int tileX = 0; tileX < obstacles.getWidth(); tileX++) {
+            for (int tileY = 0; tileY < obstacles.getHeight(); tileY++) {
+                if (obstacles.get(tileX, tileY)) {
+                    add(tileX * width, tileY * height);
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds a trap with its rock at the starting height.
+     *
+     * @param trapX the x-coordinate of the trap
+     * @param trapY the y-coordinate of the trap
+     * @return the id of the new trap
+     */
+    public int add(float trapX, float trapY) {
+        int slot = allocate();
+        x[slot] = trapX;
+        y[slot] = trapY;
+        rockY[slot] = trapY + FALL_HEIGHT;
+        rockFallDuration[slot] = 0f;
+        pendingDelta[slot] = 0f;
+        isRockFalling[slot] = false;
+        isCoolingDown[slot] = false;
+        return idAt(slot);
+    }
+
+    /**
+     * Updates the rocks of all traps. A rock starts falling when the player is on its trap,
+     * and damages the player when it reaches the ground. Cooldowns prevent multiple activations
+     * in quick succession; they end, and the rocks go back up, when their timers fire.
+     *
+     * @param playerPosition The position of the player
+     * @param hud The Scoreboard to update the player's lives
+     * @param player The player object to trigger effects (e.g., red effect)
+     * @param delta The time elapsed since the last frame
+     * @param friends The Friends object to manage the player's friends (e.g., removing a friend if necessary)
+     * @param lod The level of detail deciding which traps are updated in this tick
+     */
+    public void fallRocks(Vector2 playerPosition, Scoreboard hud, Player player, float delta, Friends friends,
+                          SimulationLod lod) {
+        for (int i = 0; i < size(); i++) {
+            pendingDelta[i] += delta;
+            if (!lod.isDue(idAt(i), x[i], y[i])) {
+                continue;
+            }
+            float elapsed = pendingDelta[i];
+            pendingDelta[i] = 0f;
+            float rockStartY = y[i] + FALL_HEIGHT;
+
+            // Start the rock if the player is on the trap and the rock is not already falling
+            if (!isCoolingDown[i] && isPlayerOnTrap(i, playerPosition) && !isRockFalling[i]) {
+                isRockFalling[i] = true;
+                rockFallDuration[i] = 0f;
+                rockY[i] = rockStartY;
+
+                events.publish(GameEventBus.TRAP_FIRED, idAt(i), x[i], y[i]);
+            }
+
+            if (isRockFalling[i]) {
+                rockFallDuration[i] += elapsed;
+                rockY[i] = rockStartY - (FALL_SPEED * rockFallDuration[i]);
+
+                // The rock reaches the ground (position of the trap)
+                if (rockY[i] <= y[i]) {
+                    rockY[i] = y[i];
+                    isRockFalling[i] = false;
+                    if (hud.getLives() >= 0) {
+                        friends.removeLastFriend();
+                        hud.decrementLives();
+                        player.triggerRedEffect();
+                        isCoolingDown[i] = true;
+                        timers.schedule(LIVES_COOLDOWN_DURATION, GameTimers.LIVES_COOLDOWN, idAt(i));
+                    } else {
+                        hud.setLives(0);
+                        player.setDead();
+                        player.revertToPrevious();
+                    }
+
+                    // Reset the rock position after a short delay
+                    timers.schedule(ROCK_RESET_DELAY, GameTimers.ROCK_RESET, idAt(i));
+                }
+            }
+        }
+    }
+
+    /**
+     * Puts the rock of a trap back to its starting height when its reset timer fires, unless it is
+     * falling again.
+     *
+     * @param id the id of the trap
+     */
+    private void resetRock(int id) {
+        int slot = slotOf(id);
+        if (slot >= 0 && !isRockFalling[slot]) {
+            rockY[slot] = y[slot] + FALL_HEIGHT;
+        }
+    }
+
+    /**
+     * Lets a trap be triggered again when its cooldown timer fires.
+     *
+     * @param id the id of the trap
+     */
+    private void endCooldown(int id) {
+        int slot = slotOf(id);
+        if (slot >= 0) {
+            isCoolingDown[slot] = false;
+        }
+    }
+
+    /**
+     * Checks if the player is within the bounds of a trap.
+     *
+     * @param slot           the slot of the trap
+     * @param playerPosition the position of the player
+     * @return true if the player is on the trap, false otherwise
+     */
+    private boolean isPlayerOnTrap(int slot, Vector2 playerPosition) {
+        return x[slot] <= playerPosition.x && x[slot] + width >= playerPosition.x
+                && y[slot] <= playerPosition.y && y[slot] + height >= playerPosition.y;
+    }
+
+    /**
+     * Checks if the rock of a trap is visible, i.e. if it is falling or has been moved from its initial position.
+     *
+     * @param slot the slot of the trap
+     * @return true if the rock should be drawn, false otherwise
+     */
+    public boolean isRockVisible(int slot) {
+        return isRockFalling[slot] || rockY[slot] != y[slot] + FALL_HEIGHT;
+    }
+
+    @Override
+    protected void resize(int capacity) {
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        rockY = Arrays.copyOf(rockY, capacity);
+        rockFallDuration = Arrays.copyOf(rockFallDuration, capacity);
+        pendingDelta = Arrays.copyOf(pendingDelta, capacity);
+        isRockFalling = Arrays.copyOf(isRockFalling, capacity);
+        isCoolingDown = Arrays.copyOf(isCoolingDown, capacity);
+    }
+
+    @Override
+    protected void move(int from, int to) {
+        x[to] = x[from];
+        y[to] = y[from];
+        rockY[to] = rockY[from];
+        rockFallDuration[to] = rockFallDuration[from];
+        pendingDelta[to] = pendingDelta[from];
+        isRockFalling[to] = isRockFalling[from];
+        isCoolingDown[to] = isCoolingDown[from];
+    }
+
+    public float getWidth() {
+        return width;
+    }
+    public float getHeight() {
+        return height;
+    }
+
+    /**
+     * Saves the current state of the traps, including their position and rock falling status. The timers
+     * of the rock resets and cooldowns are saved with the game timers.
+     *
+     * @param prefs The Preferences instance for saving state
+     */
+    public void saveTrapState(Preferences prefs) {
+        for (int i = 0; i < size(); i++) {
+            prefs.putFloat("positionX_" + i, x[i]);
+            prefs.putFloat("positionY_" + i, y[i]);
+            prefs.putFloat("rockY_" + i, rockY[i]);
+            prefs.putFloat("rockFallDuration_" + i, rockFallDuration[i]);
+            prefs.putBoolean("isRockFalling_" + i, isRockFalling[i]);
+            prefs.putBoolean("isCoolingDown_" + i, isCoolingDown[i]);
+            prefs.putFloat("pendingDelta_" + i, pendingDelta[i]);
+        }
+        prefs.flush();
+    }
+
+    /**
+     * Loads the saved state of the traps, including their position and rock falling status.
+     *
+     * @param prefs The Preferences instance containing saved state
+     */
+    public void loadTrapState(Preferences prefs) {
+        for (int i = 0; i < size(); i++) {
+            x[i] = prefs.getFloat("positionX_" + i, x[i]);
+            y[i] = prefs.getFloat("positionY_" + i, y[i]);
+            rockY[i] = prefs.getFloat("rockY_" + i, rockY[i]);
+            rockFallDuration[i] = prefs.getFloat("rockFallDuration_" + i, rockFallDuration[i]);
+            isRockFalling[i] = prefs.getBoolean("isRockFalling_" + i, isRockFalling[i]);
+            isCoolingDown[i] = prefs.getBoolean("isCoolingDown_" + i, isCoolingDown[i]);
+            pendingDelta[i] = prefs.getFloat("pendingDelta_" + i, 0f);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package de.tum.cit.fop.maze.simulation;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Caches which tiles can be seen from which tiles of a grid, up to a radius. The tiles visible from a source
+ * tile are computed on the first query from that tile, with a {@link LineOfSight} between the tile centers,
+ * and stored as a square of bits around the source.
+ *
+ * Sight over a distance of at most the radius only depends on the tiles within the radius, so a changed tile
+ * only drops the entries of the sources around it. Entries are published through an atomic array, so the
+ * cache may be queried by several threads at once; {@link #invalidate(int, int)} must not run at the same time.
+ */
+public class VisibilityCache {
+    // Grid
+    private final BitGrid grid;
+    private final int width, height;
+    private final int radius, side;
+
+    // Visible Tiles, indexed by source tile
+    private final AtomicReferenceArray<long[]> visible;
+
+    /**
+     * Creates an empty cache.
+     *
+     * @param grid   the tiles that do not block the sight
+     * @param radius the largest distance in tiles along either axis that can be seen
+     */
+    public VisibilityCache(BitGrid grid, int radius) {
+        this.grid = grid;
+        this.width = grid.getWidth();
+        this.height = grid.getHeight();
+        this.radius = radius;
+        this.side = 2 * radius + 1;
+        this.visible = new AtomicReferenceArray<>(width * height);
+    }
+
+    /**
+     * Checks if something on one tile can see something on another tile, i.e. if all tiles between
+     * the centers of both tiles are set.
+     *
+     * @param fromX the x-coordinate of the source tile
+     * @param fromY the y-coordinate of the source tile
+     * @param toX   the x-coordinate of the target tile
+     * @param toY   the y-coordinate of the target tile
+     * @return true if the target is within the radius and can be seen
+     */
+    public boolean isVisible(int fromX, int fromY, int toX, int toY) {
+        int offsetX = toX - fromX + radius;
+        int offsetY = toY - fromY + radius;
+        if (!grid.isInBounds(fromX, fromY) || offsetX < 0 || offsetY < 0 || offsetX >= side || offsetY >= side) {
+            return false;
+        }
+        int source = fromY * width + fromX;
+        long[] bits = visible.get(source);
+        if (bits == null) {
+            bits = compute(fromX, fromY);
+            visible.set(source, bits);
+        }
+        int bit = offsetY * side + offsetX;
+        return (bits[bit >>> 6] & (1L << bit)) != 0;
+    }
+
+    private long[] compute(int fromX, int fromY) {
+        long[] bits = new long[(side * side + 63) >>> 6];
+        for (int offsetY = 0; offsetY < side; offsetY++) {
+            for (int offsetX = 0; offsetX < side; offsetX++) {
+                int toX = fromX + offsetX - radius;
+                int toY = fromY + offsetY - radius;
+                if (grid.isInBounds(toX, toY)
+                        && LineOfSight.isClearBetween(grid, fromX + 0.5f, fromY + 0.5f, toX + 0.5f, toY + 0.5f)) {
+                    int bit = offsetY * side + offsetX;
+                    bits[bit >>> 6] |= 1L << bit;
+                }
+            }
+        }
+        return bits;
+    }
+
+    /**
+     * Drops the entries of all sources that could see across a tile, after the tile changed.
+     *
+     * @param tileX the x-coordinate of the changed tile
+     * @param tileY the y-coordinate of the changed tile
+     */
+    public void invalidate(int tileX, int tileY) {
+        for (int y = Math.max(0, tileY - radius); y <= Math.min(height - 1, tileY + radius); y++) {
+            for (int x = Math.max(0, tileX - radius); x <= Math.min(width - 1, tileX + radius); x++) {
+                visible.set(y * width + x, null);
+            }
+        }
+    }
+}
@@ -0,0 +1,421 @@
+package de.tum.cit.fop.maze.simulation;
+
+import com.badlogic.gdx.Preferences;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Represents a moving wall in the game maze that can interact with player, friends and grievers.
+ * Handles wall movement, collision detection, and state management.
+ *
+ * The tiles the walls stand on are kept in the shared moving walls layer. A wall can only crush what overlaps
+ * the tile it moves into, and nothing can move into a blocked tile afterwards, so the crush checks only run on
+ * the tick a wall enters a tile, see {@link #hasEnteredTile()}.
+ *
+ * A wall does not poll the game clock. It schedules its next move and its return on the {@link GameTimers}
+ * and is only woken up at those times, see {@link #onTimer(int, GameTimers)}. Its position is saved together
+ * with those timers, so a wall saved while it is moved out is loaded moved out.
+ */
+
+public class Wall {
+
+    //Positions
+    private int x, y;
+    private int originalX, originalY;
+    private int targetX, targetY;
+
+    //Moving Walls and Player Collision Controls
+    private final int id;
+    private String direction;
+    private float lastMoveTime = 0f;
+    private static final float MOVE_INTERVAL = 5.0f;
+    private static final float STAY_DURATION = 0.3f;
+    private boolean isAtTarget = false;
+    private boolean isPlayerRemoved = false;
+    private boolean hasEnteredTile = false;
+
+    //Game Entities
+    private Scoreboard hud;
+    private GameEventBus events;
+
+    //Layer
+    private BitGrid layer;
+    private TileChangeListener tileListener;
+    private int tileWidth, tileHeight;
+
+    /**
+     * Constructs a Wall object with initial position and game properties.
+     *
+     * @param id Index of the wall, used as the entity id of its timers
+     * @param x Initial x-coordinate of the wall
+     * @param y Initial y-coordinate of the wall
+     * @param direction Movement direction of the wall
+     * @param layer Occupied tiles of the moving walls layer, shared by all walls
+     * @param tileWidth Width of a tile in pixels
+     * @param tileHeight Height of a tile in pixels
+     * @param hud Scoreboard for game state tracking
+     * @param events Bus crushed grievers are published on
+     * @param tileListener Listener notified of every tile the wall enters or leaves
+     */
+    public Wall(int id, int x, int y, String direction, BitGrid layer, int tileWidth, int tileHeight,
+                Scoreboard hud, GameEventBus events, TileChangeListener tileListener) {
+        this.id = id;
+        this.x = x;
+        this.y = y;
+        this.originalX = x;
+        this.originalY = y;
+        this.direction = direction;
+        this.layer = layer;
+        this.tileWidth = tileWidth;
+        this.tileHeight = tileHeight;
+        this.hud = hud;
+        this.events = events;
+        this.tileListener = tileListener;
+    }
+
+    /**
+     * Creates wall objects from the moving wall tiles of a layout and schedules their first moves.
+     *
+     * @param layout The layout of the map containing the moving wall tiles
+     * @param movingWallsLayer Occupied tiles of the moving walls layer, modified as walls move
+     * @param hud Scoreboard for game state
+     * @param events Bus crushed grievers are published on
+     * @param tileListener Listener notified of every tile a wall enters or leaves
+     * @param timers Timers the walls schedule their moves on
+     * @return List of Wall objects created from the layout
+     */
+    public static List<Wall> createWallsFromLayout(MazeLayout layout, BitGrid movingWallsLayer, Scoreboard hud,
+                                                   GameEventBus events, TileChangeListener tileListener,
+                                                   GameTimers timers) {
+        List<Wall> walls = new ArrayList<>();
+        for (MazeLayout.WallSpawn spawn : layout.getMovingWallSpawns()) {
+            Wall wall = new Wall(walls.size(), spawn.x, spawn.y, spawn.direction, movingWallsLayer,
+                    layout.getTileWidth(), layout.getTileHeight(), hud, events, tileListener);
+            timers.scheduleAt(MOVE_INTERVAL, GameTimers.WALL_MOVE, wall.id);
+            walls.add(wall);
+        }
+        return walls;
+    }
+
+    /**
+     * Wakes the wall up when one of its timers fires: moves it to its target and schedules its return,
+     * or returns it and schedules its next move. A wall that could not move has left the layer and
+     * schedules nothing. Whether the wall entered a tile is told by {@link #hasEnteredTile()}.
+     *
+     * @param timer The type of the timer, {@link GameTimers#WALL_MOVE} or {@link GameTimers#WALL_RETURN}
+     * @param timers Timers to read the game clock from and to schedule the next timer on
+     */
+    public void onTimer(int timer, GameTimers timers) {
+        hasEnteredTile = false;
+        if (timer == GameTimers.WALL_RETURN) {
+            moveToOriginal();
+            isAtTarget = false;
+            if (isPresent()) {
+                timers.scheduleAt(lastMoveTime + MOVE_INTERVAL, GameTimers.WALL_MOVE, id);
+            }
+        } else {
+            move();
+            lastMoveTime = timers.getTime();
+            if (isAtTarget) {
+                timers.schedule(STAY_DURATION, GameTimers.WALL_RETURN, id);
+            }
+        }
+    }
+
+    /**
+     * Moves the wall in its predefined direction,
+     * updating its position on the map layer.
+     */
+    private void move() {
+        if (!layer.get(x, y)) return;
+
+        setTile(x, y, false);
+
+        targetX = x;
+        targetY = y;
+
+        switch (direction) {
+            case "left": targetX = x - 1; break;
+            case "right": targetX = x + 1; break;
+            case "up": targetY = y + 1; break;
+            case "down": targetY = y - 1; break;
+        }
+
+        if (layer.get(targetX, targetY)) {
+            return;
+        }
+
+        setTile(targetX, targetY, true);
+        x = targetX;
+        y = targetY;
+        isAtTarget = true;
+        hasEnteredTile = true;
+    }
+
+    private void moveToOriginal() {
+        if (!layer.get(x, y)) return;
+
+        setTile(x, y, false);
+
+        if (layer.get(originalX, originalY)) {
+            return;
+        }
+
+        setTile(originalX, originalY, true);
+        x = originalX;
+        y = originalY;
+    }
+
+    /**
+     * Sets or clears a tile of the moving walls layer and reports the change to the tile listener.
+     *
+     * @param tileX X-coordinate of the tile
+     * @param tileY Y-coordinate of the tile
+     * @param occupied True if the wall enters the tile, false if it leaves it
+     */
+    private void setTile(int tileX, int tileY, boolean occupied) {
+        layer.set(tileX, tileY, occupied);
+        tileListener.onTileChanged(tileX, tileY, occupied);
+    }
+
+    /**
+     * Takes the wall off its tile, so the tiles of all walls can be restored from a save without one wall
+     * blocking the tile another wall is loaded onto.
+     */
+    public void leaveTile() {
+        if (isPresent()) {
+            setTile(x, y, false);
+        }
+    }
+
+    /**
+     * Saves the position and the movement state of the wall.
+     *
+     * @param pref The Preferences instance for saving state
+     * @param index The index of the wall
+     */
+    public void saveWallState(Preferences pref, int index) {
+        pref.putInteger("wallX_" + index, x);
+        pref.putInteger("wallY_" + index, y);
+        pref.putInteger("wallTargetX_" + index, targetX);
+        pref.putInteger("wallTargetY_" + index, targetY);
+        pref.putBoolean("isWallPresent_" + index, isPresent());
+        pref.putBoolean("isWallAtTarget_" + index, isAtTarget);
+        pref.putBoolean("isPlayerRemoved_" + index, isPlayerRemoved);
+        pref.putFloat("wallLastMoveTime_" + index, lastMoveTime);
+    }
+
+    /**
+     * Loads the position and the movement state of the wall and puts it back on its tile, after
+     * {@link #leaveTile()} was called on all walls.
+     *
+     * @param pref The Preferences instance containing saved state
+     * @param index The index of the wall
+     */
+    public void loadWallState(Preferences pref, int index) {
+        x = pref.getInteger("wallX_" + index, originalX);
+        y = pref.getInteger("wallY_" + index, originalY);
+        targetX = pref.getInteger("wallTargetX_" + index, x);
+        targetY = pref.getInteger("wallTargetY_" + index, y);
+        isAtTarget = pref.getBoolean("isWallAtTarget_" + index, false);
+        isPlayerRemoved = pref.getBoolean("isPlayerRemoved_" + index, false);
+        lastMoveTime = pref.getFloat("wallLastMoveTime_" + index, 0f);
+        hasEnteredTile = false;
+        if (pref.getBoolean("isWallPresent_" + index, true)) {
+            setTile(x, y, true);
+        }
+    }
+
+    /**
+     * Checks collision between the tile the wall entered and a specific griever. A crushed griever is moved
+     * off the map and published together with the position it was crushed at, where it drops its key.
+     *
+     * @param griever The griever to check for collision
+     */
+    public void checkAndMoveGriever(Griever griever) {
+        float grieverX = griever.getMonsterX();
+        float grieverY = griever.getMonsterY();
+
+        float wallX = targetX * tileWidth;
+        float wallY = targetY * tileHeight;
+        float wallWidth = tileWidth;
+        float wallHeight = tileHeight;
+
+        if (checkCollision(grieverX, grieverY, griever.getWidth() * griever.getScale(), griever.getHeight() * griever.getScale(),
+                wallX, wallY, wallWidth, wallHeight)) {
+            griever.setPosition(-10000, -10000);
+            events.publish(GameEventBus.GRIEVER_CRUSHED, griever.getId(), grieverX, grieverY);
+        }
+    }
+
+    /**
+     * Checks and handles collision between the wall and a player. The player is only crushed on the tick the
+     * wall enters its target tile, and comes back once the wall has returned to its original tile.
+     *
+     * @param player The game player
+     * @param friends Player's friends(lives) in the game
+     */
+    public void checkAndMovePlayer(Player player, Friends friends) {
+        float playerX = player.getX();
+        float playerY = player.getY();
+
+        float wallX = targetX * tileWidth;
+        float wallY = targetY * tileHeight;
+        float wallWidth = tileWidth;
+        float wallHeight = tileHeight;
+
+        if (hasEnteredTile && !isPlayerRemoved) {
+            if (checkCollision(playerX, playerY, player.getWidth() * player.getScale(), player.getHeight() * player.getScale(),
+                    wallX, wallY, wallWidth, wallHeight)) {
+
+                if (hud != null) {
+                    if (hud.getLives() >= 0) {
+                        friends.removeLastFriend();
+                        hud.decrementLives();
+                        player.triggerRedEffect();
+                    } else {
+                        hud.setLives(0);
+                        player.setDead();
+                    }
+                }
+
+                player.setX(-1000);
+                player.setY(-1000);
+                isPlayerRemoved = true;
+            }
+        }
+
+        if (isPlayerRemoved && !isAtTarget && x == originalX && y == originalY) {
+            float safeX = 230;
+            float safeY = 250;
+
+            player.setX(safeX);
+            player.setY(safeY);
+
+            isPlayerRemoved = false;
+        }
+
+    }
+
+    /**
+     * Checks for rectangular collision between two game objects.
+     *
+     * @param x1 X-coordinate of first object
+     * @param y1 Y-coordinate of first object
+     * @param width1 Width of first object
+     * @param height1 Height of first object
+     * @param x2 X-coordinate of second object
+     * @param y2 Y-coordinate of second object
+     * @param width2 Width of second object
+     * @param height2 Height of second object
+     * @return True if objects overlap, false otherwise
+     */
+    private boolean checkCollision(float x1, float y1, float width1, float height1,
+                                   float x2, float y2, float width2, float height2) {
+        return x1 < x2 + width2 && x1 + width1 > x2 &&
+                y1 < y2 + height2 && y1 + height1 > y2;
+    }
+
+
+    /**
+     * Gets the width of the tile the wall occupies.
+     *
+     * @return The tile width in pixels
+     */
+    public int getTileWidth() {
+        return tileWidth;
+    }
+
+    /**
+     * Gets the height of the tile the wall occupies.
+     *
+     * @return The tile height in pixels
+     */
+    public int getTileHeight() {
+        return tileHeight;
+    }
+
+    /**
+     * Checks if the wall still occupies its current tile. A wall that tried to move onto an
+     * occupied tile is removed from the layer and no longer present.
+     *
+     * @return True if the wall is present on the layer, false otherwise
+     */
+    public boolean isPresent() {
+        return layer.get(x, y);
+    }
+
+    /**
+     * Gets the target Y-coordinate of the wall's movement.
+     *
+     * @return The target Y-coordinate
+     */
+    public int getTargetY() {
+        return targetY;
+    }
+
+    /**
+     * Gets the target X-coordinate of the wall's movement.
+     *
+     * @return The target X-coordinate
+     */
+    public int getTargetX() {
+        return targetX;
+    }
+
+    /**
+     * Gets the current X-coordinate of the wall.
+     *
+     * @return The current X-coordinate
+     */
+    public int getX() {
+        return x;
+    }
+
+    /**
+     * Gets the current Y-coordinate of the wall.
+     *
+     * @return The current Y-coordinate
+     */
+    public int getY() {
+        return y;
+    }
+
+    /**
+     * Gets the original X-coordinate of the wall before it started moving.
+     *
+     * @return The original X-coordinate
+     */
+    public int getOriginalX() {
+        return originalX;
+    }
+
+    /**
+     * Gets the original Y-coordinate of the wall before it started moving.
+     *
+     * @return The original Y-coordinate
+     */
+    public int getOriginalY() {
+        return originalY;
+    }
+
+    /**
+     * Checks if the wall entered its target tile when it was last woken up, which is the only time it can crush
+     * something.
+     *
+     * @return True if the wall entered a tile when it was last woken up, false otherwise
+     */
+    public boolean hasEnteredTile() {
+        return hasEnteredTile;
+    }
+
+    /**
+     * Checks if the wall is currently at its target position.
+     *
+     * @return True if the wall is at its target position, false otherwise
+     */
+    public boolean isAtTarget() {
+        return isAtTarget;
+    }
+}
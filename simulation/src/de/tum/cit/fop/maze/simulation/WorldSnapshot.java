@@ -0,0 +1,199 @@
+package de.tum.cit.fop.maze.simulation;
+
+import com.badlogic.gdx.utils.IntArray;
+
+/**
+ * The part of the world the Grievers read while they decide and move: the walkable tiles and the state
+ * of the player at the start of the Griever phase of a tick.
+ *
+ * The path layers are the grids of the {@link MazeLayout}, which never change. For planning, the snapshot
+ * keeps copies of them without the tiles the moving walls stand on. The walls report their moves as
+ * {@link TileChangeListener}, which only happens outside of the Griever phase. The player state is
+ * captured before the Grievers move and does not change until the next capture, so the Grievers can
+ * read the snapshot from several threads at once. The same snapshot is reused every tick.
+ *
+ * The snapshot also holds two {@link FlowField}s over the "path" layer. The pursuit field leads every tile
+ * towards the player and is shared by all following Grievers; it is computed again during the capture
+ * whenever the player entered another tile, and repaired when a wall moves. The patrol field leads every
+ * tile to the nearest tile of the path2 layer, which Grievers that stopped following walk back to; it only
+ * depends on the tiles, so it is computed once and repaired when a wall moves. The {@link VisibilityCache}
+ * of the "path" layer is what the Grievers spot the player with.
+ *
+ * Routes over the path2 layer are searched with an {@link AStar} or {@link JumpPointSearch} engine of the
+ * thread that asks; on large maps the search goes through a {@link HierarchicalGraph} of the path2 layer
+ * built when the snapshot is created, so its routes may lead through walls and are checked while walked.
+ *
+ * Routes are not cached: the question many Grievers ask alike, the way towards the player, is already a
+ * lookup in the shared field, while roaming Grievers search towards goals drawn at random around them,
+ * which hardly ever repeat.
+ */
+public class WorldSnapshot implements TileChangeListener {
+    // Constants
+    /** Maps with more tiles than this search routes hierarchically, unless the map chooses a search. */
+    public static final int HIERARCHICAL_SEARCH_TILES = 128 * 128;
+    /** The values of the "routeSearch" map property. */
+    public static final String ASTAR_SEARCH = "astar";
+    public static final String JUMP_POINT_SEARCH = "jps";
+    public static final String HIERARCHICAL_SEARCH = "hierarchical";
+
+    // Walkable Tiles
+    private final BitGrid pathLayer;
+    private final BitGrid path2Layer;
+    private final int tileWidth, tileHeight;
+
+    // Blocked Tiles, shared with the Player
+    private final CollisionGrid collisionGrid;
+
+    // Walkable Tiles without the Moving Walls
+    private final BitGrid pursuitTiles;
+    private final BitGrid roamTiles;
+
+    // Pursuit
+    private final FlowField pursuitField;
+    private final VisibilityCache pursuitVisibility;
+
+    // Return to the path2 Layer
+    private final FlowField patrolField;
+
+    // Route Planning, one engine per deciding thread
+    private final ThreadLocal<AStar> pathfinders = ThreadLocal.withInitial(AStar::new);
+    private final ThreadLocal<JumpPointSearch> jumpPointSearches = ThreadLocal.withInitial(JumpPointSearch::new);
+    private final boolean useJumpPoints;
+    private final HierarchicalGraph path2Graph;
+    private final ThreadLocal<HierarchicalPathfinder> hierarchicalPathfinders;
+
+    // Player State
+    private float playerX, playerY;
+    private int playerDirection;
+
+    /**
+     * Creates a snapshot of the walkable tiles of a layout.
+     *
+     * @param layout           the layout of the map
+     * @param movingWallsLayer the tiles the moving walls stand on at the start
+     * @param collisionGrid    the tiles that block movement, kept up to date by the session
+     */
+    public WorldSnapshot(MazeLayout layout, BitGrid movingWallsLayer, CollisionGrid collisionGrid) {
+        this.pathLayer = layout.getPath();
+        this.path2Layer = layout.getPath2();
+        this.tileWidth = layout.getTileWidth();
+        this.tileHeight = layout.getTileHeight();
+        this.collisionGrid = collisionGrid;
+        this.pursuitTiles = withoutWalls(pathLayer, movingWallsLayer);
+        this.roamTiles = withoutWalls(path2Layer, movingWallsLayer);
+        this.pursuitField = new FlowField(pursuitTiles);
+        this.pursuitVisibility = new VisibilityCache(pursuitTiles,
+                (int) Math.ceil(Griever.DETECTION_RANGE / Math.min(tileWidth, tileHeight)));
+        this.patrolField = new FlowField(pursuitTiles);
+        patrolField.updateSources(roamTiles);
+        String routeSearch = layout.getRouteSearch();
+        if (routeSearch == null) {
+            routeSearch = path2Layer.getWidth() * path2Layer.getHeight() > HIERARCHICAL_SEARCH_TILES
+                    ? HIERARCHICAL_SEARCH : ASTAR_SEARCH;
+        }
+        this.useJumpPoints = routeSearch.equals(JUMP_POINT_SEARCH);
+        if (routeSearch.equals(HIERARCHICAL_SEARCH)) {
+            this.path2Graph = new HierarchicalGraph(path2Layer, HierarchicalGraph.DEFAULT_CLUSTER_SIZE);
+            this.hierarchicalPathfinders = ThreadLocal.withInitial(() -> new HierarchicalPathfinder(path2Graph));
+        } else {
+            this.path2Graph = null;
+            this.hierarchicalPathfinders = null;
+        }
+    }
+
+    private static BitGrid withoutWalls(BitGrid layer, BitGrid movingWallsLayer) {
+        BitGrid tiles = new BitGrid(layer);
+        for (int x = 0; x < tiles.getWidth(); x++) {
+            for (int y = 0; y < tiles.getHeight(); y++) {
+                if (movingWallsLayer.get(x, y)) {
+                    tiles.set(x, y, false);
+                }
+            }
+        }
+        return tiles;
+    }
+
+    /**
+     * Updates the walkable tiles when a moving wall enters or leaves a tile, and repairs the flow field
+     * towards the player and the sight around the tile if it belongs to the path layer, and the field
+     * back to the path2 layer. Must not be called during the Griever phase.
+     *
+     * @param tileX    the x-coordinate of the tile
+     * @param tileY    the y-coordinate of the tile
+     * @param occupied true if a wall entered the tile, false if it left
+     */
+    @Override
+    public void onTileChanged(int tileX, int tileY, boolean occupied) {
+        roamTiles.set(tileX, tileY, !occupied && path2Layer.get(tileX, tileY));
+        if (pathLayer.get(tileX, tileY)) {
+            pursuitTiles.set(tileX, tileY, !occupied);
+            pursuitField.repair(tileX, tileY);
+            pursuitVisibility.invalidate(tileX, tileY);
+        }
+        if (pathLayer.get(tileX, tileY) || path2Layer.get(tileX, tileY)) {
+            patrolField.repair(tileX, tileY);
+        }
+    }
+
+    /**
+     * Captures the state of the player before the Grievers move and updates the flow field towards the player.
+     *
+     * @param player the player
+     */
+    public void capture(Player player) {
+        playerX = player.getX();
+        playerY = player.getY();
+        playerDirection = player.getDirection();
+        pursuitField.update((int) Math.floor(playerX / tileWidth), (int) Math.floor(playerY / tileHeight));
+    }
+
+    public BitGrid getPathLayer() {
+        return pathLayer;
+    }
+    public BitGrid getPath2Layer() {
+        return path2Layer;
+    }
+    public CollisionGrid getCollisionGrid() {
+        return collisionGrid;
+    }
+    public BitGrid getRoamTiles() {
+        return roamTiles;
+    }
+    /**
+     * Searches a route over the path2 layer, around the moving walls. May be called by several threads at once.
+     *
+     * @param startX the x-coordinate of the start tile
+     * @param startY the y-coordinate of the start tile
+     * @param goalX  the x-coordinate of the goal tile
+     * @param goalY  the y-coordinate of the goal tile
+     * @param route  receives the tile indices of the route after the start tile, ending with the goal
+     * @return true if a route was found, false otherwise
+     */
+    public boolean findPath2Route(int startX, int startY, int goalX, int goalY, IntArray route) {
+        if (path2Graph != null) {
+            return hierarchicalPathfinders.get().findPath(startX, startY, goalX, goalY, route);
+        } else if (useJumpPoints) {
+            return jumpPointSearches.get().findPath(roamTiles, startX, startY, goalX, goalY, route);
+        }
+        return pathfinders.get().findPath(roamTiles, startX, startY, goalX, goalY, route);
+    }
+
+    public VisibilityCache getPursuitVisibility() {
+        return pursuitVisibility;
+    }
+    public FlowField getPatrolField() {
+        return patrolField;
+    }
+    public FlowField getPursuitField() {
+        return pursuitField;
+    }
+    public float getPlayerX() {
+        return playerX;
+    }
+    public float getPlayerY() {
+        return playerY;
+    }
+    public int getPlayerDirection() {
+        return playerDirection;
+    }
+}